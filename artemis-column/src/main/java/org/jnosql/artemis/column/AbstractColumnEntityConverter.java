@@ -19,23 +19,13 @@ import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFacto
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link ColumnEntityConverter}
@@ -44,6 +34,13 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final ClassValue<ColumnEntityCodec> codecs = new ClassValue<ColumnEntityCodec>() {
+        @Override
+        protected ColumnEntityCodec computeValue(Class<?> type) {
+            return ColumnEntityCodec.of(getClassRepresentations().get(type), converterFactory);
+        }
+    };
+
 
     protected abstract ClassRepresentations getClassRepresentations();
 
@@ -55,14 +52,7 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public ColumnEntity toColumn(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassRepresentation representation = getClassRepresentations().get(entityInstance.getClass());
-        ColumnEntity entity = ColumnEntity.of(representation.getName());
-        representation.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
-        return entity;
+        return getCodec(representation).toColumn(entityInstance, this);
     }
 
     @Override
@@ -85,43 +75,25 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public <T> T toEntity(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassRepresentation representation = getClassRepresentations().findByName(entity.getName());
-        T instance = getReflections().newInstance(representation.getConstructor());
-        return convertEntity(entity.getColumns(), representation, instance);
+        return getCodec(representation).toEntity(entity.getColumns(), this);
     }
 
     protected ColumnFieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = getReflections().getValue(entityInstance, field.getNativeField());
+        Object value = field.read(entityInstance);
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
-        };
-    }
-
     protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
         ClassRepresentation representation = getClassRepresentations().get(entityClass);
-        T instance = getReflections().newInstance(representation.getConstructor());
-        return convertEntity(columns, representation, instance);
+        return getCodec(representation).toEntity(columns, this);
     }
 
     private <T> T convertEntity(List<Column> columns, ClassRepresentation representation, T instance) {
-        final Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
-        return instance;
+        return getCodec(representation).toEntity(instance, columns, this);
+    }
+
+    private ColumnEntityCodec getCodec(ClassRepresentation representation) {
+        return codecs.get(representation.getClassInstance());
     }
 
 }
@@ -14,9 +14,16 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.util.ParallelMapper;
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -30,6 +37,16 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
 
     protected abstract ColumnEntityConverter getConverter();
 
+    /**
+     * Returns the pool that converts the entities of {@link #flow(List, Function)}. Only the
+     * {@link ColumnEntityConverter#toColumn(Object)} calls run on it, the events are fired in the caller thread.
+     *
+     * @return the {@link ParallelMapper#getPool()}, by default empty and the conversion runs in the caller thread
+     */
+    protected Optional<ForkJoinPool> getConversionPool() {
+        return ParallelMapper.getPool();
+    }
+
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
 
         Function<T, T> flow = getFlow(entity, action);
@@ -38,6 +55,47 @@ public abstract class AbstractColumnWorkflow implements ColumnWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flow(List<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        ColumnEventPersistManager persistManager = getColumnEventPersistManager();
+        ColumnEntityConverter converter = getConverter();
+
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            persistManager.firePreEntity(entity);
+            persistManager.firePreColumnEntity(entity);
+        }
+        Optional<ForkJoinPool> pool = getConversionPool();
+        List<ColumnEntity> columns;
+        if (pool.isPresent()) {
+            columns = ParallelMapper.map(entities, converter::toColumn, pool.get());
+        } else {
+            columns = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                columns.add(converter.toColumn(entity));
+            }
+        }
+        columns.forEach(persistManager::firePreColumn);
+
+        Iterator<ColumnEntity> results = action.apply(columns).iterator();
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            if (!results.hasNext()) {
+                throw new ArtemisException("The database returned fewer columns than the " + entities.size()
+                        + " entities sent");
+            }
+            ColumnEntity column = results.next();
+            persistManager.firePostColumn(column);
+            T result = converter.toEntity(entity, column);
+            persistManager.firePostEntity(result);
+            persistManager.firePostColumnEntity(result);
+            saved.add(result);
+        }
+        return saved;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
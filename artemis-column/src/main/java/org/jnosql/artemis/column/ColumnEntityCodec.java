@@ -0,0 +1,319 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.DoubleAttributeConverter;
+import org.jnosql.artemis.IntAttributeConverter;
+import org.jnosql.artemis.LongAttributeConverter;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ConstructorRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
+import static org.jnosql.artemis.reflection.FieldType.DEFAULT;
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
+
+/**
+ * The conversion between an entity and its columns compiled once to each entity class.
+ * Each field gets an encoder and a decoder that already know the field kind, stored at the
+ * {@link ClassRepresentation#getFieldIndex(String)} position, so the conversion walks the fields
+ * or the columns once. Embedded, subentity and embeddable collection fields fall back to
+ * the {@link ColumnFieldValue} and {@link ColumnFieldConverter} generic path.
+ * Entities with a {@link ConstructorRepresentation} collect the decoded values and are created in a single call.
+ */
+final class ColumnEntityCodec {
+
+    private final ClassRepresentation representation;
+
+    private final FieldEncoder[] encoders;
+
+    private final FieldDecoder[] decoders;
+
+    private final int[] elements;
+
+    private final Optional<ConstructorRepresentation> constructor;
+
+    private final boolean[] parameters;
+
+    private ColumnEntityCodec(ClassRepresentation representation, FieldEncoder[] encoders,
+                              FieldDecoder[] decoders) {
+        this.representation = representation;
+        this.encoders = encoders;
+        this.decoders = decoders;
+        this.elements = IntStream.range(0, decoders.length).filter(i -> decoders[i].element).toArray();
+        this.constructor = representation.getParameterizedConstructor();
+        this.parameters = new boolean[decoders.length];
+        constructor.ifPresent(c -> c.getParameters()
+                .forEach(p -> parameters[representation.getFieldIndex(p.getName())] = true));
+    }
+
+    ColumnEntity toColumn(Object instance, AbstractColumnEntityConverter converter) {
+        ColumnEntity entity = ColumnEntity.of(representation.getName());
+        for (FieldEncoder encoder : encoders) {
+            encoder.encode(instance, entity, converter);
+        }
+        return entity;
+    }
+
+    <T> T toEntity(List<Column> columns, AbstractColumnEntityConverter converter) {
+        if (!constructor.isPresent()) {
+            return toEntity(representation.<T>getInstanceSupplier().get(), columns, converter);
+        }
+        Object[] values = new Object[decoders.length];
+        boolean[] converted = new boolean[decoders.length];
+        for (Column column : columns) {
+            int index = representation.getFieldIndex(column.getName());
+            if (index >= 0 && !converted[index]) {
+                converted[index] = true;
+                values[index] = decoders[index].decode(columns, Optional.of(column), converter);
+            }
+        }
+        for (int index : elements) {
+            if (!converted[index]) {
+                converted[index] = true;
+                values[index] = decoders[index].decode(columns, Optional.empty(), converter);
+            }
+        }
+        T instance = constructor.get().newInstance(values);
+        for (int index = 0; index < decoders.length; index++) {
+            if (converted[index] && !parameters[index]) {
+                decoders[index].field.write(instance, values[index]);
+            }
+        }
+        return instance;
+    }
+
+    <T> T toEntity(T instance, List<Column> columns, AbstractColumnEntityConverter converter) {
+        boolean[] converted = new boolean[decoders.length];
+        for (Column column : columns) {
+            int index = representation.getFieldIndex(column.getName());
+            if (index >= 0 && !converted[index]) {
+                converted[index] = true;
+                decoders[index].convert(instance, columns, Optional.of(column), converter);
+            }
+        }
+        for (int index : elements) {
+            if (!converted[index]) {
+                decoders[index].convert(instance, columns, Optional.empty(), converter);
+            }
+        }
+        return instance;
+    }
+
+    static ColumnEntityCodec of(ClassRepresentation representation, ColumnFieldConverterFactory factory) {
+        List<FieldRepresentation> fields = representation.getFields();
+        FieldEncoder[] encoders = new FieldEncoder[fields.size()];
+        FieldDecoder[] decoders = new FieldDecoder[fields.size()];
+        for (int index = 0; index < fields.size(); index++) {
+            FieldRepresentation field = fields.get(index);
+            encoders[index] = encoder(field);
+            decoders[index] = isPrimitive(field) ? new PrimitiveDecoder(field, factory.get(field))
+                    : new FieldDecoder(field, factory.get(field));
+        }
+        return new ColumnEntityCodec(representation, encoders, decoders);
+    }
+
+    private static FieldEncoder encoder(FieldRepresentation field) {
+        if (EMBEDDED.equals(field.getType()) || SUBENTITY.equals(field.getType())
+                || COLLECTION.equals(field.getType())) {
+            return new GenericEncoder(field);
+        }
+        Class<? extends AttributeConverter> converter = field.getConverterClass();
+        if (converter != null && isPrimitive(field)) {
+            return new PrimitiveAttributeConverterEncoder(field, converter);
+        }
+        if (converter != null) {
+            return new AttributeConverterEncoder(field, converter);
+        }
+        return new DefaultEncoder(field);
+    }
+
+    private static boolean isPrimitive(FieldRepresentation field) {
+        Class<?> type = field.getNativeField().getType();
+        return DEFAULT.equals(field.getType())
+                && (int.class.equals(type) || long.class.equals(type) || double.class.equals(type));
+    }
+
+    private interface FieldEncoder {
+        void encode(Object instance, ColumnEntity entity, AbstractColumnEntityConverter converter);
+    }
+
+    private static final class DefaultEncoder implements FieldEncoder {
+
+        private final FieldRepresentation field;
+
+        private DefaultEncoder(FieldRepresentation field) {
+            this.field = field;
+        }
+
+        @Override
+        public void encode(Object instance, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            Object value = field.read(instance);
+            if (value != null) {
+                entity.add(Column.of(field.getName(), value));
+            }
+        }
+    }
+
+    private static final class AttributeConverterEncoder implements FieldEncoder {
+
+        private final FieldRepresentation field;
+
+        private final Class<? extends AttributeConverter> converterClass;
+
+        private AttributeConverterEncoder(FieldRepresentation field, Class<? extends AttributeConverter> converterClass) {
+            this.field = field;
+            this.converterClass = converterClass;
+        }
+
+        @Override
+        public void encode(Object instance, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            Object value = field.read(instance);
+            if (value != null) {
+                AttributeConverter attributeConverter = converter.getConverters().get(converterClass);
+                entity.add(Column.of(field.getName(), attributeConverter.convertToDatabaseColumn(value)));
+            }
+        }
+    }
+
+    private static final class PrimitiveAttributeConverterEncoder implements FieldEncoder {
+
+        private final FieldRepresentation field;
+
+        private final Class<?> type;
+
+        private final Class<? extends AttributeConverter> converterClass;
+
+        private PrimitiveAttributeConverterEncoder(FieldRepresentation field,
+                                                   Class<? extends AttributeConverter> converterClass) {
+            this.field = field;
+            this.type = field.getNativeField().getType();
+            this.converterClass = converterClass;
+        }
+
+        @Override
+        public void encode(Object instance, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            AttributeConverter attributeConverter = converter.getConverters().get(converterClass);
+            Object value;
+            if (int.class.equals(type) && attributeConverter instanceof IntAttributeConverter) {
+                value = ((IntAttributeConverter<?>) attributeConverter).convertIntToDatabaseColumn(field.readInt(instance));
+            } else if (long.class.equals(type) && attributeConverter instanceof LongAttributeConverter) {
+                value = ((LongAttributeConverter<?>) attributeConverter).convertLongToDatabaseColumn(field.readLong(instance));
+            } else if (double.class.equals(type) && attributeConverter instanceof DoubleAttributeConverter) {
+                value = ((DoubleAttributeConverter<?>) attributeConverter)
+                        .convertDoubleToDatabaseColumn(field.readDouble(instance));
+            } else {
+                value = attributeConverter.convertToDatabaseColumn(field.read(instance));
+            }
+            entity.add(Column.of(field.getName(), value));
+        }
+    }
+
+    private static final class GenericEncoder implements FieldEncoder {
+
+        private final FieldRepresentation field;
+
+        private GenericEncoder(FieldRepresentation field) {
+            this.field = field;
+        }
+
+        @Override
+        public void encode(Object instance, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            Object value = field.read(instance);
+            if (value != null) {
+                DefaultColumnFieldValue.of(value, field).toColumn(converter, converter.getConverters())
+                        .forEach(entity::add);
+            }
+        }
+    }
+
+    private static class FieldDecoder {
+
+        final FieldRepresentation field;
+
+        private final ColumnFieldConverter fieldConverter;
+
+        private final boolean element;
+
+        private FieldDecoder(FieldRepresentation field, ColumnFieldConverter fieldConverter) {
+            this.field = field;
+            this.fieldConverter = fieldConverter;
+            this.element = EMBEDDED.equals(field.getType()) || SUBENTITY.equals(field.getType());
+        }
+
+        <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+                         AbstractColumnEntityConverter converter) {
+            fieldConverter.convert(instance, columns, column, field, converter);
+        }
+
+        private Object decode(List<Column> columns, Optional<Column> column, AbstractColumnEntityConverter converter) {
+            return fieldConverter.decode(columns, column, field, converter);
+        }
+    }
+
+    /**
+     * Writes the int, long and double fields from the number stored, or from the primitive
+     * {@link AttributeConverter} specialization, without going through {@link org.jnosql.diana.api.Value#get(Class)}.
+     * The converter and its primitive specialization are resolved once, when the codec is created.
+     */
+    private static final class PrimitiveDecoder extends FieldDecoder {
+
+        private final Class<?> type;
+
+        private final Class<? extends AttributeConverter> converterClass;
+
+        private PrimitiveDecoder(FieldRepresentation field, ColumnFieldConverter fieldConverter) {
+            super(field, fieldConverter);
+            this.type = field.getNativeField().getType();
+            this.converterClass = field.getConverterClass();
+        }
+
+        @Override
+        <T> void convert(T instance, List<Column> columns, Optional<Column> column,
+                         AbstractColumnEntityConverter converter) {
+            Object value = column.get().get();
+            AttributeConverter attributeConverter = converterClass == null ? null
+                    : converter.getConverters().get(converterClass);
+            if (int.class.equals(type) && attributeConverter instanceof IntAttributeConverter) {
+                field.writeInt(instance, ((IntAttributeConverter) attributeConverter).convertToIntAttribute(value));
+            } else if (long.class.equals(type) && attributeConverter instanceof LongAttributeConverter) {
+                field.writeLong(instance, ((LongAttributeConverter) attributeConverter).convertToLongAttribute(value));
+            } else if (double.class.equals(type) && attributeConverter instanceof DoubleAttributeConverter) {
+                field.writeDouble(instance,
+                        ((DoubleAttributeConverter) attributeConverter).convertToDoubleAttribute(value));
+            } else if (attributeConverter == null && value instanceof Number) {
+                Number number = (Number) value;
+                if (int.class.equals(type)) {
+                    field.writeInt(instance, number.intValue());
+                } else if (long.class.equals(type)) {
+                    field.writeLong(instance, number.longValue());
+                } else {
+                    field.writeDouble(instance, number.doubleValue());
+                }
+            } else {
+                super.convert(instance, columns, column, converter);
+            }
+        }
+    }
+}
@@ -21,6 +21,31 @@ import java.util.List;
 import java.util.Optional;
 
 interface ColumnFieldConverter {
-    <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field,
-                     AbstractColumnEntityConverter converter);
+
+    /**
+     * Converts the column to the field value
+     *
+     * @param columns   all the columns of the entity
+     * @param column    the column of the field, empty to embedded and subentity fields
+     * @param field     the field
+     * @param converter the converter
+     * @return the field value
+     */
+    Object decode(List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                  AbstractColumnEntityConverter converter);
+
+    /**
+     * Converts the column and writes the value into the instance field
+     *
+     * @param instance  the instance
+     * @param columns   all the columns of the entity
+     * @param column    the column of the field, empty to embedded and subentity fields
+     * @param field     the field
+     * @param converter the converter
+     * @param <T>       the instance type
+     */
+    default <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                             AbstractColumnEntityConverter converter) {
+        field.write(instance, decode(columns, column, field, converter));
+    }
 }
@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -64,8 +63,8 @@ class ColumnFieldConverters {
     private static class EmbeddedFieldConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field,
-                                AbstractColumnEntityConverter converter) {
+        public Object decode(List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                             AbstractColumnEntityConverter converter) {
 
             if (column.isPresent()) {
                 Column subColumn = column.get();
@@ -77,73 +76,72 @@ class ColumnFieldConverters {
                     for (Map.Entry entry : (Set<Map.Entry>) map.entrySet()) {
                         embeddedColumns.add(Column.of(entry.getKey().toString(), entry.getValue()));
                     }
-                    converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(), embeddedColumns));
+                    return converter.toEntity(field.getNativeField().getType(), embeddedColumns);
                 } else {
-                    converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(),
+                    return converter.toEntity(field.getNativeField().getType(),
                             subColumn.get(new TypeReference<List<Column>>() {
-                            })));
+                            }));
                 }
 
             } else {
-                converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(), columns));
+                return converter.toEntity(field.getNativeField().getType(), columns);
             }
         }
     }
 
     private static class DefaultConverter implements ColumnFieldConverter {
 
-
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
-                                FieldRepresentation field, AbstractColumnEntityConverter converter) {
+        public Object decode(List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                             AbstractColumnEntityConverter converter) {
             Value value = column.get().getValue();
+
             Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
             if (optionalConverter.isPresent()) {
-
                 AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
                 Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                converter.getReflections().setValue(instance, field.getNativeField(), field.getValue(Value.of(attributeConverted)));
+                return field.getValue(Value.of(attributeConverted));
             } else {
-                converter.getReflections().setValue(instance, field.getNativeField(), field.getValue(value));
+                return field.getValue(value);
             }
         }
     }
 
-    private static class SubEntityConverter implements ColumnFieldConverter {
-
+    private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
-                                FieldRepresentation field, AbstractColumnEntityConverter converter) {
-
-
-            Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), columns);
-            converter.getReflections().setValue(instance, nativeField, subEntity);
+        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                                AbstractColumnEntityConverter converter) {
+            if (column.isPresent()) {
+                field.write(instance, decode(columns, column, field, converter));
+            }
+        }
 
+        @Override
+        public Object decode(List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                             AbstractColumnEntityConverter converter) {
+            if (!column.isPresent()) {
+                return null;
+            }
+            GenericFieldRepresentation genericField = GenericFieldRepresentation.class.cast(field);
+            List<List<Column>> embeddable = (List<List<Column>>) column.get().get();
+            Collection collection = genericField.getCollectionInstance(embeddable.size());
+            for (List<Column> columnList : embeddable) {
+                Object element = converter.toEntity(genericField.getElementType(), columnList);
+                collection.add(element);
+            }
+            return collection;
         }
     }
 
-    private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
+    private static class SubEntityConverter implements ColumnFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field,
-                                AbstractColumnEntityConverter converter) {
-
-            column.ifPresent(convertColumn(instance, field, converter));
-        }
+        public Object decode(List<Column> columns, Optional<Column> column, FieldRepresentation field,
+                             AbstractColumnEntityConverter converter) {
 
-        private <T> Consumer<Column> convertColumn(T instance, FieldRepresentation field, AbstractColumnEntityConverter converter) {
-            return column -> {
-                GenericFieldRepresentation genericField = GenericFieldRepresentation.class.cast(field);
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Column>> embeddable = (List<List<Column>>) column.get();
-                for (List<Column> columnList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), columnList);
-                    collection.add(element);
-                }
-                converter.getReflections().setValue(instance, field.getNativeField(), collection);
-            };
+            Field nativeField = field.getNativeField();
+            return converter.toEntity(nativeField.getType(), columns);
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.jnosql.diana.api.Sort.SortType.ASC;
+
+/**
+ * Translates a {@link KeysetPagination} to a {@link ColumnQuery}. The keys of sorts s1..sn become the condition
+ * (s1 &gt; k1) or (s1 = k1 and s2 &gt; k2) ... or (s1 = k1 ... and sn &gt; kn), with &lt; to the descending sorts,
+ * and it is combined with the query condition. These conditions are strict, so the id is appended as the last sort
+ * when the query is not sorted by it, otherwise the entities that share the keys of the last one would be skipped.
+ */
+final class ColumnKeyset {
+
+    private ColumnKeyset() {
+    }
+
+    /**
+     * Creates the query to the page
+     *
+     * @param query      the sorted query
+     * @param pagination the pagination
+     * @param id         the name of the id field, or null when the entity doesn't have one
+     * @return the query to the page, sorted by the id at last
+     */
+    static ColumnQuery query(ColumnQuery query, KeysetPagination pagination, String id) {
+        if (query.getSorts().isEmpty()) {
+            throw new ArtemisException("The keyset pagination requires a sorted query: " + query);
+        }
+        List<Sort> sorts = getSorts(query, id);
+        List<Object> keys = pagination.getKeys();
+        if (keys.isEmpty()) {
+            return PagedColumnQuery.of(query, sorts, query.getCondition().orElse(null), pagination.getMaxResults());
+        }
+        if (keys.size() != sorts.size()) {
+            throw new ArtemisException("The keyset pagination has " + keys.size() + " keys and the query is sorted by "
+                    + sorts.size() + " fields: " + query);
+        }
+        ColumnCondition[] alternatives = new ColumnCondition[sorts.size()];
+        for (int index = 0; index < sorts.size(); index++) {
+            ColumnCondition[] conditions = new ColumnCondition[index + 1];
+            for (int previous = 0; previous < index; previous++) {
+                conditions[previous] = ColumnCondition.eq(Column.of(sorts.get(previous).getName(),
+                        keys.get(previous)));
+            }
+            Column column = Column.of(sorts.get(index).getName(), keys.get(index));
+            conditions[index] = ASC.equals(sorts.get(index).getType()) ? ColumnCondition.gt(column)
+                    : ColumnCondition.lt(column);
+            alternatives[index] = index == 0 ? conditions[0] : ColumnCondition.and(conditions);
+        }
+        ColumnCondition keyset = alternatives.length == 1 ? alternatives[0] : ColumnCondition.or(alternatives);
+        ColumnCondition condition = query.getCondition().map(c -> ColumnCondition.and(c, keyset)).orElse(keyset);
+        return PagedColumnQuery.of(query, sorts, condition, pagination.getMaxResults());
+    }
+
+    /**
+     * Creates the pagination to the page after the given entity
+     *
+     * @param page       the query returned from {@link #query(ColumnQuery, KeysetPagination, String)}
+     * @param last       the last entity of the page
+     * @param pagination the pagination
+     * @return the pagination with the sort values of the last entity
+     */
+
+    static KeysetPagination next(ColumnQuery page, ColumnEntity last, KeysetPagination pagination) {
+        List<Object> keys = page.getSorts().stream().map(Sort::getName)
+                .map(name -> last.find(name).map(Column::get)
+                        .orElseThrow(() -> new ArtemisException("The sort field " + name
+                                + " was not found in the entity " + last.getName() + " to the keyset pagination")))
+                .collect(toList());
+        return KeysetPagination.of(pagination.getMaxResults(), keys);
+    }
+
+    private static List<Sort> getSorts(ColumnQuery query, String id) {
+        List<Sort> sorts = query.getSorts();
+        if (id == null || sorts.stream().map(Sort::getName).anyMatch(id::equals)) {
+            return sorts;
+        }
+        List<Sort> unique = new ArrayList<>(sorts);
+        unique.add(Sort.of(id, ASC));
+        return Collections.unmodifiableList(unique);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The structural key of a {@link ColumnQuery} in the query cache: two queries with the same column family,
+ * condition tree, sorts, start, limit and columns have the same key whatever their implementation.
+ */
+final class ColumnQueryKey {
+
+    private final String columnFamily;
+
+    private final ColumnCondition condition;
+
+    private final List<Sort> sorts;
+
+    private final long start;
+
+    private final long limit;
+
+    private final List<String> columns;
+
+    private ColumnQueryKey(ColumnQuery query) {
+        this.columnFamily = query.getColumnFamily();
+        this.condition = query.getCondition().orElse(null);
+        this.sorts = new ArrayList<>(query.getSorts());
+        this.start = query.getFirstResult();
+        this.limit = query.getMaxResults();
+        this.columns = new ArrayList<>(query.getColumns());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColumnQueryKey)) {
+            return false;
+        }
+        ColumnQueryKey that = (ColumnQueryKey) o;
+        return start == that.start && limit == that.limit
+                && Objects.equals(columnFamily, that.columnFamily)
+                && Objects.equals(condition, that.condition)
+                && Objects.equals(sorts, that.sorts)
+                && Objects.equals(columns, that.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnFamily, condition, sorts, start, limit, columns);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ColumnQueryKey{");
+        sb.append("columnFamily='").append(columnFamily).append('\'');
+        sb.append(", condition=").append(condition);
+        sb.append(", sorts=").append(sorts);
+        sb.append(", start=").append(start);
+        sb.append(", limit=").append(limit);
+        sb.append(", columns=").append(columns);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static ColumnQueryKey of(ColumnQuery query) {
+        return new ColumnQueryKey(query);
+    }
+}
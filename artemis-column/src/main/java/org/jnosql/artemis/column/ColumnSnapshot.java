@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * The values of the columns of an entity read from the database, so an update sends only the columns changed.
+ * The collections, maps and subcolumns are copied, so a change made through the entity is not seen by the snapshot.
+ */
+final class ColumnSnapshot {
+
+    private final Map<String, Object> values;
+
+    private ColumnSnapshot(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the entity to send to the database
+     *
+     * @param entity the entity with all columns
+     * @param id     the id name, it might be null
+     * @return {@link Optional#empty()} when nothing changed, the id and the columns changed, or the whole
+     * entity when either a column was removed or the entity has no id
+     */
+    Optional<ColumnEntity> getChanges(ColumnEntity entity, String id) {
+        List<Column> columns = entity.getColumns();
+        Optional<Column> idColumn = Optional.ofNullable(id).flatMap(entity::find);
+        if (!idColumn.isPresent() || !entity.getColumnNames().containsAll(values.keySet())) {
+            return Optional.of(entity);
+        }
+        List<Column> changes = columns.stream().filter(c -> !c.getName().equals(id))
+                .filter(c -> !Objects.equals(c.get(), values.get(c.getName())))
+                .collect(toList());
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        ColumnEntity partial = ColumnEntity.of(entity.getName());
+        partial.add(idColumn.get());
+        partial.addAll(changes);
+        return Optional.of(partial);
+    }
+
+    static ColumnSnapshot of(ColumnEntity entity) {
+        Map<String, Object> values = new HashMap<>(entity.size() * 2);
+        for (Column column : entity.getColumns()) {
+            values.put(column.getName(), copy(column.get()));
+        }
+        return new ColumnSnapshot(values);
+    }
+
+    /**
+     * Copies a value read from the database, the collections, maps and subcolumns are copied
+     *
+     * @param value the value
+     * @return the copy
+     */
+    static Object copy(Object value) {
+        if (value instanceof Column) {
+            Column column = (Column) value;
+            return Column.of(column.getName(), copy(column.get()));
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(ColumnSnapshot::copy).collect(toList());
+        } else if (value instanceof Set) {
+            return ((Set<?>) value).stream().map(ColumnSnapshot::copy).collect(toSet());
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new HashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(k, copy(v)));
+            return map;
+        }
+        return value;
+    }
+}
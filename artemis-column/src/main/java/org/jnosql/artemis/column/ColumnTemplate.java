@@ -15,6 +15,8 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
@@ -24,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -134,6 +137,35 @@ public interface ColumnTemplate {
      */
     <T> List<T> select(ColumnQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream} that converts each entity when it is consumed,
+     * by default it's just the {@link ColumnTemplate#select(ColumnQuery)} result.
+     * The stream should be closed to release the resources it holds.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.<T>select(query).stream();
+    }
+
+    /**
+     * Finds a page of entities from a sorted query with the keyset pagination: the page starts after the keys
+     * of the pagination instead of skipping the first results. The query start and limit are ignored.
+     * When the query is not sorted by the entity id, the id is the last sort, so the keys end with its value.
+     *
+     * @param query      - the sorted query to figure out entities
+     * @param pagination the page size and the sort values of the last entity of the previous page
+     * @param <T>        the instance type
+     * @return the page with the pagination to the next page
+     * @throws NullPointerException          when either query or pagination are null
+     * @throws org.jnosql.artemis.ArtemisException when the query is not sorted or the keys do not match the sorts
+     */
+    <T> KeysetPage<T> select(ColumnQuery query, KeysetPagination pagination);
+
     /**
      * Finds by Id.
      *
@@ -15,8 +15,15 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -45,4 +52,35 @@ public interface ColumnWorkflow {
      */
     <T> T flow(T entity, UnaryOperator<ColumnEntity> action);
 
+    /**
+     * Executes the workflow to a chunk of entities. The events and the conversions run to each entity
+     * and the alteration receives the columns of the whole chunk in a single call.
+     * The default implementation runs {@link #flow(Object, UnaryOperator)} to each entity,
+     * so the alteration receives a single column entity at each call.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database, it returns the columns in the same order
+     * @param <T>      the entity type
+     * @return after the workflow the entities response in the same order
+     * @throws NullPointerException when either entities, an entity or action are null
+     * @throws org.jnosql.artemis.ArtemisException when the action returns fewer columns than the entities
+     * @see ColumnTemplate#insert(Iterable) ColumnTemplate#update(Iterable)
+     */
+    default <T> List<T> flow(List<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(flow(entity, column -> {
+                Iterator<ColumnEntity> results = action.apply(Collections.singletonList(column)).iterator();
+                if (!results.hasNext()) {
+                    throw new ArtemisException("The database returned fewer columns than the " + entities.size()
+                            + " entities sent");
+                }
+                return results.next();
+            }));
+        }
+        return saved;
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of a {@link ColumnQuery}: the same query with another first result, max results, condition and sorts.
+ */
+final class PagedColumnQuery implements ColumnQuery {
+
+    private final ColumnQuery query;
+
+    private final List<Sort> sorts;
+
+    private final ColumnCondition condition;
+
+    private final long start;
+
+    private final long limit;
+
+    private PagedColumnQuery(ColumnQuery query, List<Sort> sorts, ColumnCondition condition, long start, long limit) {
+        this.query = query;
+        this.sorts = sorts;
+        this.condition = condition;
+        this.start = start;
+        this.limit = limit;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return limit;
+    }
+
+    @Override
+    public long getFirstResult() {
+        return start;
+    }
+
+    @Override
+    public String getColumnFamily() {
+        return query.getColumnFamily();
+    }
+
+    @Override
+    public Optional<ColumnCondition> getCondition() {
+        return Optional.ofNullable(condition);
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return query.getColumns();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("PagedColumnQuery{");
+        sb.append("query=").append(query);
+        sb.append(", condition=").append(condition);
+        sb.append(", firstResult=").append(start);
+        sb.append(", maxResult=").append(limit);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static ColumnQuery of(ColumnQuery query, long start, long limit) {
+        return new PagedColumnQuery(query, query.getSorts(), query.getCondition().orElse(null), start, limit);
+    }
+
+    static ColumnQuery of(ColumnQuery query, List<Sort> sorts, ColumnCondition condition, long limit) {
+        return new PagedColumnQuery(query, sorts, condition, 0L, limit);
+    }
+}
@@ -46,7 +46,7 @@ public abstract class AbstractColumnRepository<T, ID> implements Repository<T, I
     @Override
     public <S extends T> S save(S entity) {
         Objects.requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        Object id = getIdField().read(entity);
         if (nonNull(id) && existsById((ID) id)) {
             return getTemplate().update(entity);
         } else {
@@ -43,7 +43,7 @@ public abstract class AbstractColumnRepositoryAsync<T, ID> implements Repository
     @Override
     public <S extends T> void save(S entity) {
         requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        Object id = getIdField().read(entity);
 
         if (isNull(id)) {
             getTemplate().insert(entity);
@@ -25,8 +25,12 @@ import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+import static org.jnosql.artemis.column.query.ColumnRepositoryType.getDeleteQueryIndex;
+import static org.jnosql.artemis.column.query.ColumnRepositoryType.getQueryIndex;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
 /**
@@ -48,32 +52,50 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> implements Invocatio
 
     protected abstract Converters getConverters();
 
+    private final Map<Method, ColumnMethodHandler> handlers = new ConcurrentHashMap<>();
+
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+        ColumnMethodHandler handler = handlers.get(method);
+        if (handler == null) {
+            handler = handlers.computeIfAbsent(method, this::toHandler);
+        }
+        return handler.invoke(args);
+    }
+
+    private ColumnMethodHandler toHandler(Method method) {
 
         String methodName = method.getName();
-        ColumnRepositoryType type = ColumnRepositoryType.of(method, args);
+        ColumnRepositoryType type = ColumnRepositoryType.of(method);
 
         switch (type) {
             case DEFAULT:
-                return method.invoke(getRepository(), args);
+                return args -> method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(), getConverters());
-                return executeQuery(getCallBack(args), query);
+                return args -> {
+                    ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
+                            getConverters());
+                    return executeQuery(getCallBack(args), query);
+                };
             case FIND_ALL:
-                return executeQuery(getCallBack(args), select().from(getClassRepresentation().getName()).build());
+                return args -> executeQuery(getCallBack(args),
+                        select().from(getClassRepresentation().getName()).build());
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation(), getConverters());
-                return executeDelete(getCallBack(args), deleteQuery);
+                return args -> {
+                    ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args,
+                            getClassRepresentation(), getConverters());
+                    return executeDelete(getCallBack(args), deleteQuery);
+                };
             case QUERY:
-                ColumnQuery columnQuery = ColumnRepositoryType.getQuery(args).get();
-                return executeQuery(getCallBack(args), columnQuery);
+                int queryIndex = getQueryIndex(method);
+                return args -> executeQuery(getCallBack(args), ColumnQuery.class.cast(args[queryIndex]));
             case QUERY_DELETE:
-                return executeDelete(args, ColumnRepositoryType.getDeleteQuery(args).get());
+                int deleteQueryIndex = getDeleteQueryIndex(method);
+                return args -> executeDelete(args, ColumnDeleteQuery.class.cast(args[deleteQueryIndex]));
             case OBJECT_METHOD:
-                return method.invoke(this, args);
+                return args -> method.invoke(this, args);
             default:
-                return Void.class;
+                return args -> Void.class;
         }
     }
 
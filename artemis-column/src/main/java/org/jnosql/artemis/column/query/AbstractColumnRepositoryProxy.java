@@ -19,15 +19,21 @@ import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static org.jnosql.artemis.column.query.ColumnRepositoryType.getDeleteQuery;
-import static org.jnosql.artemis.column.query.ColumnRepositoryType.getQuery;
+import static org.jnosql.artemis.column.query.ColumnRepositoryType.getDeleteQueryIndex;
+import static org.jnosql.artemis.column.query.ColumnRepositoryType.getQueryIndex;
 import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnObject;
+import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnProjection;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
 /**
@@ -50,40 +56,77 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> implements Invocation
 
     protected abstract Converters getConverters();
 
+    private final Map<Method, ColumnMethodHandler> handlers = new ConcurrentHashMap<>();
+
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+        ColumnMethodHandler handler = handlers.get(method);
+        if (handler == null) {
+            handler = handlers.computeIfAbsent(method, this::toHandler);
+        }
+        return handler.invoke(args);
+    }
+
+    private ColumnMethodHandler toHandler(Method method) {
         String methodName = method.getName();
-        ColumnRepositoryType type = ColumnRepositoryType.of(method, args);
+        ColumnRepositoryType type = ColumnRepositoryType.of(method);
         Class<?> typeClass = getClassRepresentation().getClassInstance();
 
         switch (type) {
             case DEFAULT:
-                return method.invoke(getRepository(), args);
+                return args -> method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
-                        getConverters());
-                return returnObject(query, getTemplate(), typeClass, method);
+                Optional<Projection> findByProjection = Projection.of(method, getClassRepresentation());
+                return args -> {
+                    ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
+                            getConverters());
+                    return returnResult(query, typeClass, findByProjection, method, args);
+                };
             case FIND_ALL:
-                return returnObject(select().from(getClassRepresentation().getName()).build(),
-                        getTemplate(), typeClass, method);
+                Optional<Projection> findAllProjection = Projection.of(method, getClassRepresentation());
+                return args -> returnResult(select().from(getClassRepresentation().getName()).build(),
+                        typeClass, findAllProjection, method, args);
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation(),
-                        getConverters());
-                getTemplate().delete(deleteQuery);
-                return Void.class;
+                return args -> {
+                    ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args,
+                            getClassRepresentation(), getConverters());
+                    getTemplate().delete(deleteQuery);
+                    return Void.class;
+                };
             case QUERY:
-                ColumnQuery columnQuery = getQuery(args).get();
-                return returnObject(columnQuery, getTemplate(), typeClass, method);
+                Optional<Projection> queryProjection = Projection.of(method, getClassRepresentation());
+                int queryIndex = getQueryIndex(method);
+                return args -> returnResult(ColumnQuery.class.cast(args[queryIndex]), typeClass, queryProjection,
+                        method, args);
             case QUERY_DELETE:
-                ColumnDeleteQuery columnDeleteQuery = getDeleteQuery(args).get();
-                getTemplate().delete(columnDeleteQuery);
-                return Void.class;
+                int deleteQueryIndex = getDeleteQueryIndex(method);
+                return args -> {
+                    getTemplate().delete(ColumnDeleteQuery.class.cast(args[deleteQueryIndex]));
+                    return Void.class;
+                };
             case OBJECT_METHOD:
-                return method.invoke(this, args);
+                return args -> method.invoke(this, args);
             default:
-                return Void.class;
+                return args -> Void.class;
 
         }
     }
 
+    /**
+     * Returns the time to live in the query cache of the results of this repository
+     *
+     * @return the time to live otherwise {@link Optional#empty()} when the results are not cached by the repository
+     */
+    protected Optional<Duration> getCacheTtl() {
+        return Optional.empty();
+    }
+
+    private Object returnResult(ColumnQuery selectQuery, Class<?> typeClass, Optional<Projection> projection,
+                                Method method, Object[] args) {
+        ColumnQuery query = getCacheTtl().map(t -> CacheableColumnQuery.of(selectQuery, t)).orElse(selectQuery);
+        if (projection.isPresent()) {
+            return returnProjection(query, getTemplate(), projection.get(), method, args);
+        }
+        return returnObject(query, getTemplate(), typeClass, method, args);
+    }
 }
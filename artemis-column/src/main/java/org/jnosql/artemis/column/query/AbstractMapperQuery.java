@@ -17,10 +17,12 @@ package org.jnosql.artemis.column.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.column.util.ConverterUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldPath;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -75,8 +77,9 @@ abstract class AbstractMapperQuery {
     protected void betweenImpl(Number valueA, Number valueB) {
         requireNonNull(valueA, "valueA is required");
         requireNonNull(valueB, "valueB is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .between(Column.of(representation.getColumnField(name), asList(getValue(valueA), getValue(valueB))));
+                .between(Column.of(getColumnField(path), asList(getValue(valueA, path), getValue(valueB, path))));
         appendCondition(newCondition);
     }
 
@@ -84,57 +87,74 @@ abstract class AbstractMapperQuery {
     protected  <T> void inImpl(Iterable<T> values) {
 
         requireNonNull(values, "values is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         List<Object> convertedValues = StreamSupport.stream(values.spliterator(), false)
-                .map(this::getValue).collect(toList());
+                .map(v -> getValue(v, path)).collect(toList());
         ColumnCondition newCondition = ColumnCondition
-                .in(Column.of(representation.getColumnField(name), convertedValues));
+                .in(Column.of(getColumnField(path), convertedValues));
         appendCondition(newCondition);
     }
 
     protected <T> void eqImpl(T value) {
         requireNonNull(value, "value is required");
-
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .eq(Column.of(representation.getColumnField(name), getValue(value)));
+                .eq(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void likeImpl(String value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .like(Column.of(representation.getColumnField(name), getValue(value)));
+                .like(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void gteImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .gte(Column.of(representation.getColumnField(name), getValue(value)));
+                .gte(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void gtImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .gt(Column.of(representation.getColumnField(name), getValue(value)));
+                .gt(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void ltImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .lt(Column.of(representation.getColumnField(name), getValue(value)));
+                .lt(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void lteImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         ColumnCondition newCondition = ColumnCondition
-                .lte(Column.of(representation.getColumnField(name), getValue(value)));
+                .lte(Column.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected Object getValue(Object value) {
-      return ConverterUtil.getValue(value, representation, name, converters);
+        return getValue(value, representation.getFieldPath(name));
+    }
+
+    private Object getValue(Object value, Optional<FieldPath> path) {
+        if (path.isPresent()) {
+            return ConverterUtil.getValue(value, path.get().getFieldRepresentation(), converters);
+        }
+        return value;
+    }
+
+    private String getColumnField(Optional<FieldPath> path) {
+        return path.map(FieldPath::getNativeField).orElse(name);
     }
 }
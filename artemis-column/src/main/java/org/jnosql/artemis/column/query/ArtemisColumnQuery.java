@@ -22,8 +22,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import static java.util.Collections.emptyList;
-
 class ArtemisColumnQuery implements ColumnQuery {
 
     private final List<Sort> sorts;
@@ -31,13 +29,16 @@ class ArtemisColumnQuery implements ColumnQuery {
     private final long start;
     private final ColumnCondition condition;
     private final String columnFamily;
+    private final List<String> columns;
 
-    public ArtemisColumnQuery(List<Sort> sorts, long limit, long start, ColumnCondition condition, String columnFamily) {
+    public ArtemisColumnQuery(List<Sort> sorts, long limit, long start, ColumnCondition condition, String columnFamily,
+                              List<String> columns) {
         this.sorts = sorts;
         this.limit = limit;
         this.start = start;
         this.condition = condition;
         this.columnFamily = columnFamily;
+        this.columns = columns;
     }
 
     @Override
@@ -62,7 +63,7 @@ class ArtemisColumnQuery implements ColumnQuery {
 
     @Override
     public List<String> getColumns() {
-        return emptyList();
+        return columns;
     }
 
     @Override
@@ -84,12 +85,13 @@ class ArtemisColumnQuery implements ColumnQuery {
                 && start == that.getFirstResult()
                 && Objects.equals(sorts, that.getSorts())
                 && Objects.equals(condition, that.getCondition().orElse(null))
-                && Objects.equals(columnFamily, that.getColumnFamily());
+                && Objects.equals(columnFamily, that.getColumnFamily())
+                && Objects.equals(columns, that.getColumns());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, start, columnFamily, emptyList(), sorts, condition);
+        return Objects.hash(limit, start, columnFamily, columns, sorts, condition);
     }
 
     @Override
@@ -98,7 +100,7 @@ class ArtemisColumnQuery implements ColumnQuery {
         sb.append("maxResults=").append(limit);
         sb.append(", firstResult=").append(start);
         sb.append(", columnFamily='").append(columnFamily).append('\'');
-        sb.append(", columns=").append(emptyList());
+        sb.append(", columns=").append(columns);
         sb.append(", sorts=").append(sorts);
         sb.append(", condition=").append(condition);
         sb.append('}');
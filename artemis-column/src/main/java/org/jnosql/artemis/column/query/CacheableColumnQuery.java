@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import org.jnosql.artemis.cache.CacheableQuery;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link ColumnQuery} of a repository annotated with {@link org.jnosql.artemis.cache.CacheQueries},
+ * the same query with the time to live of its result.
+ */
+final class CacheableColumnQuery implements ColumnQuery, CacheableQuery {
+
+    private final ColumnQuery query;
+
+    private final Duration ttl;
+
+    private CacheableColumnQuery(ColumnQuery query, Duration ttl) {
+        this.query = query;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Duration getCacheTtl() {
+        return ttl;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return query.getMaxResults();
+    }
+
+    @Override
+    public long getFirstResult() {
+        return query.getFirstResult();
+    }
+
+    @Override
+    public String getColumnFamily() {
+        return query.getColumnFamily();
+    }
+
+    @Override
+    public Optional<ColumnCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return query.getColumns();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CacheableColumnQuery{");
+        sb.append("query=").append(query);
+        sb.append(", ttl=").append(ttl);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static ColumnQuery of(ColumnQuery query, Duration ttl) {
+        return new CacheableColumnQuery(query, ttl);
+    }
+}
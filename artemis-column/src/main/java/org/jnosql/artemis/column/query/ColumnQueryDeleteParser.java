@@ -15,14 +15,11 @@
 package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.Converters;
-import org.jnosql.artemis.column.query.ColumnQueryParserUtil.ConditionResult;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.and;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.or;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.toCondition;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class the returns a {@link ColumnDeleteQuery}
@@ -31,36 +28,15 @@ import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.toCondition;
 public class ColumnQueryDeleteParser {
 
     private static final String PREFIX = "deleteBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final Map<Class<?>, Map<String, ColumnQueryPlan>> plans = new ConcurrentHashMap<>();
 
 
     public ColumnDeleteQuery parse(String methodName, Object[] args, ClassRepresentation representation,
                                    Converters converters) {
-
-
-        ColumnCondition condition = null;
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split(TOKENIZER);
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-                ConditionResult result = and(args, index, token, methodName, representation, condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                ConditionResult result = or(args, index, token, methodName, representation, condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation, converters);
-                index++;
-            }
-        }
-
-        return new ArtemisColumnDeleteQuery(representation.getName(), condition);
-
+        ColumnQueryPlan plan = plans.computeIfAbsent(representation.getClassInstance(), c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, m -> ColumnQueryPlan.of(m, PREFIX, representation, false));
+        return new ArtemisColumnDeleteQuery(representation.getName(), plan.getCondition(args, converters));
     }
 
-
 }
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.Sort;
@@ -22,13 +23,12 @@ import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.and;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.or;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.toCondition;
-
 /**
  * Class the returns a {@link ColumnQuery}
  * on {@link ColumnRepositoryProxy}
@@ -38,41 +38,23 @@ public class ColumnQueryParser {
     private static final Logger LOGGER = Logger.getLogger(ColumnQueryParser.class.getName());
 
     private static final String PREFIX = "findBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final Map<Class<?>, Map<String, ColumnQueryPlan>> plans = new ConcurrentHashMap<>();
 
 
     public ColumnQuery parse(String methodName, Object[] args, ClassRepresentation representation,
                              Converters converters) {
 
+        ColumnQueryPlan plan = plans.computeIfAbsent(representation.getClassInstance(), c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, m -> ColumnQueryPlan.of(m, PREFIX, representation, true));
 
-        ColumnCondition condition = null;
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split(TOKENIZER);
         String className = representation.getClassInstance().getName();
-        List<Sort> sorts = new ArrayList<>();
+        ColumnCondition condition = plan.getCondition(args, converters);
+        List<Sort> sorts = new ArrayList<>(plan.getSorts());
         long limit = 0;
         long start = 0;
 
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-
-                ColumnQueryParserUtil.ConditionResult result = and(args, index, token, methodName, representation,
-                        condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else if (token.startsWith(ColumnQueryParserUtil.ORDER_BY)) {
-                sort(sorts, token, representation);
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                ColumnQueryParserUtil.ConditionResult result = or(args, index, token, methodName, representation,
-                        condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation, converters);
-                index++;
-            }
-        }
-
+        int index = plan.getArgumentIndex();
         while (index < args.length) {
             Object value = args[index];
             if (Sort.class.isInstance(value)) {
@@ -81,32 +63,15 @@ public class ColumnQueryParser {
                 Pagination pagination = Pagination.class.cast(value);
                 limit = pagination.getMaxResults();
                 start = pagination.getFirstResult();
-            } else {
+            } else if (!KeysetPagination.class.isInstance(value)) {
                 LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
                         String.valueOf(value), methodName, className, index));
             }
             index++;
         }
 
-        return new ArtemisColumnQuery(sorts, limit, start, condition, representation.getName());
-    }
-
-
-    private void sort(List<Sort> sorts, String token, ClassRepresentation representation) {
-        String field = token.replace(ColumnQueryParserUtil.ORDER_BY, ColumnQueryParserUtil.EMPTY);
-        if (field.contains("Desc")) {
-            sorts.add(Sort.of(getName(field.replace("Desc", ColumnQueryParserUtil.EMPTY),
-                    representation), Sort.SortType.DESC));
-        } else {
-            sorts.add(Sort.of(getName(field.replace("Asc", ColumnQueryParserUtil.EMPTY),
-                    representation), Sort.SortType.ASC));
-        }
-    }
-
-    private String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
-
+        return new ArtemisColumnQuery(sorts, limit, start, condition, representation.getName(),
+                Collections.emptyList());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.AND;
+import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.EMPTY;
+import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.OR;
+import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.ORDER_BY;
+import static org.jnosql.artemis.column.query.ColumnTokenProcessorType.BETWEEN;
+import static org.jnosql.diana.api.Sort.SortType.ASC;
+import static org.jnosql.diana.api.Sort.SortType.DESC;
+
+/**
+ * A repository method name compiled once to its conditions, the argument position each one reads and its sorts,
+ * so {@link ColumnQueryParser} and {@link ColumnQueryDeleteParser} tokenize and resolve the fields only at the first
+ * call and then just bind the arguments. The steps keep the converter class of each field, the converter itself
+ * is looked up at each binding.
+ */
+final class ColumnQueryPlan {
+
+    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final String methodName;
+
+    private final List<ConditionStep> steps;
+
+    private final List<Sort> sorts;
+
+    private final int argumentIndex;
+
+    private ColumnQueryPlan(String methodName, List<ConditionStep> steps, List<Sort> sorts, int argumentIndex) {
+        this.methodName = methodName;
+        this.steps = steps;
+        this.sorts = sorts;
+        this.argumentIndex = argumentIndex;
+    }
+
+    ColumnCondition getCondition(Object[] args, Converters converters) {
+        ColumnCondition condition = null;
+        for (ConditionStep step : steps) {
+            condition = step.append(condition, args, methodName, converters);
+        }
+        return condition;
+    }
+
+    List<Sort> getSorts() {
+        return sorts;
+    }
+
+    /**
+     * @return the position of the first argument that is not read by a condition
+     */
+    int getArgumentIndex() {
+        return argumentIndex;
+    }
+
+    /**
+     * Compiles the method name
+     *
+     * @param methodName     the method name
+     * @param prefix         the prefix to remove from the method name
+     * @param representation the entity representation
+     * @param sortable       whether the OrderBy tokens are sorts, otherwise they are read as Or conditions
+     * @return the compiled plan
+     */
+    static ColumnQueryPlan of(String methodName, String prefix, ClassRepresentation representation,
+                                boolean sortable) {
+
+        String[] tokens = methodName.replace(prefix, EMPTY).split(TOKENIZER);
+        List<ConditionStep> steps = new ArrayList<>();
+        List<Sort> sorts = new ArrayList<>();
+        boolean hasCondition = false;
+        int index = 0;
+        for (String token : tokens) {
+            if (token.startsWith(AND)) {
+                ConditionStep step = ConditionStep.of(Connector.AND, token.replace(AND, EMPTY), index,
+                        representation);
+                index += !hasCondition && BETWEEN.equals(step.type) ? 2 : 1;
+                hasCondition = true;
+                steps.add(step);
+            } else if (sortable && token.startsWith(ORDER_BY)) {
+                sorts.add(sort(token, representation));
+            } else if (token.startsWith(OR)) {
+                ConditionStep step = ConditionStep.of(Connector.OR, token.replace(OR, EMPTY), index,
+                        representation);
+                index += !hasCondition && BETWEEN.equals(step.type) ? 2 : 1;
+                hasCondition = true;
+                steps.add(step);
+            } else {
+                steps.add(ConditionStep.of(Connector.NONE, token, index, representation));
+                hasCondition = true;
+                index++;
+            }
+        }
+        return new ColumnQueryPlan(methodName, Collections.unmodifiableList(steps),
+                Collections.unmodifiableList(sorts), index);
+    }
+
+    private static Sort sort(String token, ClassRepresentation representation) {
+        String field = token.replace(ORDER_BY, EMPTY);
+        if (field.contains("Desc")) {
+            return Sort.of(ColumnTokenProcessorType.getName(field.replace("Desc", EMPTY), representation), DESC);
+        }
+        return Sort.of(ColumnTokenProcessorType.getName(field.replace("Asc", EMPTY), representation), ASC);
+    }
+
+    private enum Connector {
+        NONE, AND, OR
+    }
+
+    private static final class ConditionStep {
+
+        private final Connector connector;
+
+        private final ColumnTokenProcessorType type;
+
+        private final String name;
+
+        private final Class<? extends AttributeConverter> converterClass;
+
+        private final Class<?> fieldType;
+
+        private final int index;
+
+        private ConditionStep(Connector connector, ColumnTokenProcessorType type, String name,
+                              Class<? extends AttributeConverter> converterClass, Class<?> fieldType, int index) {
+            this.connector = connector;
+            this.type = type;
+            this.name = name;
+            this.converterClass = converterClass;
+            this.fieldType = fieldType;
+            this.index = index;
+        }
+
+        ColumnCondition append(ColumnCondition condition, Object[] args, String methodName, Converters converters) {
+
+            ColumnTokenProcessorType.checkContents(index, args.length, type.getFieldsRequired(), methodName);
+            Object value = BETWEEN.equals(type) ? Arrays.asList(convert(args[index], converters),
+                    convert(args[index + 1], converters)) : convert(args[index], converters);
+            ColumnCondition next = type.toCondition(Column.of(name, value));
+
+            if (condition == null || Connector.NONE.equals(connector)) {
+                return next;
+            }
+            return Connector.AND.equals(connector) ? condition.and(next) : condition.or(next);
+        }
+
+        static ConditionStep of(Connector connector, String token, int index, ClassRepresentation representation) {
+            ColumnTokenProcessorType type = ColumnTokenProcessorType.of(token);
+            String name = ColumnTokenProcessorType.getName(token, representation).replace(type.getType(), EMPTY);
+            Optional<FieldRepresentation> field = representation
+                    .getFieldRepresentation(ColumnTokenProcessorType.getJavaField(token));
+            Class<? extends AttributeConverter> converterClass = field.map(FieldRepresentation::getConverterClass)
+                    .orElse(null);
+            Class<?> fieldType = field.map(f -> f.getNativeField().getType()).orElse(null);
+            return new ConditionStep(connector, type, name, converterClass, fieldType, index);
+        }
+
+        private Object convert(Object value, Converters converters) {
+            if (converterClass != null) {
+                AttributeConverter converter = converters.get(converterClass);
+                return converter.convertToDatabaseColumn(value);
+            }
+            if (fieldType == null || fieldType.equals(value.getClass())) {
+                return value;
+            }
+            return Value.of(value).get(fieldType);
+        }
+    }
+}
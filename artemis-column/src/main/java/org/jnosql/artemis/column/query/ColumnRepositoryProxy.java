@@ -17,12 +17,15 @@ package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.cache.CacheableQuery;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.Reflections;
 
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.Optional;
 
 
 /**
@@ -48,6 +51,8 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
 
     private final Converters converters;
 
+    private final Optional<Duration> cacheTtl;
+
 
     ColumnRepositoryProxy(ColumnTemplate template, ClassRepresentations classRepresentations, Class<?> repositoryType,
                           Reflections reflections, Converters converters) {
@@ -58,6 +63,7 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
         this.repository = new ColumnRepository(template, classRepresentation);
         this.reflections = reflections;
         this.converters = converters;
+        this.cacheTtl = CacheableQuery.getCacheTtl(repositoryType);
         this.queryParser = new ColumnQueryParser();
         this.deleteParser = new ColumnQueryDeleteParser();
     }
@@ -92,6 +98,11 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
         return converters;
     }
 
+    @Override
+    protected Optional<Duration> getCacheTtl() {
+        return cacheTtl;
+    }
+
 
     class ColumnRepository extends AbstractColumnRepository implements Repository {
 
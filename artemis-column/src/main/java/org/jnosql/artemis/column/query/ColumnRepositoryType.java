@@ -18,18 +18,21 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.Method;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 enum ColumnRepositoryType {
     DEFAULT, FIND_BY, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, FIND_ALL, OBJECT_METHOD;
 
 
-    private static final Method[] METHODS = Object.class.getMethods();
+    private static final Set<Method> METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(Object.class.getMethods())));
 
-    static ColumnRepositoryType of(Method method, Object[] args) {
+    static ColumnRepositoryType of(Method method) {
 
-        if (Stream.of(METHODS).anyMatch(method::equals)) {
+        if (METHODS.contains(method)) {
             return OBJECT_METHOD;
         }
 
@@ -46,11 +49,11 @@ enum ColumnRepositoryType {
             default:
         }
 
-        if (isQuery(args)) {
+        if (getQueryIndex(method) >= 0) {
             return QUERY;
         }
 
-        if (isQueryDelete(args)) {
+        if (getDeleteQueryIndex(method) >= 0) {
             return QUERY_DELETE;
         }
 
@@ -62,25 +65,28 @@ enum ColumnRepositoryType {
         return UNKNOWN;
     }
 
-    private static boolean isQuery(Object[] args) {
-        return getQuery(args).isPresent();
+    /**
+     * @return the position of the first {@link ColumnQuery} parameter of the method, otherwise -1
+     */
+    static int getQueryIndex(Method method) {
+        return getParameterIndex(method, ColumnQuery.class);
     }
 
-    private static boolean isQueryDelete(Object[] args) {
-        return getDeleteQuery(args).isPresent();
+    /**
+     * @return the position of the first {@link ColumnDeleteQuery} parameter of the method, otherwise -1
+     */
+    static int getDeleteQueryIndex(Method method) {
+        return getParameterIndex(method, ColumnDeleteQuery.class);
     }
 
-    static Optional<ColumnQuery> getQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(ColumnQuery.class::isInstance).map(ColumnQuery.class::cast)
-                .findFirst();
-    }
-
-    static Optional<ColumnDeleteQuery> getDeleteQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(ColumnDeleteQuery.class::isInstance)
-                .map(ColumnDeleteQuery.class::cast)
-                .findFirst();
+    private static int getParameterIndex(Method method, Class<?> type) {
+        Class<?>[] parameters = method.getParameterTypes();
+        for (int index = 0; index < parameters.length; index++) {
+            if (type.isAssignableFrom(parameters[index])) {
+                return index;
+            }
+        }
+        return -1;
     }
 
 }
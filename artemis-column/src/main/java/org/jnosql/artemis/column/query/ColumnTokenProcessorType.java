@@ -14,98 +14,34 @@
  */
 package org.jnosql.artemis.column.query;
 
-import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.artemis.column.util.ConverterUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 
-import java.util.Arrays;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.EMPTY;
+enum ColumnTokenProcessorType {
 
-enum ColumnTokenProcessorType implements ColumnTokenProcessor {
-
-    BETWEEN("Between", 2) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object valueA = getValue(token, args[index], representation, converters);
-            Object valueB = getValue(token, args[++index], representation, converters);
-            return ColumnCondition.between(Column.of(name, Arrays.asList(valueA, valueB)));
-        }
-    },
-    LESS_THAN_EQUAL("LessThanEqual", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.lte(Column.of(name, value));
-        }
-    },
-    GREATER_THAN_EQUAL("GreaterThanEqual", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.gte(Column.of(name, value));
-        }
-    },
-    LESS_THAN("LessThan", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.lt(Column.of(name, value));
-        }
-    },
-    GREATER_THAN("GreaterThan", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.gt(Column.of(name, value));
-        }
-    },
-    LIKE("Like", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.like(Column.of(name, value));
-        }
-    }, DEFAULT("", 1) {
-        @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName,
-                                       ClassRepresentation representation,Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation);
-            Object value = getValue(token, args[index], representation, converters);
-            return ColumnCondition.eq(Column.of(name,value));
-        }
-    };
+    BETWEEN("Between", 2, ColumnCondition::between),
+    LESS_THAN_EQUAL("LessThanEqual", 1, ColumnCondition::lte),
+    GREATER_THAN_EQUAL("GreaterThanEqual", 1, ColumnCondition::gte),
+    LESS_THAN("LessThan", 1, ColumnCondition::lt),
+    GREATER_THAN("GreaterThan", 1, ColumnCondition::gt),
+    LIKE("Like", 1, ColumnCondition::like),
+    DEFAULT("", 1, ColumnCondition::eq);
 
     private final String type;
 
     private final int fieldsRequired;
 
-    ColumnTokenProcessorType(String type, int fieldsRequired) {
+    private final Function<Column, ColumnCondition> condition;
+
+    ColumnTokenProcessorType(String type, int fieldsRequired, Function<Column, ColumnCondition> condition) {
         this.type = type;
         this.fieldsRequired = fieldsRequired;
+        this.condition = condition;
     }
 
     public String getType() {
@@ -116,13 +52,17 @@ enum ColumnTokenProcessorType implements ColumnTokenProcessor {
         return fieldsRequired;
     }
 
+    ColumnCondition toCondition(Column column) {
+        return condition.apply(column);
+    }
+
     static ColumnTokenProcessorType of(String token) {
         return Stream.of(ColumnTokenProcessorType.values())
                 .filter(t -> token.contains(t.getType()))
                 .findFirst().orElse(DEFAULT);
     }
 
-    private static void checkContents(int index, int argSize, int required, String method) {
+    static void checkContents(int index, int argSize, int required, String method) {
         if ((index + required) <= argSize) {
             return;
         }
@@ -130,18 +70,11 @@ enum ColumnTokenProcessorType implements ColumnTokenProcessor {
                 method));
     }
 
-    private static String getName(String token, ClassRepresentation representation) {
+    static String getName(String token, ClassRepresentation representation) {
         return representation.getColumnField(getJavaField(token));
     }
 
-    private static Object getValue(String token, Object value, ClassRepresentation representation,
-                                   Converters converters) {
-
-        String javaField = getJavaField(token);
-        return ConverterUtil.getValue(value, representation, javaField, converters);
-    }
-
-    private static String getJavaField(String token) {
+    static String getJavaField(String token) {
         return String.valueOf(Character.toLowerCase(token.charAt(0)))
                 .concat(token.substring(1));
     }
@@ -28,6 +28,7 @@ import org.jnosql.diana.api.column.query.ColumnStart;
 import org.jnosql.diana.api.column.query.ColumnWhere;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
@@ -38,9 +39,16 @@ class DefaultColumnMapperSelectBuilder extends AbstractMapperQuery implements Co
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final List<String> columns;
+
 
     DefaultColumnMapperSelectBuilder(ClassRepresentation representation, Converters converters) {
+        this(representation, converters, Collections.emptyList());
+    }
+
+    DefaultColumnMapperSelectBuilder(ClassRepresentation representation, Converters converters, List<String> columns) {
         super(representation, converters);
+        this.columns = columns;
     }
 
 
@@ -165,7 +173,7 @@ class DefaultColumnMapperSelectBuilder extends AbstractMapperQuery implements Co
 
     @Override
     public ColumnQuery build() {
-        return new ArtemisColumnQuery(sorts, limit, start, condition, columnFamily);
+        return new ArtemisColumnQuery(sorts, limit, start, condition, columnFamily, columns);
     }
 
 }
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.column.query;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.column.ColumnQueryMapperBuilder;
 import org.jnosql.artemis.reflection.ClassRepresentation;
@@ -24,8 +25,11 @@ import org.jnosql.diana.api.column.query.ColumnFrom;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 @ApplicationScoped
 class DefaultColumnQueryMapperBuilder implements ColumnQueryMapperBuilder {
@@ -43,6 +47,18 @@ class DefaultColumnQueryMapperBuilder implements ColumnQueryMapperBuilder {
         return new DefaultColumnMapperSelectBuilder(representation, converters.get());
     }
 
+    @Override
+    public <T> ColumnFrom selectFrom(Class<T> entityClass, String... fields) {
+        requireNonNull(entityClass, "entity is required");
+        requireNonNull(fields, "fields is required");
+        ClassRepresentation representation = classRepresentations.get().get(entityClass);
+        List<String> columns = Stream.of(fields)
+                .map(f -> representation.getFieldPath(f).orElseThrow(() -> new ArtemisException("The field " + f
+                        + " is not mapped in the entity " + entityClass.getName())))
+                .flatMap(f -> Stream.of(f.getNativeField().split(","))).collect(toList());
+        return new DefaultColumnMapperSelectBuilder(representation, converters.get(), columns);
+    }
+
     @Override
     public <T> ColumnDeleteFrom deleteFrom(Class<T> entityClass) {
         requireNonNull(entityClass, "entity is required");
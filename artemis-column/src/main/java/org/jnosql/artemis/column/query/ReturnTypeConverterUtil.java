@@ -14,19 +14,33 @@
  */
 package org.jnosql.artemis.column.query;
 
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.cache.CacheableQuery;
 import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
 /**
  * Utilitarian class to return on dynamic query
  */
@@ -37,6 +51,11 @@ public final class ReturnTypeConverterUtil {
 
 
     public static Object returnObject(ColumnQuery query, ColumnTemplate template, Class typeClass, Method method) {
+        return returnObject(query, template, typeClass, method, new Object[0]);
+    }
+
+    public static Object returnObject(ColumnQuery query, ColumnTemplate template, Class typeClass, Method method,
+                                      Object[] args) {
         Class<?> returnType = method.getReturnType();
 
         if (typeClass.equals(returnType)) {
@@ -54,10 +73,59 @@ public final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(template.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return template.select(query).stream();
+            return template.stream(query);
+        } else if (KeysetPage.class.equals(returnType)) {
+            return template.select(query, getKeysetPagination(method, args));
         }
 
         return template.select(query);
     }
 
+    public static Object returnProjection(ColumnQuery query, ColumnTemplate template, Projection projection,
+                                          Method method, Object[] args) {
+        Class<?> returnType = method.getReturnType();
+        ColumnQuery projected = project(query, projection);
+        Function<Object, Object> mapper = projection::create;
+
+        if (projection.getType().equals(returnType)) {
+            return template.singleResult(projected).map(mapper).orElse(null);
+        } else if (Optional.class.equals(returnType)) {
+            return template.singleResult(projected).map(mapper);
+        } else if (Set.class.equals(returnType)) {
+            return template.select(projected).stream().map(mapper).collect(toSet());
+        } else if (Queue.class.equals(returnType)) {
+            return template.select(projected).stream().map(mapper).collect(toCollection(LinkedList::new));
+        } else if (Stream.class.equals(returnType)) {
+            return template.stream(projected).map(mapper);
+        } else if (KeysetPage.class.equals(returnType)) {
+            KeysetPage<Object> page = template.select(projected, getKeysetPagination(method, args));
+            List<Object> content = page.getContent().stream().map(mapper).collect(toList());
+            return page.next().map(next -> KeysetPage.of(content, next)).orElseGet(() -> KeysetPage.of(content));
+        }
+
+        return template.select(projected).stream().map(mapper).collect(toList());
+    }
+
+    /**
+     * The query reads the projection fields and the sort fields, which the keyset pagination reads
+     * from the last entity, and keeps the time to live of a cacheable query.
+     */
+    private static ColumnQuery project(ColumnQuery query, Projection projection) {
+        Set<String> columns = new LinkedHashSet<>(projection.getColumns());
+        query.getSorts().stream().map(Sort::getName).forEach(columns::add);
+        ColumnQuery projected = new ArtemisColumnQuery(query.getSorts(), query.getMaxResults(), query.getFirstResult(),
+                query.getCondition().orElse(null), query.getColumnFamily(), new ArrayList<>(columns));
+        if (query instanceof CacheableQuery) {
+            return CacheableColumnQuery.of(projected, CacheableQuery.class.cast(query).getCacheTtl());
+        }
+        return projected;
+    }
+
+    private static KeysetPagination getKeysetPagination(Method method, Object[] args) {
+        return Stream.of(Optional.ofNullable(args).orElse(new Object[0]))
+                .filter(KeysetPagination.class::isInstance).map(KeysetPagination.class::cast).findFirst()
+                .orElseThrow(() -> new DynamicQueryException("The method " + method.getName()
+                        + " returns a KeysetPage and requires a KeysetPagination parameter"));
+    }
+
 }
@@ -19,6 +19,7 @@ import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Contact;
 import org.jnosql.artemis.model.ContactType;
 import org.jnosql.artemis.model.Director;
@@ -26,6 +27,7 @@ import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Money;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Sensor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
 import org.jnosql.diana.api.TypeReference;
@@ -54,6 +56,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -138,6 +141,60 @@ public class DefaultColumnEntityConverterTest {
         assertEquals(Collections.singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldConvertPrimitiveFields() {
+        ColumnEntity entity = ColumnEntity.of("Sensor");
+        entity.add(Column.of("_id", "sensor"));
+        entity.add(Column.of("counter", 10L));
+        entity.add(Column.of("timestamp", 1000));
+        entity.add(Column.of("temperature", "21.5"));
+        entity.add(Column.of("humidity", 4550L));
+
+        Sensor sensor = converter.toEntity(Sensor.class, entity);
+        assertEquals(10, sensor.getCounter());
+        assertEquals(1000L, sensor.getTimestamp());
+        assertEquals(21.5, sensor.getTemperature());
+        assertEquals(45.5, sensor.getHumidity());
+
+        ColumnEntity converted = converter.toColumn(sensor);
+        assertEquals(4550L, converted.find("humidity").get().get());
+        assertEquals(10, converted.find("counter").get().get());
+    }
+
+    @Test
+    public void shouldConvertEntityFromParameterizedConstructor() {
+        ColumnEntity entity = ColumnEntity.of("Book");
+        entity.add(Column.of("_id", "978-0134685991"));
+        entity.add(Column.of("title", "Effective Java"));
+        entity.add(Column.of("publisher", "Addison-Wesley"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals("978-0134685991", book.getIsbn());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        assertEquals("Addison-Wesley", book.getPublisher());
+
+        Book copy = converter.toEntity(converter.toColumn(book));
+        assertEquals(book, copy);
+        assertEquals(book.getTitle(), copy.getTitle());
+        assertEquals(book.getPublisher(), copy.getPublisher());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownAndMissingColumns() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        entity.add(Column.of("unknown", "value"));
+        entity.add(Column.of("name", "Otavio"));
+        entity.add(Column.of("_id", 12L));
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(12L, actor.getId());
+        assertEquals(0, actor.getAge());
+        assertNull(actor.getPhones());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         ColumnEntity entity = ColumnEntity.of("Actor");
@@ -14,13 +14,19 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.cache.CacheStatistics;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -38,7 +44,9 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -86,6 +94,8 @@ public class DefaultColumnTemplateTest {
 
     private ArgumentCaptor<ColumnEntity> captor;
 
+    private ArgumentCaptor<List> iterableCaptor;
+
     private ColumnEventPersistManager columnEventPersistManager;
 
     @SuppressWarnings("unchecked")
@@ -94,9 +104,15 @@ public class DefaultColumnTemplateTest {
         managerMock = Mockito.mock(ColumnFamilyManager.class);
         columnEventPersistManager = Mockito.mock(ColumnEventPersistManager.class);
         captor = ArgumentCaptor.forClass(ColumnEntity.class);
+        iterableCaptor = ArgumentCaptor.forClass(List.class);
+        this.subject = createTemplate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultColumnTemplate createTemplate() {
         Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
         Mockito.when(instance.get()).thenReturn(managerMock);
-        this.subject = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+        return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
                 columnEventPersistManager, classRepresentations, converters);
     }
 
@@ -169,11 +185,13 @@ public class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(iterableCaptor.capture(), Mockito.eq(duration));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class), any(Duration.class));
+        assertEquals(2, iterableCaptor.getValue().size());
     }
 
     @Test
@@ -182,11 +200,16 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
-
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(iterableCaptor.capture());
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertEquals(2, iterableCaptor.getValue().size());
+        assertEquals(2, ((List<Person>) people).size());
     }
 
     @Test
@@ -195,11 +218,38 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(iterableCaptor.capture());
+        verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
+        assertEquals(2, iterableCaptor.getValue().size());
+    }
+
+    @Test
+    public void shouldInsertEntitiesInChunks() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenAnswer(i -> i.getArgument(0));
+
+        System.setProperty(AbstractColumnTemplate.CHUNK_SIZE, "2");
+        subject = createTemplate();
+        try {
+            List<Person> people = Stream.generate(() -> person).limit(5).collect(Collectors.toList());
+            Iterable<Person> saved = subject.insert(people);
+            verify(managerMock, times(3)).insert(iterableCaptor.capture());
+            List<Integer> sizes = iterableCaptor.getAllValues().stream().map(List::size)
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList(2, 2, 1), sizes);
+            assertEquals(5, ((List<Person>) saved).size());
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.CHUNK_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenManagerReturnsFewerEntities() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(emptyList());
+        Assertions.assertThrows(ArtemisException.class, () -> subject.insert(Arrays.asList(person, person)));
     }
 
     @Test
@@ -217,6 +267,400 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStreamInPages() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenAnswer(i -> {
+            ColumnQuery page = i.getArgument(0);
+            long size = Math.max(0, Math.min(page.getMaxResults(), 5 - page.getFirstResult()));
+            return Stream.generate(() -> columnEntity).limit(size).collect(Collectors.toList());
+        });
+
+        System.setProperty(AbstractColumnTemplate.PAGE_SIZE, "2");
+        subject = createTemplate();
+        try {
+            Stream<Person> people = subject.stream(select().from("Person").build());
+            verify(managerMock, Mockito.never()).select(any(ColumnQuery.class));
+            assertEquals(5, people.count());
+            ArgumentCaptor<ColumnQuery> pages = ArgumentCaptor.forClass(ColumnQuery.class);
+            verify(managerMock, times(3)).select(pages.capture());
+            assertEquals(Arrays.asList(0L, 2L, 4L), pages.getAllValues().stream()
+                    .map(ColumnQuery::getFirstResult).collect(Collectors.toList()));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.PAGE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldStreamFromQueryStartAndLimit() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenAnswer(i -> {
+            ColumnQuery page = i.getArgument(0);
+            return Stream.generate(() -> columnEntity).limit(page.getMaxResults()).collect(Collectors.toList());
+        });
+
+        System.setProperty(AbstractColumnTemplate.PAGE_SIZE, "2");
+        subject = createTemplate();
+        try (Stream<Person> people = subject.stream(select().from("Person").start(1).limit(3).build())) {
+            assertEquals(3, people.count());
+            ArgumentCaptor<ColumnQuery> pages = ArgumentCaptor.forClass(ColumnQuery.class);
+            verify(managerMock, times(2)).select(pages.capture());
+            assertEquals(Arrays.asList(1L, 3L), pages.getAllValues().stream()
+                    .map(ColumnQuery::getFirstResult).collect(Collectors.toList()));
+            assertEquals(Arrays.asList(2L, 1L), pages.getAllValues().stream()
+                    .map(ColumnQuery::getMaxResults).collect(Collectors.toList()));
+            verify(columnEventPersistManager).firePreQuery(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.PAGE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldSelectKeysetPage() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        columnEntity.add(Column.of("_id", 19L));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(Arrays.asList(columnEntity,
+                columnEntity));
+
+        ColumnQuery query = select().from("Person").orderBy("name").asc().orderBy("_id").desc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2));
+        ArgumentCaptor<ColumnQuery> pageCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        assertEquals(2L, pageCaptor.getValue().getMaxResults());
+        assertFalse(pageCaptor.getValue().getCondition().isPresent());
+        assertEquals(2, page.getContent().size());
+        assertEquals(KeysetPagination.of(2, Arrays.asList("Name", 19L)), page.next().get());
+    }
+
+    @Test
+    public void shouldSelectKeysetPageAfterTheKeys() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        columnEntity.add(Column.of("_id", 19L));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(columnEntity));
+
+        ColumnQuery query = select().from("Person").where("age").gt(5)
+                .orderBy("name").asc().orderBy("_id").desc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2, Arrays.asList("Name", 19L)));
+        ArgumentCaptor<ColumnQuery> pageCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        ColumnCondition keyset = ColumnCondition.or(ColumnCondition.gt(Column.of("name", "Name")),
+                ColumnCondition.and(ColumnCondition.eq(Column.of("name", "Name")),
+                        ColumnCondition.lt(Column.of("_id", 19L))));
+        assertEquals(ColumnCondition.and(ColumnCondition.gt(Column.of("age", 5)), keyset),
+                pageCaptor.getValue().getCondition().get());
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.next().isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetQueryIsNotSorted() {
+        Assertions.assertThrows(ArtemisException.class, () -> subject.select(select().from("Person").build(),
+                KeysetPagination.of(2)));
+        Assertions.assertThrows(ArtemisException.class, () -> subject.select(select().from("Person")
+                .orderBy("name").asc().build(), KeysetPagination.of(2, Arrays.asList("Name", 19L, 10))));
+    }
+
+    @Test
+    public void shouldSortKeysetPageByIdAtLast() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        columnEntity.add(Column.of("_id", 19L));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(Arrays.asList(columnEntity,
+                columnEntity));
+
+        ColumnQuery query = select().from("Person").orderBy("name").asc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2, Arrays.asList("Ada", 10L)));
+        ArgumentCaptor<ColumnQuery> pageCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        assertEquals(Arrays.asList(Sort.of("name", Sort.SortType.ASC), Sort.of("_id", Sort.SortType.ASC)),
+                pageCaptor.getValue().getSorts());
+        ColumnCondition keyset = ColumnCondition.or(ColumnCondition.gt(Column.of("name", "Ada")),
+                ColumnCondition.and(ColumnCondition.eq(Column.of("name", "Ada")),
+                        ColumnCondition.gt(Column.of("_id", 10L))));
+        assertEquals(keyset, pageCaptor.getValue().getCondition().get());
+        assertEquals(KeysetPagination.of(2, Arrays.asList("Name", 19L)), page.next().get());
+    }
+
+    @Test
+    public void shouldUpdateOnlyChangedColumns() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractColumnTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            book.setPublisher("Pearson");
+            subject.update(book);
+            verify(managerMock).update(captor.capture());
+            ColumnEntity partial = captor.getValue();
+            assertEquals(2, partial.size());
+            assertEquals(Column.of("_id", "0321356683"), partial.find("_id").get());
+            assertEquals(Column.of("publisher", "Pearson"), partial.find("publisher").get());
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldUpdateWhenChangedValueHasTheSameHash() {
+        ColumnEntity entity = getBookEntity();
+        entity.add(Column.of("publisher", "Aa"));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(entity));
+
+        System.setProperty(AbstractColumnTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            book.setPublisher("BB");
+            subject.update(book);
+            verify(managerMock).update(captor.capture());
+            assertEquals(Column.of("publisher", "BB"), captor.getValue().find("publisher").get());
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldSkipUpdateWhenNothingChanged() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractColumnTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            subject.update(book);
+            verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
+            book.setPublisher("Pearson");
+            subject.update(book);
+            subject.update(book);
+            verify(managerMock, times(1)).update(any(ColumnEntity.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldUpdateWholeColumnWhenNotTracked() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.update(any(ColumnEntity.class))).thenReturn(getBookEntity());
+
+        Book book = subject.<Book>select(select().from("Book").build()).get(0);
+        book.setPublisher("Pearson");
+        subject.update(book);
+        verify(managerMock).update(captor.capture());
+        assertEquals(4, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldFindFromEntityCache() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            Book book = subject.find(Book.class, "0321356683").get();
+            book.setPublisher("Pearson");
+            Book cached = subject.find(Book.class, "0321356683").get();
+            assertEquals("Addison-Wesley", cached.getPublisher());
+            assertFalse(book == cached);
+            verify(managerMock, times(1)).select(any(ColumnQuery.class));
+            assertEquals(0.5D, subject.getEntityCacheStatistics().get().getHitRatio());
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldEvictEntityCacheOnUpdateAndDelete() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.update(any(ColumnEntity.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            Book book = subject.find(Book.class, "0321356683").get();
+            subject.update(book);
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+
+            subject.delete(Book.class, "0321356683");
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(3)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheEntityRemovedWhileItIsLoaded() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenAnswer(i -> {
+            subject.delete(Book.class, "0321356683");
+            return singletonList(getBookEntity());
+        });
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Book.class, "0321356683");
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldEvictOnlyTheEntitiesOfTheCollectionDeleted() {
+        ColumnEntity personEntity = ColumnEntity.of("Person");
+        personEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenAnswer(i -> {
+            ColumnQuery query = i.getArgument(0);
+            return singletonList("Book".equals(query.getColumnFamily()) ? getBookEntity() : personEntity);
+        });
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Book.class, "0321356683");
+            subject.find(Person.class, 19L);
+            subject.delete(ColumnQueryBuilder.delete().from("Book").build());
+            subject.find(Book.class, "0321356683");
+            subject.find(Person.class, 19L);
+            verify(managerMock, times(3)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldCopyTheCollectionsOfTheEntityCached() {
+        List<String> phones = new ArrayList<>(Arrays.asList("234", "432"));
+        ColumnEntity personEntity = ColumnEntity.of("Person");
+        personEntity.addAll(Arrays.asList(Column.of("name", "Name"), Column.of("phones", phones)));
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(personEntity));
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Person.class, 19L);
+            phones.add("999");
+            Person cached = subject.find(Person.class, 19L).get();
+            assertEquals(Arrays.asList("234", "432"), cached.getPhones());
+            verify(managerMock, times(1)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldCacheInsertWithTTL() {
+        Mockito.when(managerMock.insert(any(ColumnEntity.class), any(Duration.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.insert(new Book("0321356683", "Effective Java", 2), Duration.ofHours(2L));
+            Book book = subject.find(Book.class, "0321356683").get();
+            assertEquals("Addison-Wesley", book.getPublisher());
+            verify(managerMock, Mockito.never()).select(any(ColumnQuery.class));
+
+            subject.insert(new Book("0321356683", "Effective Java", 2), Duration.ZERO);
+            subject.find(Book.class, "0321356683");
+            verify(managerMock).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldSelectFromQueryCache() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            ColumnQuery query = select().from("Book").where("edition").eq(2).build();
+            List<Book> books = subject.select(query);
+            List<Book> cached = subject.select(select().from("Book").where("edition").eq(2).build());
+            assertEquals(books, cached);
+            assertFalse(books.get(0) == cached.get(0));
+            verify(managerMock, times(1)).select(any(ColumnQuery.class));
+
+            subject.select(select().from("Book").where("edition").eq(3).build());
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+            assertEquals(CacheStatistics.of(1L, 2L, 0L), subject.getQueryCacheStatistics().get());
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldInvalidateQueryCacheOnWrite() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.insert(any(ColumnEntity.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            ColumnQuery query = select().from("Book").build();
+            subject.select(query);
+            subject.insert(new Book("0321356683", "Effective Java", 2));
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+
+            subject.delete(Book.class, "0321356683");
+            subject.select(query);
+            verify(managerMock, times(3)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheQueryResultReadWhileTheCollectionIsWritten() {
+        Mockito.when(managerMock.select(any(ColumnQuery.class))).thenAnswer(i -> {
+            subject.delete(Book.class, "0321356683");
+            return singletonList(getBookEntity());
+        });
+
+        System.setProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            ColumnQuery query = select().from("Book").build();
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheEntityWithoutCacheQueries() {
+        System.setProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            ColumnQuery query = select().from("Person").build();
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(ColumnQuery.class));
+        } finally {
+            System.clearProperty(AbstractColumnTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    private ColumnEntity getBookEntity() {
+        ColumnEntity entity = ColumnEntity.of("Book");
+        entity.addAll(Arrays.asList(Column.of("_id", "0321356683"), Column.of("title", "Effective Java"),
+                Column.of("edition", 2), Column.of("publisher", "Addison-Wesley")));
+        return entity;
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
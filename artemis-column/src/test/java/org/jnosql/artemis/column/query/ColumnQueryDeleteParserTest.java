@@ -181,4 +181,16 @@ public class ColumnQueryDeleteParserTest {
                 classRepresentation, converters));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReuseTheMethodWithNewArguments() {
+        parser.parse("deleteByNameAndAge", new Object[]{"name", 10}, classRepresentation, converters);
+        ColumnDeleteQuery query = parser.parse("deleteByNameAndAge", new Object[]{"otavio", 20},
+                classRepresentation, converters);
+        List<ColumnCondition> conditions = query.getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(Column.of("name", "otavio"), conditions.get(0).getColumn());
+        assertEquals(Column.of("age", 20), conditions.get(1).getColumn());
+    }
+
+}
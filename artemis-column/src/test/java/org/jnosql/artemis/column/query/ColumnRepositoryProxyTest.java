@@ -17,12 +17,18 @@ package org.jnosql.artemis.column.query;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.cache.CacheQueries;
+import org.jnosql.artemis.cache.CacheableQuery;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -37,6 +43,7 @@ import org.mockito.Mockito;
 import javax.inject.Inject;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -56,6 +63,7 @@ import static org.jnosql.diana.api.Condition.GREATER_THAN;
 import static org.jnosql.diana.api.Condition.LESSER_EQUALS_THAN;
 import static org.jnosql.diana.api.Condition.LESSER_THAN;
 import static org.jnosql.diana.api.Condition.LIKE;
+import static org.jnosql.diana.api.Sort.SortType.ASC;
 import static org.jnosql.diana.api.column.ColumnCondition.eq;
 import static org.jnosql.diana.api.column.ColumnCondition.gte;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
@@ -64,6 +72,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.times;
@@ -213,12 +222,12 @@ public class ColumnRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -279,6 +288,30 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldFindByTheSameMethodWithNewArguments() {
+        personRepository.findByNameAndAge("Ada", 10);
+        personRepository.findByNameAndAge("Poliana", 20);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(2)).select(captor.capture());
+        List<ColumnCondition> conditions = captor.getValue().getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(Column.of("name", "Poliana"), conditions.get(0).getColumn());
+        assertEquals(Column.of("age", 20), conditions.get(1).getColumn());
+    }
+
+    @Test
+    public void shouldExecuteQueryAfterAnotherParameter() {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        ColumnQuery query = select().from("Person").where("name").eq("Ada").build();
+
+        personRepository.queryByName("Ada", query);
+        verify(template).select(captor.capture());
+        assertEquals(query, captor.getValue());
+    }
+
     @Test
     public void shouldFindById() {
         personRepository.findById(10L);
@@ -494,6 +527,151 @@ public class ColumnRepositoryProxyTest {
     }
 
 
+    @Test
+    public void shouldFindKeysetPage() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+        KeysetPagination pagination = KeysetPagination.of(10);
+
+        when(template.select(any(ColumnQuery.class), Mockito.eq(pagination)))
+                .thenReturn(KeysetPage.of(singletonList(ada)));
+
+        KeysetPage<Person> page = personRepository.findByAgeOrderByName(20, pagination);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        ColumnQuery query = captor.getValue();
+        assertEquals(singletonList(Sort.of("name", ASC)), query.getSorts());
+        assertEquals(Column.of("age", 20), query.getCondition().get().getColumn());
+        assertThat(page.getContent(), Matchers.contains(ada));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetPageHasNoPagination() {
+        assertThrows(DynamicQueryException.class, () -> personRepository.findByAgeOrderByAge(20));
+    }
+
+    @Test
+    public void shouldFindProjection() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(template.select(any(ColumnQuery.class)))
+                .thenReturn(singletonList(ada));
+
+        List<PersonName> names = personRepository.findByAgeGreaterThanEqual(20);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertThat(query.getColumns(), containsInAnyOrder("name", "age", "_id"));
+        assertEquals(1, names.size());
+        assertEquals("Ada", names.get(0).getName());
+        assertEquals(20, names.get(0).getAge());
+    }
+
+    @Test
+    public void shouldFindKeysetPageOfProjection() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+        KeysetPagination pagination = KeysetPagination.of(10);
+        KeysetPagination next = KeysetPagination.of(10, Arrays.asList("Ada", 1L));
+
+        when(template.select(any(ColumnQuery.class), Mockito.eq(pagination)))
+                .thenReturn(KeysetPage.of(singletonList(ada), next));
+
+        KeysetPage<PersonAge> page = personRepository.findByAgeGreaterThanOrderByName(20, pagination);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template).select(captor.capture(), Mockito.eq(pagination));
+        ColumnQuery query = captor.getValue();
+        assertThat(query.getColumns(), containsInAnyOrder("age", "_id", "name"));
+        assertEquals(singletonList(Sort.of("name", ASC)), query.getSorts());
+        assertEquals(20, page.getContent().get(0).getAge());
+        assertEquals(next, page.next().get());
+    }
+
+    @Test
+    public void shouldKeepCacheTtlOfProjection() {
+        CachedPersonRepository repository = (CachedPersonRepository) Proxy.newProxyInstance(
+                CachedPersonRepository.class.getClassLoader(), new Class[]{CachedPersonRepository.class},
+                new ColumnRepositoryProxy(template, classRepresentations, CachedPersonRepository.class,
+                        reflections, converters));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        repository.findByAge(20);
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertTrue(query instanceof CacheableQuery);
+        assertEquals(Duration.ofMinutes(5L), CacheableQuery.class.cast(query).getCacheTtl());
+        assertThat(query.getColumns(), containsInAnyOrder("name", "age", "_id"));
+    }
+
+    @Test
+    public void shouldFindSingleProjection() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(template.singleResult(any(ColumnQuery.class)))
+                .thenReturn(Optional.of(ada));
+
+        PersonName name = personRepository.findByNameAndAgeLessThan("Ada", 30);
+        assertEquals("Ada", name.getName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenProjectionDoesNotMatchTheEntity() {
+        assertThrows(DynamicQueryException.class, () -> personRepository.findByNameAndAgeBetween("Ada", 10, 30));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenProjectionHasDefaultMethod() {
+        assertThrows(DynamicQueryException.class, () -> personRepository.findByNameAndAgeGreaterThan("Ada", 10));
+    }
+
+    @Test
+    public void shouldSendCacheTtlOfTheRepository() {
+        CachedPersonRepository repository = (CachedPersonRepository) Proxy.newProxyInstance(
+                CachedPersonRepository.class.getClassLoader(), new Class[]{CachedPersonRepository.class},
+                new ColumnRepositoryProxy(template, classRepresentations, CachedPersonRepository.class,
+                        reflections, converters));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        repository.findByName("Ada");
+        verify(template).select(captor.capture());
+        ColumnQuery query = captor.getValue();
+        assertTrue(query instanceof CacheableQuery);
+        assertEquals(Duration.ofMinutes(5L), CacheableQuery.class.cast(query).getCacheTtl());
+        assertEquals("Person", query.getColumnFamily());
+
+        personRepository.findByNameAndAge("Ada", 10);
+        verify(template, times(2)).select(captor.capture());
+        assertFalse(captor.getValue() instanceof CacheableQuery);
+    }
+
+    interface PersonName {
+
+        String getName();
+
+        int getAge();
+    }
+
+    interface PersonAge {
+
+        int getAge();
+    }
+
+    interface PersonNickname {
+
+        String getNickname();
+    }
+
+    interface PersonLabel {
+
+        String getName();
+
+        default String getLabel() {
+            return "Name: " + getName();
+        }
+    }
+
     interface PersonRepository extends Repository<Person, Long> {
 
         List<Person> findAll();
@@ -517,6 +695,8 @@ public class ColumnRepositoryProxyTest {
 
         void deleteQuery(ColumnDeleteQuery query);
 
+        Set<Person> queryByName(String name, ColumnQuery query);
+
         Set<Person> findByNameAndAgeGreaterThanEqual(String name, Integer age);
 
         Set<Person> findByAgeGreaterThan(Integer age);
@@ -528,5 +708,27 @@ public class ColumnRepositoryProxyTest {
         Set<Person> findByAgeBetween(Integer ageA, Integer ageB);
 
         Set<Person> findByNameLike(String name);
+
+        List<PersonName> findByAgeGreaterThanEqual(Integer age);
+
+        PersonName findByNameAndAgeLessThan(String name, Integer age);
+
+        List<PersonNickname> findByNameAndAgeBetween(String name, Integer ageA, Integer ageB);
+
+        List<PersonLabel> findByNameAndAgeGreaterThan(String name, Integer age);
+
+        KeysetPage<Person> findByAgeOrderByName(Integer age, KeysetPagination pagination);
+
+        KeysetPage<Person> findByAgeOrderByAge(Integer age);
+
+        KeysetPage<PersonAge> findByAgeGreaterThanOrderByName(Integer age, KeysetPagination pagination);
+    }
+
+    @CacheQueries(ttl = 5, unit = ChronoUnit.MINUTES)
+    interface CachedPersonRepository extends Repository<Person, Long> {
+
+        List<Person> findByName(String name);
+
+        List<PersonName> findByAge(Integer age);
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.column.query;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.column.ColumnQueryMapperBuilder;
 import org.jnosql.artemis.model.Address;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,6 +50,24 @@ public class DefaultColumnMapperSelectBuilderTest {
         assertEquals(queryExpected, query);
     }
 
+    @Test
+    public void shouldSelectFields() {
+        ColumnQuery query = mapperBuilder.selectFrom(Worker.class, "name", "salary").orderBy("salary").asc().build();
+        ColumnQuery queryExpected = select("name", "money").from("Worker").orderBy("money").asc().build();
+        assertEquals(queryExpected, query);
+        assertEquals(Arrays.asList("name", "money"), query.getColumns());
+    }
+
+    @Test
+    public void shouldReturnErrorSelectWhenFieldsIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> mapperBuilder.selectFrom(Worker.class, (String[]) null));
+    }
+
+    @Test
+    public void shouldReturnErrorSelectWhenFieldIsNotMapped() {
+        Assertions.assertThrows(ArtemisException.class, () -> mapperBuilder.selectFrom(Worker.class, "name", "nickname"));
+    }
+
     @Test
     public void shouldSelectOrderAsc() {
         ColumnQuery query = mapperBuilder.selectFrom(Worker.class).orderBy("salary").asc().build();
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.model;
+
+
+import org.jnosql.artemis.DoubleAttributeConverter;
+
+public class PercentConverter implements DoubleAttributeConverter<Long> {
+
+
+    @Override
+    public Long convertDoubleToDatabaseColumn(double attribute) {
+        return Math.round(attribute * 100);
+    }
+
+    @Override
+    public double convertToDoubleAttribute(Long dbData) {
+        return dbData / 100D;
+    }
+}
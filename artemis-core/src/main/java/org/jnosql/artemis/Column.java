@@ -24,7 +24,7 @@ import java.lang.annotation.Target;
  * Is used to specify a mapped column for a persistent property or field.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface Column {
     /**
      * (Optional) The name of the column. Defaults to the property or field name.
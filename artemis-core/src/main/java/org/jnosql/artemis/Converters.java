@@ -20,11 +20,28 @@ package org.jnosql.artemis;
 public interface Converters {
 
     /**
-     * Return a new instance from the converter
+     * Return the converter instance, each converter class is resolved from the container once, a dependent
+     * converter is kept as a dependent object of the implementation and destroyed with it
      *
      * @param converterClass the converter class
      * @return a converter instance
      * @throws NullPointerException when converter is null
      */
     AttributeConverter get(Class<? extends AttributeConverter> converterClass);
+
+    /**
+     * @return the number of converters returned from the instances already resolved,
+     * zero when the implementation doesn't keep statistics
+     */
+    default long getHits() {
+        return 0L;
+    }
+
+    /**
+     * @return the number of converters created from the container,
+     * zero when the implementation doesn't keep statistics
+     */
+    default long getMisses() {
+        return 0L;
+    }
 }
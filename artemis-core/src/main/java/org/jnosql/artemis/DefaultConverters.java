@@ -15,15 +15,26 @@
 package org.jnosql.artemis;
 
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * The Default implementation to {@link Converters}
+ * The Default implementation to {@link Converters}.
+ * Each converter class is resolved from the container once. The normal scoped beans are cached as their client
+ * proxy and the {@link Singleton} beans as their instance. Any other converter, such as a dependent one, is a
+ * dependent object of this bean, the same way as a dependent bean injected into it: a single instance to each
+ * class is kept with its {@link CreationalContext}, which is released when this bean is destroyed.
  */
 @ApplicationScoped
 class DefaultConverters implements Converters {
@@ -31,22 +42,75 @@ class DefaultConverters implements Converters {
     @Inject
     private BeanManager beanManager;
 
+    private final Map<Class<?>, AttributeConverter> converters = new ConcurrentHashMap<>();
+
+    private final Queue<CreationalContext<?>> dependents = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
     @Override
     public AttributeConverter get(Class<? extends AttributeConverter> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        AttributeConverter converter = converters.get(converterClass);
+        if (converter != null) {
+            hits.increment();
+            return converter;
+        }
+        misses.increment();
+        Bean<?> bean = getBean(converterClass);
+        CreationalContext<?> ctx = beanManager.createCreationalContext(bean);
+        AttributeConverter instance = converterClass.cast(beanManager.getReference(bean, converterClass, ctx));
+        AttributeConverter previous = converters.putIfAbsent(converterClass, instance);
+        if (previous != null) {
+            ctx.release();
+            return previous;
+        }
+        if (!isShared(bean)) {
+            dependents.add(ctx);
+        }
+        return instance;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private Bean<?> getBean(Class<?> clazz) {
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(clazz));
+        if (bean == null) {
+            throw new ArtemisException("The converter is not a CDI bean: " + clazz.getName());
+        }
+        return bean;
+    }
+
+    private boolean isShared(Bean<?> bean) {
+        return beanManager.isNormalScope(bean.getScope()) || Singleton.class.equals(bean.getScope());
     }
 
-    private <T> T getInstance(Class<T> clazz) {
-        Bean<T> bean = (Bean<T>) beanManager.getBeans(clazz).iterator().next();
-        CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-        return (T) beanManager.getReference(bean, clazz, ctx);
+    @PreDestroy
+    void destroy() {
+        converters.clear();
+        CreationalContext<?> ctx;
+        while ((ctx = dependents.poll()) != null) {
+            ctx.release();
+        }
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultConverters{");
         sb.append("beanManager=").append(beanManager);
+        sb.append(", converters=").append(converters.keySet());
+        sb.append(", hits=").append(hits);
+        sb.append(", misses=").append(misses);
         sb.append('}');
         return sb.toString();
     }
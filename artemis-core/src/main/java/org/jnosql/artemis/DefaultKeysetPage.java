@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+class DefaultKeysetPage<T> implements KeysetPage<T> {
+
+    private final List<T> content;
+
+    private final KeysetPagination next;
+
+    DefaultKeysetPage(List<T> content, KeysetPagination next) {
+        this.content = Collections.unmodifiableList(requireNonNull(content, "content is required"));
+        this.next = next;
+    }
+
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public Optional<KeysetPagination> next() {
+        return Optional.ofNullable(next);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPage)) {
+            return false;
+        }
+        KeysetPage<?> that = (KeysetPage<?>) o;
+        return Objects.equals(content, that.getContent()) &&
+                Objects.equals(next(), that.next());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, next);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultKeysetPage{");
+        sb.append("content=").append(content);
+        sb.append(", next=").append(next);
+        sb.append('}');
+        return sb.toString();
+    }
+}
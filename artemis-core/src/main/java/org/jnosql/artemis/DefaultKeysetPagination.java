@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+class DefaultKeysetPagination implements KeysetPagination {
+
+    private final long maxResults;
+
+    private final List<Object> keys;
+
+    DefaultKeysetPagination(long maxResults, List<Object> keys) {
+        requireNonNull(keys, "keys is required");
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("The max results must be greater than zero: " + maxResults);
+        }
+        this.maxResults = maxResults;
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    @Override
+    public long getMaxResults() {
+        return maxResults;
+    }
+
+    @Override
+    public List<Object> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPagination)) {
+            return false;
+        }
+        KeysetPagination that = (KeysetPagination) o;
+        return maxResults == that.getMaxResults() &&
+                Objects.equals(keys, that.getKeys());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxResults, keys);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultKeysetPagination{");
+        sb.append("maxResults=").append(maxResults);
+        sb.append(", keys=").append(keys);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+/**
+ * The {@link AttributeConverter} specialization to double entity attributes, the document and column converters
+ * read and write the double fields through these methods, so the attribute is not boxed.
+ *
+ * @param <Y> the type of the database column
+ */
+public interface DoubleAttributeConverter<Y> extends AttributeConverter<Double, Y> {
+
+    /**
+     * Converts the double entity attribute into the data representation to be stored in the database.
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return the converted data to be stored in the database column
+     */
+    Y convertDoubleToDatabaseColumn(double attribute);
+
+    /**
+     * Converts the data stored in the database column into the double entity attribute.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value to be stored in the entity attribute
+     */
+    double convertToDoubleAttribute(Y dbData);
+
+    @Override
+    default Y convertToDatabaseColumn(Double attribute) {
+        return convertDoubleToDatabaseColumn(attribute);
+    }
+
+    @Override
+    default Double convertToEntityAttribute(Y dbData) {
+        return convertToDoubleAttribute(dbData);
+    }
+}
@@ -26,7 +26,7 @@ import java.lang.annotation.Target;
  *  @see Entity
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface Id {
 
     String value() default "_id";
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+/**
+ * The {@link AttributeConverter} specialization to int entity attributes, the document and column converters
+ * read and write the int fields through these methods, so the attribute is not boxed.
+ *
+ * @param <Y> the type of the database column
+ */
+public interface IntAttributeConverter<Y> extends AttributeConverter<Integer, Y> {
+
+    /**
+     * Converts the int entity attribute into the data representation to be stored in the database.
+     *
+     * @param attribute the entity attribute value to be converted
+     * @return the converted data to be stored in the database column
+     */
+    Y convertIntToDatabaseColumn(int attribute);
+
+    /**
+     * Converts the data stored in the database column into the int entity attribute.
+     *
+     * @param dbData the data from the database column to be converted
+     * @return the converted value to be stored in the entity attribute
+     */
+    int convertToIntAttribute(Y dbData);
+
+    @Override
+    default Y convertToDatabaseColumn(Integer attribute) {
+        return convertIntToDatabaseColumn(attribute);
+    }
+
+    @Override
+    default Integer convertToEntityAttribute(Y dbData) {
+        return convertToIntAttribute(dbData);
+    }
+}
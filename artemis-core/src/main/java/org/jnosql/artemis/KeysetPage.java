@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page read with a {@link KeysetPagination}
+ *
+ * @param <T> the entity type
+ */
+public interface KeysetPage<T> {
+
+    /**
+     * Returns the entities of the page
+     *
+     * @return the entities
+     */
+    List<T> getContent();
+
+    /**
+     * Returns the pagination to the next page, it is empty when the page was not full, so it is the last one
+     *
+     * @return the next pagination otherwise {@link Optional#empty()}
+     */
+    Optional<KeysetPagination> next();
+
+    /**
+     * Creates the last page
+     *
+     * @param content the entities
+     * @param <T>     the entity type
+     * @return the page instance
+     * @throws NullPointerException when content is null
+     */
+    static <T> KeysetPage<T> of(List<T> content) {
+        return new DefaultKeysetPage<>(content, null);
+    }
+
+    /**
+     * Creates a page followed by another one
+     *
+     * @param content the entities
+     * @param next    the pagination to the next page
+     * @param <T>     the entity type
+     * @return the page instance
+     * @throws NullPointerException when either content or next are null
+     */
+    static <T> KeysetPage<T> of(List<T> content, KeysetPagination next) {
+        return new DefaultKeysetPage<>(content, Objects.requireNonNull(next, "next is required"));
+    }
+}
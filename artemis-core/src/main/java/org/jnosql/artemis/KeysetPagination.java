@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The keyset, or seek, pagination: instead of skipping the first results, the next page is read with a condition
+ * that starts after the sort values of the last entity read, so each page costs the same regardless of its position.
+ * The query must be sorted and the keys are the database values of the sort fields, in the sort order.
+ * The next pagination comes from {@link KeysetPage#next()}.
+ */
+public interface KeysetPagination {
+
+    /**
+     * Returns the max number of entities in the page
+     *
+     * @return the page size
+     */
+    long getMaxResults();
+
+    /**
+     * Returns the sort values of the last entity of the previous page, in the sort order,
+     * an empty list in the first page
+     *
+     * @return the keys
+     */
+    List<Object> getKeys();
+
+    /**
+     * Creates the pagination to the first page
+     *
+     * @param maxResults the page size
+     * @return the pagination instance
+     * @throws IllegalArgumentException when maxResults is lower than one
+     */
+    static KeysetPagination of(long maxResults) {
+        return new DefaultKeysetPagination(maxResults, Collections.emptyList());
+    }
+
+    /**
+     * Creates the pagination to the page after the keys
+     *
+     * @param maxResults the page size
+     * @param keys       the sort values of the last entity of the previous page, in the sort order
+     * @return the pagination instance
+     * @throws NullPointerException     when keys is null
+     * @throws IllegalArgumentException when maxResults is lower than one
+     */
+    static KeysetPagination of(long maxResults, List<Object> keys) {
+        return new DefaultKeysetPagination(maxResults, keys);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Keeps the query results in the {@link QueryCache} for the time to live. On an entity it applies to every
+ * select of its collection, on a repository interface it applies to the queries of its methods and
+ * takes precedence over the entity one.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CacheQueries {
+
+    /**
+     * The time to live of each result
+     *
+     * @return the time to live
+     */
+    long ttl();
+
+    /**
+     * The unit of the {@link #ttl()}
+     *
+     * @return the unit, by default seconds
+     */
+    ChronoUnit unit() default ChronoUnit.SECONDS;
+}
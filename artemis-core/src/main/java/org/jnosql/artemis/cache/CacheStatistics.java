@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+/**
+ * The usage of a cache since it was created
+ */
+public interface CacheStatistics {
+
+    /**
+     * Returns the number of reads that found a value
+     *
+     * @return the hit count
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of reads that did not find a value, either absent or expired
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of values removed to keep the cache within its bound
+     *
+     * @return the eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the ratio of the reads that found a value
+     *
+     * @return the hit count divided by the number of reads, zero when there was no read
+     */
+    default double getHitRatio() {
+        long requests = getHitCount() + getMissCount();
+        return requests == 0 ? 0D : (double) getHitCount() / requests;
+    }
+
+    /**
+     * Creates a statistics
+     *
+     * @param hitCount      the hit count
+     * @param missCount     the miss count
+     * @param evictionCount the eviction count
+     * @return a new statistics
+     */
+    static CacheStatistics of(long hitCount, long missCount, long evictionCount) {
+        return new DefaultCacheStatistics(hitCount, missCount, evictionCount);
+    }
+}
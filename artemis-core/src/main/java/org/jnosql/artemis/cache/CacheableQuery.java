@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A query that carries the time to live of its result in the {@link QueryCache}
+ */
+public interface CacheableQuery {
+
+    /**
+     * Returns the time to live of the query result
+     *
+     * @return the time to live
+     */
+    Duration getCacheTtl();
+
+    /**
+     * Returns the time to live of the {@link CacheQueries} of the type
+     *
+     * @param type either an entity or a repository interface
+     * @return the time to live otherwise {@link Optional#empty()} when the type is not annotated
+     * @throws NullPointerException when type is null
+     */
+    static Optional<Duration> getCacheTtl(Class<?> type) {
+        return Optional.ofNullable(type.getAnnotation(CacheQueries.class)).map(c -> c.unit().getDuration().multipliedBy(c.ttl()));
+    }
+}
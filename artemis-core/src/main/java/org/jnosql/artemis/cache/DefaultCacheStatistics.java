@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.util.Objects;
+
+final class DefaultCacheStatistics implements CacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    DefaultCacheStatistics(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheStatistics)) {
+            return false;
+        }
+        CacheStatistics that = (CacheStatistics) o;
+        return hitCount == that.getHitCount() && missCount == that.getMissCount()
+                && evictionCount == that.getEvictionCount();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCacheStatistics{");
+        sb.append("hitCount=").append(hitCount);
+        sb.append(", missCount=").append(missCount);
+        sb.append(", evictionCount=").append(evictionCount);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache of the entities read from the database by their entity class and id, the value is the database
+ * representation of the entity, so each read creates a new instance and the callers never share it.
+ * The implementations should be thread safe.
+ *
+ * @param <V> the database representation of the entity
+ */
+public interface EntityCache<V> {
+
+    /**
+     * Returns the value cached to the entity, an expired value is removed and counted as a miss
+     *
+     * @param entityClass the entity class
+     * @param id          the id value as it is stored in the database
+     * @return the value cached otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either entityClass or id are null
+     */
+    Optional<V> get(Class<?> entityClass, Object id);
+
+    /**
+     * Caches the value to the entity without expiration
+     *
+     * @param entityClass the entity class
+     * @param id          the id value as it is stored in the database
+     * @param value       the value
+     * @throws NullPointerException when either entityClass, id or value are null
+     */
+    void put(Class<?> entityClass, Object id, V value);
+
+    /**
+     * Caches the value to the entity until the time to live expires, a time to live that is
+     * either zero or negative removes the value instead
+     *
+     * @param entityClass the entity class
+     * @param id          the id value as it is stored in the database
+     * @param value       the value
+     * @param ttl         the time to live
+     * @throws NullPointerException when either entityClass, id, value or ttl are null
+     */
+    void put(Class<?> entityClass, Object id, V value, Duration ttl);
+
+    /**
+     * Caches the value to the entity without expiration only when the version of the entity class is still
+     * the one read by {@link #getVersion(Class)} before loading the value, so a value loaded while the entity
+     * class was written or removed is not cached
+     *
+     * @param entityClass the entity class
+     * @param id          the id value as it is stored in the database
+     * @param value       the value
+     * @param version     the version read before loading the value
+     * @return true when the value is cached
+     * @throws NullPointerException when either entityClass, id or value are null
+     */
+    boolean putIfVersion(Class<?> entityClass, Object id, V value, long version);
+
+    /**
+     * Returns the version of the values of the entity class, it changes at each put or removal
+     * of its values and at each clear
+     *
+     * @param entityClass the entity class
+     * @return the version
+     * @throws NullPointerException when entityClass is null
+     */
+    long getVersion(Class<?> entityClass);
+
+    /**
+     * Removes the value cached to the entity
+     *
+     * @param entityClass the entity class
+     * @param id          the id value as it is stored in the database
+     * @throws NullPointerException when either entityClass or id are null
+     */
+    void remove(Class<?> entityClass, Object id);
+
+    /**
+     * Removes all the values cached to the entity class
+     *
+     * @param entityClass the entity class
+     * @throws NullPointerException when entityClass is null
+     */
+    void removeAll(Class<?> entityClass);
+
+    /**
+     * Removes all the values
+     */
+    void clear();
+
+    /**
+     * Returns the hits, misses and evictions since the cache was created
+     *
+     * @return the statistics
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates a cache that keeps up to the maximum size of values and evicts the least recently used one
+     *
+     * @param maximumSize the maximum number of values
+     * @param <V>         the value type
+     * @return a new cache
+     * @throws IllegalArgumentException when maximumSize is either zero or negative
+     */
+    static <V> EntityCache<V> lru(int maximumSize) {
+        return new LruEntityCache<>(maximumSize, v -> 1L);
+    }
+
+    /**
+     * Creates a cache that keeps up to the maximum weight of values and evicts the least recently used ones,
+     * a value heavier than the maximum weight is not cached
+     *
+     * @param maximumWeight the maximum sum of the weights of the values
+     * @param weigher       the weight of each value
+     * @param <V>           the value type
+     * @return a new cache
+     * @throws IllegalArgumentException when maximumWeight is either zero or negative
+     * @throws NullPointerException     when weigher is null
+     */
+    static <V> EntityCache<V> lru(long maximumWeight, ToLongFunction<V> weigher) {
+        return new LruEntityCache<>(maximumWeight, weigher);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A least recently used cache on an access ordered {@link LinkedHashMap}, the keys belong to a group that
+ * is removed at once, and the values expire lazily when they are read.
+ * Each group has a version that changes at each write to it, so a value loaded meanwhile is not put.
+ * It is the storage of both {@link EntityCache} and {@link QueryCache}.
+ */
+final class LruCache<V> {
+
+    private static final long NEVER = 0L;
+
+    private final long maximumWeight;
+
+    private final ToLongFunction<V> weigher;
+
+    private final LinkedHashMap<Key, Entry<V>> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+    private final Map<Object, Set<Key>> groups = new HashMap<>();
+
+    private final Map<Object, Long> versions = new HashMap<>();
+
+    private long epoch;
+
+    private long weight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    LruCache(long maximumWeight, ToLongFunction<V> weigher) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("The maximum weight must be greater than zero: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = requireNonNull(weigher, "weigher is required");
+    }
+
+    synchronized Optional<V> get(Object group, Object id) {
+        Key key = new Key(group, id);
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        if (entry.isExpired()) {
+            remove(key);
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(entry.value);
+    }
+
+    void put(Object group, Object id, V value) {
+        put(new Key(group, id), requireNonNull(value, "value is required"), NEVER);
+    }
+
+    void put(Object group, Object id, V value, Duration ttl) {
+        Key key = new Key(group, id);
+        requireNonNull(value, "value is required");
+        requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative() || ttl.isZero()) {
+            synchronized (this) {
+                changed(key.group);
+                remove(key);
+            }
+            return;
+        }
+        put(key, value, System.nanoTime() + ttl.toNanos());
+    }
+
+    boolean putIfVersion(Object group, Object id, V value, long version) {
+        return putIfVersion(new Key(group, id), requireNonNull(value, "value is required"), NEVER, version);
+    }
+
+    boolean putIfVersion(Object group, Object id, V value, Duration ttl, long version) {
+        Key key = new Key(group, id);
+        requireNonNull(value, "value is required");
+        requireNonNull(ttl, "ttl is required");
+        if (ttl.isNegative() || ttl.isZero()) {
+            return false;
+        }
+        return putIfVersion(key, value, System.nanoTime() + ttl.toNanos(), version);
+    }
+
+    synchronized long getVersion(Object group) {
+        return epoch + versions.getOrDefault(requireNonNull(group, "group is required"), 0L);
+    }
+
+    synchronized void remove(Object group, Object id) {
+        Key key = new Key(group, id);
+        changed(group);
+        remove(key);
+    }
+
+    synchronized void removeAll(Object group) {
+        changed(requireNonNull(group, "group is required"));
+        Set<Key> keys = groups.remove(group);
+        if (keys != null) {
+            for (Key key : keys) {
+                weight -= entries.remove(key).weight;
+            }
+        }
+    }
+
+    synchronized void clear() {
+        epoch++;
+        entries.clear();
+        groups.clear();
+        weight = 0L;
+    }
+
+    synchronized CacheStatistics getStatistics() {
+        return CacheStatistics.of(hitCount, missCount, evictionCount);
+    }
+
+    private void put(Key key, V value, long expiresAt) {
+        long valueWeight = weigher.applyAsLong(value);
+        synchronized (this) {
+            changed(key.group);
+            store(key, value, valueWeight, expiresAt);
+        }
+    }
+
+    private boolean putIfVersion(Key key, V value, long expiresAt, long version) {
+        long valueWeight = weigher.applyAsLong(value);
+        synchronized (this) {
+            if (getVersion(key.group) != version) {
+                return false;
+            }
+            store(key, value, valueWeight, expiresAt);
+            return true;
+        }
+    }
+
+    private void store(Key key, V value, long valueWeight, long expiresAt) {
+        if (valueWeight > maximumWeight) {
+            remove(key);
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight, expiresAt));
+        if (previous != null) {
+            weight -= previous.weight;
+        } else {
+            groups.computeIfAbsent(key.group, g -> new HashSet<>()).add(key);
+        }
+        weight += valueWeight;
+        Iterator<Map.Entry<Key, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (weight > maximumWeight) {
+            Map.Entry<Key, Entry<V>> eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.getValue().weight;
+            removeFromGroup(eldest.getKey());
+            evictionCount++;
+        }
+    }
+
+    private void changed(Object group) {
+        versions.merge(group, 1L, Long::sum);
+    }
+
+    private void remove(Key key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            weight -= entry.weight;
+            removeFromGroup(key);
+        }
+    }
+
+    private void removeFromGroup(Key key) {
+        Set<Key> keys = groups.get(key.group);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            groups.remove(key.group);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder("LruCache{");
+        sb.append("maximumWeight=").append(maximumWeight);
+        sb.append(", weight=").append(weight);
+        sb.append(", size=").append(entries.size());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final long weight;
+
+        private final long expiresAt;
+
+        private Entry(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != NEVER && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    private static final class Key {
+
+        private final Object group;
+
+        private final Object id;
+
+        private Key(Object group, Object id) {
+            this.group = requireNonNull(group, "group is required");
+            this.id = requireNonNull(id, "key is required");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return group.equals(key.group) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(group, id);
+        }
+    }
+}
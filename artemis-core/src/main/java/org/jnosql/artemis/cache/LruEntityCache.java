@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link EntityCache} on a {@link LruCache} grouped by the entity class
+ */
+final class LruEntityCache<V> implements EntityCache<V> {
+
+    private final LruCache<V> cache;
+
+    LruEntityCache(long maximumWeight, ToLongFunction<V> weigher) {
+        this.cache = new LruCache<>(maximumWeight, weigher);
+    }
+
+    @Override
+    public Optional<V> get(Class<?> entityClass, Object id) {
+        return cache.get(requireNonNull(entityClass, "entityClass is required"),
+                requireNonNull(id, "id is required"));
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Object id, V value) {
+        cache.put(requireNonNull(entityClass, "entityClass is required"),
+                requireNonNull(id, "id is required"), value);
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Object id, V value, Duration ttl) {
+        cache.put(requireNonNull(entityClass, "entityClass is required"),
+                requireNonNull(id, "id is required"), value, ttl);
+    }
+
+    @Override
+    public boolean putIfVersion(Class<?> entityClass, Object id, V value, long version) {
+        return cache.putIfVersion(requireNonNull(entityClass, "entityClass is required"),
+                requireNonNull(id, "id is required"), value, version);
+    }
+
+    @Override
+    public long getVersion(Class<?> entityClass) {
+        return cache.getVersion(requireNonNull(entityClass, "entityClass is required"));
+    }
+
+    @Override
+    public void remove(Class<?> entityClass, Object id) {
+        cache.remove(requireNonNull(entityClass, "entityClass is required"),
+                requireNonNull(id, "id is required"));
+    }
+
+    @Override
+    public void removeAll(Class<?> entityClass) {
+        cache.removeAll(requireNonNull(entityClass, "entityClass is required"));
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LruEntityCache{");
+        sb.append("cache=").append(cache);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link QueryCache} on a {@link LruCache} grouped by the collection name
+ */
+final class LruQueryCache<V> implements QueryCache<V> {
+
+    private final LruCache<V> cache;
+
+    LruQueryCache(long maximumWeight, ToLongFunction<V> weigher) {
+        this.cache = new LruCache<>(maximumWeight, weigher);
+    }
+
+    @Override
+    public Optional<V> get(String collection, Object query) {
+        return cache.get(requireNonNull(collection, "collection is required"),
+                requireNonNull(query, "query is required"));
+    }
+
+    @Override
+    public void put(String collection, Object query, V value, Duration ttl) {
+        cache.put(requireNonNull(collection, "collection is required"),
+                requireNonNull(query, "query is required"), value, ttl);
+    }
+
+    @Override
+    public boolean putIfVersion(String collection, Object query, V value, Duration ttl, long version) {
+        return cache.putIfVersion(requireNonNull(collection, "collection is required"),
+                requireNonNull(query, "query is required"), value, ttl, version);
+    }
+
+    @Override
+    public long getVersion(String collection) {
+        return cache.getVersion(requireNonNull(collection, "collection is required"));
+    }
+
+    @Override
+    public void removeAll(String collection) {
+        cache.removeAll(requireNonNull(collection, "collection is required"));
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LruQueryCache{");
+        sb.append("cache=").append(cache);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache of the query results by the collection name and a structural key of the query, so the same
+ * conditions, sorts, start and limit find the same result. The values are the database representation
+ * of the entities and all the results of a collection are removed when it is written.
+ * The implementations should be thread safe.
+ *
+ * @param <V> the database representation of the result
+ * @see CacheQueries
+ */
+public interface QueryCache<V> {
+
+    /**
+     * Returns the result cached to the query, an expired value is removed and counted as a miss
+     *
+     * @param collection the collection name
+     * @param query      the structural key of the query
+     * @return the result cached otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either collection or query are null
+     */
+    Optional<V> get(String collection, Object query);
+
+    /**
+     * Caches the result of the query until the time to live expires, a time to live that is
+     * either zero or negative removes the value instead
+     *
+     * @param collection the collection name
+     * @param query      the structural key of the query
+     * @param value      the result
+     * @param ttl        the time to live
+     * @throws NullPointerException when either collection, query, value or ttl are null
+     */
+    void put(String collection, Object query, V value, Duration ttl);
+
+    /**
+     * Caches the result of the query until the time to live expires only when the version of the collection
+     * is still the one read by {@link #getVersion(String)} before running the query, so a result read while
+     * the collection was written is not cached. A time to live that is either zero or negative doesn't cache it
+     *
+     * @param collection the collection name
+     * @param query      the structural key of the query
+     * @param value      the result
+     * @param ttl        the time to live
+     * @param version    the version read before running the query
+     * @return true when the result is cached
+     * @throws NullPointerException when either collection, query, value or ttl are null
+     */
+    boolean putIfVersion(String collection, Object query, V value, Duration ttl, long version);
+
+    /**
+     * Returns the version of the results of the collection, it changes at each put or removal
+     * of its results and at each clear
+     *
+     * @param collection the collection name
+     * @return the version
+     * @throws NullPointerException when collection is null
+     */
+    long getVersion(String collection);
+
+    /**
+     * Removes all the results of the collection
+     *
+     * @param collection the collection name
+     * @throws NullPointerException when collection is null
+     */
+    void removeAll(String collection);
+
+    /**
+     * Removes all the results
+     */
+    void clear();
+
+    /**
+     * Returns the hits, misses and evictions since the cache was created
+     *
+     * @return the statistics
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates a cache that keeps up to the maximum size of results and evicts the least recently used one
+     *
+     * @param maximumSize the maximum number of results
+     * @param <V>         the value type
+     * @return a new cache
+     * @throws IllegalArgumentException when maximumSize is either zero or negative
+     */
+    static <V> QueryCache<V> lru(int maximumSize) {
+        return new LruQueryCache<>(maximumSize, v -> 1L);
+    }
+
+    /**
+     * Creates a cache that keeps up to the maximum weight of results and evicts the least recently used ones,
+     * a result heavier than the maximum weight is not cached
+     *
+     * @param maximumWeight the maximum sum of the weights of the results
+     * @param weigher       the weight of each result
+     * @param <V>           the value type
+     * @return a new cache
+     * @throws IllegalArgumentException when maximumWeight is either zero or negative
+     * @throws NullPointerException     when weigher is null
+     */
+    static <V> QueryCache<V> lru(long maximumWeight, ToLongFunction<V> weigher) {
+        return new LruQueryCache<>(maximumWeight, weigher);
+    }
+}
@@ -35,14 +35,17 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     protected final String fieldName;
 
-    protected final Optional<Class<? extends AttributeConverter>> converter;
+    protected final Class<? extends AttributeConverter> converter;
+
+    private final FieldAccessor accessor;
 
     AbstractFieldRepresentation(FieldType type, Field field, String name, Class<? extends AttributeConverter> converter) {
         this.type = type;
         this.field = field;
-        this.name = name;
+        this.name = name.intern();
         this.fieldName = field.getName();
-        this.converter = Optional.ofNullable(converter);
+        this.converter = converter;
+        this.accessor = FieldAccessor.of(field);
     }
 
     @Override
@@ -68,6 +71,11 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     @Override
     public <T extends AttributeConverter> Optional<Class<? extends AttributeConverter>> getConverter() {
+        return Optional.ofNullable(converter);
+    }
+
+    @Override
+    public Class<? extends AttributeConverter> getConverterClass() {
         return converter;
     }
 
@@ -87,4 +95,44 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
     public Object getValue(Value value) {
         return value.get(field.getType());
     }
+
+    @Override
+    public Object read(Object bean) {
+        return accessor.read(bean);
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        accessor.write(bean, value);
+    }
+
+    @Override
+    public int readInt(Object bean) {
+        return accessor.readInt(bean);
+    }
+
+    @Override
+    public void writeInt(Object bean, int value) {
+        accessor.writeInt(bean, value);
+    }
+
+    @Override
+    public long readLong(Object bean) {
+        return accessor.readLong(bean);
+    }
+
+    @Override
+    public void writeLong(Object bean, long value) {
+        accessor.writeLong(bean, value);
+    }
+
+    @Override
+    public double readDouble(Object bean) {
+        return accessor.readDouble(bean);
+    }
+
+    @Override
+    public void writeDouble(Object bean, double value) {
+        accessor.writeDouble(bean, value);
+    }
 }
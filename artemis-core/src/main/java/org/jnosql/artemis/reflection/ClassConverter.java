@@ -14,23 +14,32 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.Column;
 import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.Id;
+import org.jnosql.artemis.util.StringUtils;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
 @ApplicationScoped
 class ClassConverter {
@@ -38,10 +47,13 @@ class ClassConverter {
 
     private Reflections reflections;
 
+    private Map<Class<?>, ClassMetadata> metadata = Collections.emptyMap();
+
 
     @Inject
     ClassConverter(Reflections reflections) {
         this.reflections = reflections;
+        this.metadata = loadMetadata();
     }
 
     ClassConverter() {
@@ -49,114 +61,236 @@ class ClassConverter {
 
     public ClassRepresentation create(Class<?> entityClass) {
 
-        Constructor constructor = reflections.makeAccessible(entityClass);
-
-        String entityName = reflections.getEntityName(entityClass);
+        ClassMetadata classMetadata = metadata.get(entityClass);
+        if (nonNull(classMetadata)) {
+            return create(entityClass, classMetadata);
+        }
 
-        List<FieldRepresentation> fields = reflections.getFields(entityClass)
-                .stream().map(this::to).collect(toList());
+        List<FieldRepresentation> fields = getFields(entityClass);
+        ConstructorRepresentation parameterizedConstructor = getParameterizedConstructor(entityClass, fields);
+        Constructor constructor = isNull(parameterizedConstructor) || hasNoArgConstructor(entityClass)
+                ? reflections.makeAccessible(entityClass) : null;
 
-        List<String> fieldsName = fields.stream().map(FieldRepresentation::getName).collect(toList());
+        FieldPathTrie fieldPaths = new FieldPathTrie();
+        appendPaths(fieldPaths, fields, "");
+        fieldPaths.trim();
 
-        Map<String, NativeMapping> nativeFieldGroupByJavaField =
-                getNativeFieldGroupByJavaField(fields, "", "");
+        return DefaultClassRepresentation.builder().withName(reflections.getEntityName(entityClass))
+                .withClassInstance(entityClass)
+                .withFields(fields)
+                .withConstructor(constructor)
+                .withInstanceSupplier(getInstanceSupplier(entityClass, constructor))
+                .withParameterizedConstructor(parameterizedConstructor)
+                .withFieldPaths(fieldPaths)
+                .build();
+    }
 
-        Map<String, FieldRepresentation> fieldsGroupedByName = fields.stream()
-                .collect(collectingAndThen(toMap(FieldRepresentation::getName,
-                        Function.identity()), Collections::unmodifiableMap));
+    /**
+     * Creates the representation from the generated metadata, the fields, constructors and field paths
+     * are looked up by name instead of scanning the class
+     */
+    private ClassRepresentation create(Class<?> entityClass, ClassMetadata classMetadata) {
+
+        List<FieldRepresentation> fields = getFields(entityClass);
+        ConstructorRepresentation parameterizedConstructor = getParameterizedConstructor(entityClass,
+                classMetadata.getConstructor(), fields);
+        Constructor constructor = getNoArgConstructor(entityClass);
+        if (isNull(constructor) && isNull(parameterizedConstructor)) {
+            throw new ConstructorException(entityClass);
+        }
+        Supplier<?> instanceSupplier = nonNull(classMetadata.getInstanceSupplier())
+                ? classMetadata.getInstanceSupplier() : getInstanceSupplier(entityClass, constructor);
 
-        return DefaultClassRepresentation.builder().withName(entityName)
+        return DefaultClassRepresentation.builder().withName(classMetadata.getName())
                 .withClassInstance(entityClass)
                 .withFields(fields)
-                .withFieldsName(fieldsName)
                 .withConstructor(constructor)
-                .withJavaFieldGroupedByColumn(nativeFieldGroupByJavaField)
-                .withFieldsGroupedByName(fieldsGroupedByName)
+                .withInstanceSupplier(instanceSupplier)
+                .withParameterizedConstructor(parameterizedConstructor)
+                .withFieldPaths(getFieldPaths(entityClass, classMetadata, fields))
                 .build();
     }
 
-    private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldRepresentation> fields,
-                                                               String javaField, String nativeField) {
+    private Supplier<?> getInstanceSupplier(Class<?> entityClass, Constructor constructor) {
+        if (isNull(constructor)) {
+            return () -> {
+                throw new ConstructorException(entityClass);
+            };
+        }
+        return ConstructorSupplier.of(constructor);
+    }
 
-        Map<String, NativeMapping> nativeFieldGrouopByJavaField = new HashMap<>();
+    private Constructor getNoArgConstructor(Class<?> entityClass) {
+        try {
+            Constructor constructor = entityClass.getDeclaredConstructor();
+            if (!Modifier.isPublic(constructor.getModifiers())) {
+                constructor.setAccessible(true);
+            }
+            return constructor;
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
 
-        for (FieldRepresentation field : fields) {
-            appendValue(nativeFieldGrouopByJavaField, field, javaField, nativeField);
+    private boolean hasNoArgConstructor(Class<?> entityClass) {
+        return Stream.of(entityClass.getDeclaredConstructors()).anyMatch(c -> c.getParameterCount() == 0);
+    }
+
+    private ConstructorRepresentation getParameterizedConstructor(Class<?> entityClass,
+                                                                  List<FieldRepresentation> fields) {
+        List<Constructor<?>> annotated = Stream.of(entityClass.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() > 0)
+                .filter(c -> Stream.of(c.getParameters()).allMatch(this::isMapped))
+                .collect(toList());
+        if (annotated.isEmpty()) {
+            return null;
+        }
+        if (annotated.size() > 1) {
+            throw new ArtemisException("The class " + entityClass.getName()
+                    + " has more than one constructor with all parameters annotated: " + annotated);
+        }
+        Constructor<?> constructor = annotated.get(0);
+        List<String> names = Stream.of(constructor.getParameters()).map(this::getParameterName).collect(toList());
+        List<FieldRepresentation> parameters = getParameters(entityClass, names, fields);
+        return DefaultConstructorRepresentation.of(constructor, parameters, getFieldIndexes(parameters, fields));
+    }
+
+    private ConstructorRepresentation getParameterizedConstructor(Class<?> entityClass,
+                                                                  ConstructorMetadata constructorMetadata,
+                                                                  List<FieldRepresentation> fields) {
+        if (isNull(constructorMetadata)) {
+            return null;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = entityClass.getDeclaredConstructor(constructorMetadata.getParameterTypes()
+                    .toArray(new Class<?>[0]));
+        } catch (NoSuchMethodException exception) {
+            throw new ArtemisException("The constructor " + constructorMetadata + " was not found in the class "
+                    + entityClass.getName() + ", the generated metadata is out of date");
+        }
+        List<FieldRepresentation> parameters = getParameters(entityClass, constructorMetadata.getParameters(), fields);
+        int[] fieldIndexes = getFieldIndexes(parameters, fields);
+        if (isNull(constructorMetadata.getFactory())) {
+            return DefaultConstructorRepresentation.of(constructor, parameters, fieldIndexes);
+        }
+        return DefaultConstructorRepresentation.of(constructor, parameters, fieldIndexes,
+                constructorMetadata.getFactory());
+    }
+
+    private List<FieldRepresentation> getParameters(Class<?> entityClass, List<String> names,
+                                                    List<FieldRepresentation> fields) {
+        List<FieldRepresentation> parameters = new ArrayList<>();
+        for (String name : names) {
+            parameters.add(fields.stream().filter(f -> f.getName().equals(name)).findFirst()
+                    .orElseThrow(() -> new ArtemisException("The constructor parameter " + name
+                            + " does not match any mapped field in the class " + entityClass.getName())));
+        }
+        return parameters;
+    }
+
+    private int[] getFieldIndexes(List<FieldRepresentation> parameters, List<FieldRepresentation> fields) {
+        return parameters.stream().mapToInt(fields::indexOf).toArray();
+    }
+
+    private boolean isMapped(Parameter parameter) {
+        return parameter.isAnnotationPresent(Column.class) || parameter.isAnnotationPresent(Id.class);
+    }
+
+    private String getParameterName(Parameter parameter) {
+        Id id = parameter.getAnnotation(Id.class);
+        String name = nonNull(id) ? id.value() : parameter.getAnnotation(Column.class).value();
+        if (StringUtils.isNotBlank(name)) {
+            return name;
+        }
+        if (parameter.isNamePresent()) {
+            return parameter.getName();
         }
+        throw new ArtemisException("The constructor parameter " + parameter + " requires a name either at "
+                + "the annotation or compiling with the -parameters option");
+    }
 
-        return nativeFieldGrouopByJavaField;
+    private FieldPathTrie getFieldPaths(Class<?> entityClass, ClassMetadata classMetadata,
+                                        List<FieldRepresentation> fields) {
+
+        Map<Class<?>, List<FieldRepresentation>> owners = new HashMap<>();
+        owners.put(entityClass, fields);
+        FieldPathTrie root = new FieldPathTrie();
+        for (FieldPathMetadata fieldPath : classMetadata.getFieldPaths()) {
+            FieldPathTrie node = root;
+            String fieldName = null;
+            for (String segment : fieldPath.getPath().split("\\.")) {
+                node = node.add(segment);
+                fieldName = segment;
+            }
+            String name = fieldName;
+            FieldRepresentation field = owners.computeIfAbsent(fieldPath.getOwnerClass(), this::getFields).stream()
+                    .filter(f -> f.getFieldName().equals(name)).findFirst()
+                    .orElseThrow(() -> new ArtemisException("The field path " + fieldPath.getPath()
+                            + " was not found in the class " + entityClass.getName()
+                            + ", the generated metadata is out of date"));
+            node.setMapping(NativeMapping.of(fieldPath.getNativeField(), field));
+        }
+        root.trim();
+        return root;
     }
 
-    private void appendValue(Map<String, NativeMapping> nativeFieldGroupByJavaField, FieldRepresentation field,
-                             String javaField, String nativeField) {
+    private void appendPaths(FieldPathTrie node, List<FieldRepresentation> fields, String nativeField) {
 
+        for (FieldRepresentation field : fields) {
+            appendPath(node, field, nativeField);
+        }
+    }
+
+    private void appendPath(FieldPathTrie node, FieldRepresentation field, String nativeField) {
 
+        FieldPathTrie child = node.add(field.getFieldName());
         switch (field.getType()) {
             case SUBENTITY:
-                appendFields(nativeFieldGroupByJavaField, field, javaField, nativeField);
+                appendFields(child, field, nativeField, field.getNativeField().getType());
                 return;
             case EMBEDDED:
-                appendFields(nativeFieldGroupByJavaField, field, javaField, appendPreparePrefix(nativeField, field.getName()));
+                appendFields(child, field, appendPreparePrefix(nativeField, field.getName()),
+                        field.getNativeField().getType());
                 return;
             case COLLECTION:
-                if(GenericFieldRepresentation.class.cast(field).isEmbeddable()) {
+                if (GenericFieldRepresentation.class.cast(field).isEmbeddable()) {
                     Class<?> entityClass = GenericFieldRepresentation.class.cast(field).getElementType();
-                    String nativeFieldAppended = appendPreparePrefix(nativeField, field.getName());
-                    appendFields(nativeFieldGroupByJavaField, field, javaField, nativeFieldAppended, entityClass);
+                    appendFields(child, field, appendPreparePrefix(nativeField, field.getName()), entityClass);
                     return;
                 }
-                appendDefaultField(nativeFieldGroupByJavaField, field, javaField, nativeField);
+                child.setMapping(NativeMapping.of(nativeField.concat(field.getName()), field));
                 return;
             default:
-                appendDefaultField(nativeFieldGroupByJavaField, field, javaField, nativeField);
+                child.setMapping(NativeMapping.of(nativeField.concat(field.getName()), field));
         }
 
     }
 
-    private void appendDefaultField(Map<String, NativeMapping> nativeFieldGroupByJavaField,
-                                    FieldRepresentation field, String javaField, String nativeField) {
-
-        nativeFieldGroupByJavaField.put(javaField.concat(field.getFieldName()),
-                NativeMapping.of(nativeField.concat(field.getName()), field));
-    }
-
-    private void appendFields(Map<String, NativeMapping> nativeFieldGroupByJavaField,
-                              FieldRepresentation field,
-                              String javaField, String nativeField) {
-
-        Class<?> entityClass = field.getNativeField().getType();
-        appendFields(nativeFieldGroupByJavaField, field, javaField, nativeField, entityClass);
-    }
-
-    private void appendFields(Map<String, NativeMapping> nativeFieldGroupByJavaField,
-                              FieldRepresentation field, String javaField, String nativeField,
+    private void appendFields(FieldPathTrie node, FieldRepresentation field, String nativeField,
                               Class<?> entityClass) {
 
-        Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(
-                reflections.getFields(entityClass)
-                        .stream().map(this::to).collect(toList()),
-                appendPreparePrefix(javaField, field.getFieldName()), nativeField);
-
-        String nativeElement = entityMap.values().stream().map(NativeMapping::getNativeField)
+        appendPaths(node, getFields(entityClass), nativeField);
+        List<NativeMapping> mappings = new ArrayList<>();
+        node.appendDescendants(mappings);
+        String nativeElement = mappings.stream().map(NativeMapping::getNativeField)
                 .collect(Collectors.joining(","));
-
-        nativeFieldGroupByJavaField.put(appendPrefix(javaField, field.getFieldName()), NativeMapping.of(nativeElement, field));
-        nativeFieldGroupByJavaField.putAll(entityMap);
+        node.setMapping(NativeMapping.of(nativeElement, field));
     }
 
     private String appendPreparePrefix(String prefix, String field) {
-        return appendPrefix(prefix, field).concat(".");
+        return prefix.concat(field).concat(".");
     }
 
-    private String appendPrefix(String prefix, String field) {
-        if (prefix.isEmpty()) {
-            return field;
-        } else {
-            return prefix.concat(field);
+
+    private List<FieldRepresentation> getFields(Class<?> entityClass) {
+        ClassMetadata classMetadata = metadata.get(entityClass);
+        if (nonNull(classMetadata)) {
+            return classMetadata.getFields().stream().map(this::to).collect(toList());
         }
+        return reflections.getFields(entityClass).stream().map(this::to).collect(toList());
     }
 
-
     private FieldRepresentation to(Field field) {
         FieldType fieldType = FieldType.of(field);
         reflections.makeAccessible(field);
@@ -169,18 +303,51 @@ class ClassConverter {
         if (nonNull(convert)) {
             builder.withConverter(convert.value());
         }
+        return build(builder, field, fieldType, () -> reflections.getEntityName(field.getType()));
+    }
+
+    private FieldRepresentation to(FieldMetadata fieldMetadata) {
+        Field field;
+        try {
+            field = fieldMetadata.getDeclaringClass().getDeclaredField(fieldMetadata.getFieldName());
+        } catch (NoSuchFieldException exception) {
+            throw new ArtemisException("The field " + fieldMetadata.getFieldName() + " was not found in the class "
+                    + fieldMetadata.getDeclaringClass().getName() + ", the generated metadata is out of date");
+        }
+        reflections.makeAccessible(field);
+        FieldRepresentationBuilder builder = FieldRepresentation.builder().withName(fieldMetadata.getName())
+                .withField(field).withType(fieldMetadata.getType()).withId(fieldMetadata.isId())
+                .withConverter(fieldMetadata.getConverter());
+        return build(builder, field, fieldMetadata.getType(), fieldMetadata::getEntityName);
+    }
+
+    private FieldRepresentation build(FieldRepresentationBuilder builder, Field field, FieldType fieldType,
+                                      Supplier<String> entityName) {
         switch (fieldType) {
             case COLLECTION:
             case MAP:
                 builder.withTypeSupplier(field::getGenericType);
                 return builder.buildGeneric();
             case EMBEDDED:
-                return builder.withEntityName(reflections.getEntityName(field.getType())).buildEmedded();
+                return builder.withEntityName(entityName.get()).buildEmedded();
             default:
                 return builder.buildDefault();
+        }
+    }
 
+    /**
+     * @return the classes that have a generated {@link ClassMetadata}
+     */
+    Set<Class<?>> getGeneratedClasses() {
+        return metadata.keySet();
+    }
 
+    private static Map<Class<?>, ClassMetadata> loadMetadata() {
+        Map<Class<?>, ClassMetadata> metadata = new HashMap<>();
+        for (ClassMetadata classMetadata : ServiceLoader.load(ClassMetadata.class)) {
+            metadata.put(classMetadata.getClassInstance(), classMetadata);
         }
+        return Collections.unmodifiableMap(metadata);
     }
 
 }
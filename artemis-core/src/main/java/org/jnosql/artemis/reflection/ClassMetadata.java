@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The metadata of an entity, embeddable or subentity class resolved at compile time.
+ * The implementations are generated by the artemis-processor and registered as {@link java.util.ServiceLoader}
+ * providers, when present the {@link ClassRepresentation} is built from it instead of scanning the class.
+ */
+public interface ClassMetadata {
+
+    /**
+     * @return The class
+     */
+    Class<?> getClassInstance();
+
+    /**
+     * @return the Entity name
+     */
+    String getName();
+
+    /**
+     * @return The fields metadata in the same order that {@link Reflections#getFields(Class)} would return
+     */
+    List<FieldMetadata> getFields();
+
+    /**
+     * @return the factory that calls the no arg constructor directly, or null when the constructor
+     * is not visible to the generated class, then the instances are created from a bound {@link java.lang.reflect.Constructor}
+     */
+    Supplier<?> getInstanceSupplier();
+
+    /**
+     * @return the constructor whose parameters are all mapped, or null when the class does not declare it
+     */
+    ConstructorMetadata getConstructor();
+
+    /**
+     * @return every Java field path of the class, including the fields of the embedded and subentity fields,
+     * each path comes before the paths below it
+     */
+    List<FieldPathMetadata> getFieldPaths();
+}
@@ -18,6 +18,7 @@ import java.lang.reflect.Constructor;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * This class is a representation of {@link Class} in cached way
@@ -50,6 +51,24 @@ public interface ClassRepresentation {
      */
     Constructor getConstructor();
 
+    /**
+     * Returns the factory that creates new instances of {@link ClassRepresentation#getClassInstance()}
+     * without going through {@link Constructor#newInstance(Object...)}
+     *
+     * @param <T> the instance type
+     * @return the instance factory
+     */
+    <T> Supplier<T> getInstanceSupplier();
+
+    /**
+     * Returns the constructor that creates the entity from its field values in a single call,
+     * when the class declares a constructor with all parameters annotated with either
+     * {@link org.jnosql.artemis.Column} or {@link org.jnosql.artemis.Id}
+     *
+     * @return the parameterized constructor otherwise {@link Optional#empty()}
+     */
+    Optional<ConstructorRepresentation> getParameterizedConstructor();
+
 
     /**
      * Gets the native column name from the Java field name
@@ -69,6 +88,16 @@ public interface ClassRepresentation {
      */
     Optional<FieldRepresentation> getFieldRepresentation(String javaField);
 
+    /**
+     * Resolves the java field path, such as {@code address.geo.lat}, segment by segment, so query builders
+     * and converters read the native name and the fields of the path from a single lookup
+     *
+     * @param javaField the java field path split by dot
+     * @return the resolved path otherwise {@link Optional#empty()}
+     * @throws NullPointerException when the javaField is null
+     */
+    Optional<FieldPath> getFieldPath(String javaField);
+
     /**
      * Returns a Fields grouped by the name
      *
@@ -78,6 +107,17 @@ public interface ClassRepresentation {
      */
     Map<String, FieldRepresentation> getFieldsGroupByName();
 
+    /**
+     * Returns the position in {@link ClassRepresentation#getFields()} of the field from its
+     * {@link FieldRepresentation#getName()}, so converters can keep their per-field state in arrays
+     * and find it with a single lookup.
+     *
+     * @param name the field name {@link FieldRepresentation#getName()}
+     * @return the field index otherwise -1
+     * @throws NullPointerException when name is null
+     */
+    int getFieldIndex(String name);
+
 
     /**
      * Returns the field that has {@link org.jnosql.artemis.Id} annotation
@@ -17,36 +17,29 @@ package org.jnosql.artemis.reflection;
 import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-
-import static java.util.Collections.emptyMap;
+import java.util.function.Supplier;
 
 class ClassRepresentationBuilder {
 
     private String name;
 
-    private List<String> fieldsName = Collections.emptyList();
-
     private Class<?> classInstance;
 
     private Constructor constructor;
 
-    private List<FieldRepresentation> fields = Collections.emptyList();
+    private Supplier<?> instanceSupplier;
 
-    private Map<String, NativeMapping> javaFieldGroupedByColumn = emptyMap();
+    private ConstructorRepresentation parameterizedConstructor;
 
-    private Map<String, FieldRepresentation> fieldsGroupedByName = emptyMap();
+    private List<FieldRepresentation> fields = Collections.emptyList();
+
+    private FieldPathTrie fieldPaths = new FieldPathTrie();
 
     public ClassRepresentationBuilder withName(String name) {
         this.name = name;
         return this;
     }
 
-    public ClassRepresentationBuilder withFieldsName(List<String> fieldsName) {
-        this.fieldsName = fieldsName;
-        return this;
-    }
-
     public ClassRepresentationBuilder withClassInstance(Class<?> classInstance) {
         this.classInstance = classInstance;
         return this;
@@ -62,18 +55,23 @@ class ClassRepresentationBuilder {
         return this;
     }
 
-    public ClassRepresentationBuilder withJavaFieldGroupedByColumn(Map<String, NativeMapping> javaFieldGroupedByColumn) {
-        this.javaFieldGroupedByColumn = javaFieldGroupedByColumn;
+    public ClassRepresentationBuilder withInstanceSupplier(Supplier<?> instanceSupplier) {
+        this.instanceSupplier = instanceSupplier;
+        return this;
+    }
+
+    public ClassRepresentationBuilder withParameterizedConstructor(ConstructorRepresentation parameterizedConstructor) {
+        this.parameterizedConstructor = parameterizedConstructor;
         return this;
     }
 
-    public ClassRepresentationBuilder withFieldsGroupedByName(Map<String, FieldRepresentation> fieldsGroupedByName) {
-        this.fieldsGroupedByName = fieldsGroupedByName;
+    public ClassRepresentationBuilder withFieldPaths(FieldPathTrie fieldPaths) {
+        this.fieldPaths = fieldPaths;
         return this;
     }
 
     public ClassRepresentation build() {
-        return new DefaultClassRepresentation(name, fieldsName, classInstance, fields,
-                constructor, javaFieldGroupedByColumn, fieldsGroupedByName);
+        return new DefaultClassRepresentation(name, classInstance, fields,
+                constructor, instanceSupplier, parameterizedConstructor, fieldPaths);
     }
 }
\ No newline at end of file
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * This class contains all the class in cached way to be used inside artemis.
@@ -39,4 +41,15 @@ public interface ClassRepresentations {
      */
     ClassRepresentation findByName(String name);
 
+    /**
+     * Returns the {@link ClassRepresentation} instances from {@link ClassRepresentation#getName()} in ignore case,
+     * so a result with several entities resolves all the names once
+     *
+     * @param names the names to select the {@link ClassRepresentation} instances
+     * @return the {@link ClassRepresentation} grouped by the name given
+     * @throws NullPointerException              when names is null
+     * @throws ClassInformationNotFoundException when any class is not loaded
+     */
+    Map<String, ClassRepresentation> findByNames(Collection<String> names);
+
 }
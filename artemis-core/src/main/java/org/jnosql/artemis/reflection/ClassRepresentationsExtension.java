@@ -15,67 +15,174 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.Embeddable;
 import org.jnosql.artemis.Entity;
 import org.jnosql.artemis.Subentity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.BeforeBeanDiscovery;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.WithAnnotations;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * This class is a CDI extension to load all class that has {@link Entity} annotation.
- * This extension will load all Classes and put in a map.
- * Where the key is {@link Class#getName()} and the value is {@link ClassRepresentation}
+ * The classes are recorded while the types are discovered, and their representations are built in parallel
+ * after the bean discovery. The classes with a generated {@link ClassMetadata} are registered from
+ * the {@link java.util.ServiceLoader} providers instead, so they don't need to be discovered by CDI. They are put in a map
+ * where the key is {@link Class#getName()} and the value is {@link ClassRepresentation}.
+ * The packages scanned can be limited with the system properties {@value #INCLUDE_PACKAGES} and
+ * {@value #EXCLUDE_PACKAGES}, both a comma separated list of package prefixes.
  */
 @ApplicationScoped
 public class ClassRepresentationsExtension implements Extension {
 
+    /**
+     * The system property with the package prefixes to be scanned, when it's not defined all packages are scanned
+     */
+    public static final String INCLUDE_PACKAGES = "jnosql.artemis.scan.include";
+
+    /**
+     * The system property with the package prefixes that are not scanned
+     */
+    public static final String EXCLUDE_PACKAGES = "jnosql.artemis.scan.exclude";
+
     private static final Logger LOGGER = Logger.getLogger(ClassRepresentationsExtension.class.getName());
 
     private final Map<String, ClassRepresentation> representations = new ConcurrentHashMap<>();
 
     private final Map<Class<?>, ClassRepresentation> classes = new ConcurrentHashMap<>();
 
+    private final Queue<Class<?>> candidates = new ConcurrentLinkedQueue<>();
+
     private final ClassConverter classConverter = new ClassConverter(new DefaultReflections());
 
+    private final List<String> includes = getPackages(INCLUDE_PACKAGES);
+
+    private final List<String> excludes = getPackages(EXCLUDE_PACKAGES);
+
+    private long discoveryStart;
+
+    private int skipped;
+
+    /**
+     * Starts the discovery time
+     *
+     * @param event the event
+     */
+    void beforeBeanDiscovery(@Observes final BeforeBeanDiscovery event) {
+        discoveryStart = System.nanoTime();
+    }
+
     /**
      * Event observer
      *
      * @param target the target
      * @param <T>    the type
      */
-    public <T> void initializePropertyLoading(@Observes final ProcessAnnotatedType<T> target) {
+    public <T> void initializePropertyLoading(@Observes @WithAnnotations({Entity.class, Embeddable.class,
+            Subentity.class}) final ProcessAnnotatedType<T> target) {
 
         AnnotatedType<T> annotatedType = target.getAnnotatedType();
-        if (annotatedType.isAnnotationPresent(Entity.class)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            LOGGER.info("scanning type: " + javaClass.getName());
-            ClassRepresentation classRepresentation = classConverter.create(javaClass);
-            representations.put(classRepresentation.getName(), classRepresentation);
-            classes.put(javaClass, classRepresentation);
-        } else if (isSubElement(annotatedType)) {
-            Class<T> javaClass = target.getAnnotatedType().getJavaClass();
-            LOGGER.info("scanning type: " + javaClass.getName());
-            ClassRepresentation classRepresentation = classConverter.create(javaClass);
-            classes.put(javaClass, classRepresentation);
+        if (annotatedType.isAnnotationPresent(Entity.class) || isSubElement(annotatedType)) {
+            Class<T> javaClass = annotatedType.getJavaClass();
+            if (classConverter.getGeneratedClasses().contains(javaClass)) {
+                return;
+            }
+            if (isScanned(javaClass)) {
+                candidates.add(javaClass);
+            } else {
+                skipped++;
+            }
         }
 
     }
 
+    /**
+     * Builds the representations of the classes found, the failures are reported as definition errors
+     * from the observer thread once the parallel build is over
+     *
+     * @param event the event
+     */
+    void afterBeanDiscovery(@Observes final AfterBeanDiscovery event) {
+        long buildStart = System.nanoTime();
+        long discovery = discoveryStart == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(buildStart - discoveryStart);
+        classConverter.getGeneratedClasses().stream().filter(this::isScanned).forEach(candidates::add);
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        candidates.parallelStream().forEach(javaClass -> {
+            try {
+                ClassRepresentation classRepresentation = classConverter.create(javaClass);
+                if (javaClass.isAnnotationPresent(Entity.class)) {
+                    ClassRepresentation previous = representations.putIfAbsent(
+                            DefaultClassRepresentations.fold(classRepresentation.getName()), classRepresentation);
+                    if (previous != null) {
+                        throw new ArtemisException("The entity name " + classRepresentation.getName()
+                                + " is used by both " + previous.getClassInstance().getName()
+                                + " and " + javaClass.getName());
+                    }
+                }
+                classes.put(javaClass, classRepresentation);
+            } catch (RuntimeException exception) {
+                failures.add(exception);
+            }
+        });
+        failures.forEach(event::addDefinitionError);
+        long build = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart);
+        LOGGER.info(String.format("Artemis scanned %d entities and %d embeddable and subentity classes, "
+                        + "%d classes skipped by the package filters, discovery: %d ms, build: %d ms",
+                representations.size(), classes.size() - representations.size(), skipped, discovery, build));
+        candidates.clear();
+    }
+
     private <T> boolean isSubElement(AnnotatedType<T> annotatedType) {
         return annotatedType.isAnnotationPresent(Embeddable.class) ||
                 annotatedType.isAnnotationPresent(Subentity.class);
     }
 
+    private boolean isScanned(Class<?> javaClass) {
+        String name = javaClass.getName();
+        if (!includes.isEmpty() && includes.stream().noneMatch(name::startsWith)) {
+            return false;
+        }
+        return excludes.stream().noneMatch(name::startsWith);
+    }
+
+    private static List<String> getPackages(String property) {
+        String packages = System.getProperty(property);
+        if (packages == null) {
+            return Collections.emptyList();
+        }
+        return Stream.of(packages.split(",")).map(String::trim).filter(p -> !p.isEmpty()).collect(toList());
+    }
+
+
+    /**
+     * Releases the representations once {@link ClassRepresentations} has taken them over,
+     * so the extension doesn't keep a second reference to every class for the application lifetime.
+     */
+    void release() {
+        representations.clear();
+        classes.clear();
+    }
 
     /**
-     * Returns the representations loaded in CDI startup
+     * Returns the representations loaded in CDI startup, where the key is the entity name in lower case,
+     * it's empty after {@link ClassRepresentations} has taken them over
      *
      * @return the class loaded
      */
@@ -84,7 +191,8 @@ public class ClassRepresentationsExtension implements Extension {
     }
 
     /**
-     * Returns all class found in the process grouped by Java class
+     * Returns all class found in the process grouped by Java class, it's empty after
+     * {@link ClassRepresentations} has taken them over
      *
      * @return the map instance
      */
@@ -98,6 +206,8 @@ public class ClassRepresentationsExtension implements Extension {
         sb.append("classConverter=").append(classConverter);
         sb.append(", representations-size=").append(representations.size());
         sb.append(", classes=").append(classes);
+        sb.append(", includes=").append(includes);
+        sb.append(", excludes=").append(excludes);
         sb.append('}');
         return sb.toString();
     }
@@ -19,10 +19,21 @@ import org.jnosql.artemis.ArtemisException;
 
 /**
  * Get the exception when a class has a no arg constructor either public or default
+ * or when a new instance cannot be created from it
  */
 public class ConstructorException extends ArtemisException {
 
     public ConstructorException(Class clazz) {
         super("This class must have a no arg with either public and default visibility: " + clazz.getName());
     }
+
+    /**
+     * Creates the exception when the instance creation fails
+     *
+     * @param clazz the class
+     * @param cause the cause
+     */
+    public ConstructorException(Class clazz, Throwable cause) {
+        super("Error to create a new instance of the class: " + clazz.getName(), cause);
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The constructor whose parameters are all annotated with either {@link org.jnosql.artemis.Column}
+ * or {@link org.jnosql.artemis.Id} resolved at compile time.
+ *
+ * @see ClassMetadata
+ * @see ConstructorRepresentation
+ */
+public final class ConstructorMetadata {
+
+    private final List<String> parameters;
+
+    private final List<Class<?>> parameterTypes;
+
+    private final Function<Object[], ?> factory;
+
+    private ConstructorMetadata(List<String> parameters, List<Class<?>> parameterTypes,
+                                Function<Object[], ?> factory) {
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.parameterTypes = Collections.unmodifiableList(parameterTypes);
+        this.factory = factory;
+    }
+
+    /**
+     * @return the column name of each parameter in the parameter order
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the type of each parameter in the parameter order
+     */
+    public List<Class<?>> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @return the factory that calls the constructor directly with the arguments in the parameter order,
+     * or null when the constructor is not visible to the generated class
+     */
+    public Function<Object[], ?> getFactory() {
+        return factory;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ConstructorMetadata{");
+        sb.append("parameters=").append(parameters);
+        sb.append(", parameterTypes=").append(parameterTypes);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Creates a {@link ConstructorMetadata}
+     *
+     * @param parameters     the column name of each parameter
+     * @param parameterTypes the type of each parameter
+     * @param factory        the factory that calls the constructor, or null when it is not visible
+     * @return a new {@link ConstructorMetadata} instance
+     * @throws NullPointerException     when either parameters or parameterTypes are null
+     * @throws IllegalArgumentException when parameters and parameterTypes have different sizes
+     */
+    public static ConstructorMetadata of(List<String> parameters, List<Class<?>> parameterTypes,
+                                         Function<Object[], ?> factory) {
+        requireNonNull(parameters, "parameters is required");
+        requireNonNull(parameterTypes, "parameterTypes is required");
+        if (parameters.size() != parameterTypes.size()) {
+            throw new IllegalArgumentException("The parameters and their types must have the same size");
+        }
+        return new ConstructorMetadata(parameters, parameterTypes, factory);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+/**
+ * The constructor that creates an entity in a single call, when the entity declares a constructor whose
+ * parameters are all annotated with either {@link org.jnosql.artemis.Column} or {@link org.jnosql.artemis.Id}.
+ * Each parameter is bound to the mapped field with the same name, so these fields might be final.
+ */
+public interface ConstructorRepresentation {
+
+    /**
+     * @return The constructor
+     */
+    Constructor getConstructor();
+
+    /**
+     * @return the fields bound to the constructor parameters in the parameter order
+     */
+    List<FieldRepresentation> getParameters();
+
+    /**
+     * Creates a new instance from the field values, a parameter without value receives null or,
+     * to primitive types, the default value.
+     *
+     * @param values the field values positioned as {@link ClassRepresentation#getFields()}
+     * @param <T>    the instance type
+     * @return the new instance
+     * @throws NullPointerException when values is null
+     * @throws ConstructorException when the constructor fails
+     */
+    <T> T newInstance(Object[] values);
+}
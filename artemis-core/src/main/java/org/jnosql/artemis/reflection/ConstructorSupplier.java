@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Supplier} that creates new instances through the no arg constructor bound once as {@link MethodHandle}
+ *
+ * @param <T> the instance type
+ */
+final class ConstructorSupplier<T> implements Supplier<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Class<T> type;
+
+    private final MethodHandle constructor;
+
+    private ConstructorSupplier(Class<T> type, MethodHandle constructor) {
+        this.type = type;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates a new instance
+     *
+     * @return the new instance
+     * @throws ConstructorException when the constructor fails
+     */
+    @Override
+    public T get() {
+        try {
+            return type.cast(constructor.invokeExact());
+        } catch (Throwable throwable) {
+            throw new ConstructorException(type, throwable);
+        }
+    }
+
+    /**
+     * Creates the supplier from an accessible no arg constructor
+     *
+     * @param constructor the constructor
+     * @param <T>         the instance type
+     * @return a new {@link ConstructorSupplier} instance
+     * @throws NullPointerException when constructor is null
+     * @throws ConstructorException when the constructor is not accessible
+     */
+    static <T> ConstructorSupplier<T> of(Constructor<T> constructor) {
+        requireNonNull(constructor, "constructor is required");
+        Class<T> type = constructor.getDeclaringClass();
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(methodType(Object.class));
+            return new ConstructorSupplier<>(type, handle);
+        } catch (IllegalAccessException exception) {
+            throw new ConstructorException(type, exception);
+        }
+    }
+
+}
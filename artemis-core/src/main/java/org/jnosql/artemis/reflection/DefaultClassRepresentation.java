@@ -15,46 +15,77 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
+
 import java.lang.reflect.Constructor;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
+/**
+ * The {@link ClassRepresentation} stored in arrays: the fields, their interned names and an open addressing
+ * table from the name to the field position. The lists and the map of the {@link ClassRepresentation} API
+ * are views on these arrays, so schemas with many entities don't keep a map and its entries to each one.
+ */
 class DefaultClassRepresentation implements ClassRepresentation {
 
+    private static final int NOT_FOUND = -1;
 
     private final String name;
 
-    private final List<String> fieldsName;
-
     private final Class<?> classInstance;
 
-    private final List<FieldRepresentation> fields;
+    private final FieldRepresentation[] fields;
+
+    private final String[] names;
+
+    private final int[] nameTable;
+
+    private final int id;
 
     private final Constructor constructor;
 
-    private final Map<String, NativeMapping> javaFieldGroupedByColumn;
+    private final Supplier<?> instanceSupplier;
 
-    private final Map<String, FieldRepresentation> fieldsGroupedByName;
+    private final ConstructorRepresentation parameterizedConstructor;
 
-    private final Optional<FieldRepresentation> id;
+    private final FieldPathTrie fieldPaths;
 
-    DefaultClassRepresentation(String name, List<String> fieldsName, Class<?> classInstance,
+    DefaultClassRepresentation(String name, Class<?> classInstance,
                                List<FieldRepresentation> fields, Constructor constructor,
-                               Map<String, NativeMapping> javaFieldGroupedByColumn,
-                               Map<String, FieldRepresentation> fieldsGroupedByName) {
-        this.name = name;
-        this.fieldsName = fieldsName;
+                               Supplier<?> instanceSupplier,
+                               ConstructorRepresentation parameterizedConstructor,
+                               FieldPathTrie fieldPaths) {
+        this.name = name == null ? null : name.intern();
         this.classInstance = classInstance;
-        this.fields = fields;
+        this.fields = fields.toArray(new FieldRepresentation[fields.size()]);
+        this.names = new String[this.fields.length];
+        int idIndex = NOT_FOUND;
+        for (int index = 0; index < this.fields.length; index++) {
+            names[index] = this.fields[index].getName().intern();
+            if (idIndex == NOT_FOUND && this.fields[index].isId()) {
+                idIndex = index;
+            }
+        }
+        this.id = idIndex;
+        this.nameTable = createNameTable(names, classInstance);
         this.constructor = constructor;
-        this.fieldsGroupedByName = fieldsGroupedByName;
-        this.javaFieldGroupedByColumn = javaFieldGroupedByColumn;
-        this.id = fields.stream().filter(FieldRepresentation::isId).findFirst();
+        this.instanceSupplier = instanceSupplier;
+        this.parameterizedConstructor = parameterizedConstructor;
+        this.fieldPaths = fieldPaths;
     }
 
     @Override
@@ -64,7 +95,7 @@ class DefaultClassRepresentation implements ClassRepresentation {
 
     @Override
     public List<String> getFieldsName() {
-        return fieldsName;
+        return new ArrayView<>(names);
     }
 
     @Override
@@ -74,7 +105,7 @@ class DefaultClassRepresentation implements ClassRepresentation {
 
     @Override
     public List<FieldRepresentation> getFields() {
-        return fields;
+        return new ArrayView<>(fields);
     }
 
     @Override
@@ -82,30 +113,57 @@ class DefaultClassRepresentation implements ClassRepresentation {
         return constructor;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> getInstanceSupplier() {
+        return (Supplier<T>) instanceSupplier;
+    }
+
+    @Override
+    public Optional<ConstructorRepresentation> getParameterizedConstructor() {
+        return ofNullable(parameterizedConstructor);
+    }
+
 
     @Override
     public String getColumnField(String javaField) {
         requireNonNull(javaField, "javaField is required");
-        return ofNullable(javaFieldGroupedByColumn.get(javaField))
-                .map(NativeMapping::getNativeField).orElse(javaField);
-
+        FieldPath path = fieldPaths.find(javaField);
+        return path == null ? javaField : path.getNativeField();
     }
 
     @Override
     public Optional<FieldRepresentation> getFieldRepresentation(String javaField) {
         requireNonNull(javaField, "javaField is required");
-        return ofNullable(javaFieldGroupedByColumn.get(javaField))
-                .map(NativeMapping::getFieldRepresentation);
+        return ofNullable(fieldPaths.find(javaField)).map(FieldPath::getFieldRepresentation);
+    }
+
+    @Override
+    public Optional<FieldPath> getFieldPath(String javaField) {
+        requireNonNull(javaField, "javaField is required");
+        return ofNullable(fieldPaths.find(javaField));
     }
 
     @Override
     public Map<String, FieldRepresentation> getFieldsGroupByName() {
-        return fieldsGroupedByName;
+        return new FieldsByName();
+    }
+
+    @Override
+    public int getFieldIndex(String name) {
+        requireNonNull(name, "name is required");
+        int mask = nameTable.length - 1;
+        for (int slot = hash(name) & mask; ; slot = (slot + 1) & mask) {
+            int index = nameTable[slot];
+            if (index == NOT_FOUND || names[index].equals(name)) {
+                return index;
+            }
+        }
     }
 
     @Override
     public Optional<FieldRepresentation> getId() {
-        return id;
+        return id == NOT_FOUND ? Optional.empty() : Optional.of(fields[id]);
     }
 
     @Override
@@ -129,13 +187,12 @@ class DefaultClassRepresentation implements ClassRepresentation {
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultClassRepresentation{");
         sb.append("name='").append(name).append('\'');
-        sb.append(", fieldsName=").append(fieldsName);
+        sb.append(", fieldsName=").append(Arrays.toString(names));
         sb.append(", classInstance=").append(classInstance);
-        sb.append(", fields=").append(fields);
+        sb.append(", fields=").append(Arrays.toString(fields));
         sb.append(", constructor=").append(constructor);
-        sb.append(", javaFieldGroupedByColumn=").append(javaFieldGroupedByColumn);
-        sb.append(", fieldsGroupedByName=").append(fieldsGroupedByName);
-        sb.append(", id=").append(id);
+        sb.append(", fieldPaths=").append(fieldPaths);
+        sb.append(", id=").append(getId());
         sb.append('}');
         return sb.toString();
     }
@@ -149,5 +206,104 @@ class DefaultClassRepresentation implements ClassRepresentation {
         return new ClassRepresentationBuilder();
     }
 
+    private static int[] createNameTable(String[] names, Class<?> classInstance) {
+        int capacity = 2;
+        while (capacity < names.length * 2) {
+            capacity <<= 1;
+        }
+        int[] table = new int[capacity];
+        Arrays.fill(table, NOT_FOUND);
+        int mask = capacity - 1;
+        for (int index = 0; index < names.length; index++) {
+            int slot = hash(names[index]) & mask;
+            while (table[slot] != NOT_FOUND) {
+                if (names[table[slot]].equals(names[index])) {
+                    throw new ArtemisException("The name " + names[index] + " is mapped more than once in the class "
+                            + classInstance);
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index;
+        }
+        return table;
+    }
+
+    private static int hash(String name) {
+        int hash = name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class ArrayView<T> extends AbstractList<T> implements RandomAccess {
+
+        private final T[] elements;
+
+        private ArrayView(T[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public T get(int index) {
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    private final class FieldsByName extends AbstractMap<String, FieldRepresentation> {
+
+        @Override
+        public FieldRepresentation get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            int index = getFieldIndex((String) key);
+            return index == NOT_FOUND ? null : fields[index];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return fields.length;
+        }
+
+        @Override
+        public Set<Entry<String, FieldRepresentation>> entrySet() {
+            return new AbstractSet<Entry<String, FieldRepresentation>>() {
+                @Override
+                public Iterator<Entry<String, FieldRepresentation>> iterator() {
+                    return new Iterator<Entry<String, FieldRepresentation>>() {
+
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < fields.length;
+                        }
+
+                        @Override
+                        public Entry<String, FieldRepresentation> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int current = index++;
+                            return new SimpleImmutableEntry<>(names[current], fields[current]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return fields.length;
+                }
+            };
+        }
+    }
 
 }
@@ -15,23 +15,38 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
+
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * The default implementation of {@link ClassRepresentation}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ClassValue}, so each representation is created once,
+ * a lookup doesn't go through a map after the first access, and the representation is released
+ * with its class when the class loader is gone. The entity names are indexed in lower case
+ * with a weak reference to the class, two entities with the same name in ignore case are an error.
  */
 @ApplicationScoped
 class DefaultClassRepresentations implements ClassRepresentations {
 
-    private Map<String, ClassRepresentation> representations;
-
-    private Map<Class<?>, ClassRepresentation> classes;
+    private final ClassValue<LazyRepresentation> classes = new ClassValue<LazyRepresentation>() {
+        @Override
+        protected LazyRepresentation computeValue(Class<?> type) {
+            return new LazyRepresentation(type);
+        }
+    };
 
+    private Map<String, WeakReference<Class<?>>> names;
 
     @Inject
     private ClassConverter classConverter;
@@ -41,44 +56,110 @@ class DefaultClassRepresentations implements ClassRepresentations {
 
     @PostConstruct
     public void init() {
-        representations = new ConcurrentHashMap<>();
-        classes = new ConcurrentHashMap<>();
-        classes.putAll(extension.getClasses());
-        representations.putAll(extension.getRepresentations());
+        names = new ConcurrentHashMap<>();
+        extension.getClasses().forEach((classEntity, representation) -> classes.get(classEntity).set(representation));
+        extension.getRepresentations().forEach((name, representation) ->
+                names.put(name, new WeakReference<>(representation.getClassInstance())));
+        extension.release();
     }
 
     void load(Class classEntity) {
-        ClassRepresentation classRepresentation = classConverter.create(classEntity);
-        representations.put(classEntity.getName(), classRepresentation);
+        ClassRepresentation classRepresentation = get(classEntity);
+        register(classRepresentation.getName(), classEntity);
     }
 
     @Override
     public ClassRepresentation get(Class classEntity) {
-        ClassRepresentation classRepresentation = classes.get(classEntity);
-        if (classRepresentation == null) {
-            classRepresentation = classConverter.create(classEntity);
-            classes.put(classEntity, classRepresentation);
-            return this.get(classEntity);
-        }
-        return classRepresentation;
+        requireNonNull(classEntity, "classEntity is required");
+        return classes.get(classEntity).get();
     }
 
     @Override
     public ClassRepresentation findByName(String name) {
-        return representations.keySet().stream()
-                .map(k -> representations.get(k))
-                .filter(r -> r.getName().equalsIgnoreCase(name)).findFirst()
-                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+        requireNonNull(name, "name is required");
+        WeakReference<Class<?>> reference = names.get(fold(name));
+        Class<?> classEntity = reference == null ? null : reference.get();
+        if (classEntity == null) {
+            throw new ClassInformationNotFoundException("There is not entity found with the name: " + name);
+        }
+        return get(classEntity);
+    }
+
+    @Override
+    public Map<String, ClassRepresentation> findByNames(Collection<String> names) {
+        requireNonNull(names, "names is required");
+        Map<String, ClassRepresentation> representations = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            representations.computeIfAbsent(name, this::findByName);
+        }
+        return representations;
+    }
+
+    private void register(String name, Class<?> classEntity) {
+        names.compute(fold(name), (key, previous) -> {
+            Class<?> existing = previous == null ? null : previous.get();
+            if (existing == null) {
+                return new WeakReference<>(classEntity);
+            }
+            if (!existing.equals(classEntity)) {
+                throw new ArtemisException("The entity name " + name + " is used by both "
+                        + existing.getName() + " and " + classEntity.getName());
+            }
+            return previous;
+        });
+    }
+
+    /**
+     * The key of an entity name, the names are compared in ignore case
+     *
+     * @param name the entity name
+     * @return the name in lower case
+     */
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("DefaultClassRepresentations{");
-        sb.append("representations-size=").append(representations.size());
-        sb.append(", classes=").append(classes);
+        sb.append("names-size=").append(names.size());
         sb.append(", classConverter=").append(classConverter);
         sb.append(", extension=").append(extension);
         sb.append('}');
         return sb.toString();
     }
+
+    /**
+     * The representation of a class created at the first access, {@link ClassValue} might compute
+     * a value more than once on concurrent access but publishes a single one,
+     * so the creation goes through this holder to happen exactly once.
+     */
+    private final class LazyRepresentation {
+
+        private final Class<?> classEntity;
+
+        private volatile ClassRepresentation representation;
+
+        private LazyRepresentation(Class<?> classEntity) {
+            this.classEntity = classEntity;
+        }
+
+        private ClassRepresentation get() {
+            ClassRepresentation value = representation;
+            if (value == null) {
+                synchronized (this) {
+                    value = representation;
+                    if (value == null) {
+                        value = classConverter.create(classEntity);
+                        representation = value;
+                    }
+                }
+            }
+            return value;
+        }
+
+        private synchronized void set(ClassRepresentation representation) {
+            this.representation = representation;
+        }
+    }
 }
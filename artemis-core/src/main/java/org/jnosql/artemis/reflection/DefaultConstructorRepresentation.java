@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class DefaultConstructorRepresentation implements ConstructorRepresentation {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Constructor constructor;
+
+    private final List<FieldRepresentation> parameters;
+
+    private final int[] fieldIndexes;
+
+    private final Object[] defaults;
+
+    private final Function<Object[], ?> factory;
+
+    private DefaultConstructorRepresentation(Constructor constructor, List<FieldRepresentation> parameters,
+                                             int[] fieldIndexes, Function<Object[], ?> factory) {
+        this.constructor = constructor;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.fieldIndexes = fieldIndexes;
+        this.factory = factory;
+        Class<?>[] types = constructor.getParameterTypes();
+        this.defaults = new Object[types.length];
+        for (int index = 0; index < types.length; index++) {
+            if (types[index].isPrimitive()) {
+                defaults[index] = Array.get(Array.newInstance(types[index], 1), 0);
+            }
+        }
+    }
+
+    @Override
+    public Constructor getConstructor() {
+        return constructor;
+    }
+
+    @Override
+    public List<FieldRepresentation> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance(Object[] values) {
+        requireNonNull(values, "values is required");
+        Object[] arguments = new Object[fieldIndexes.length];
+        for (int index = 0; index < fieldIndexes.length; index++) {
+            Object value = values[fieldIndexes[index]];
+            arguments[index] = value == null ? defaults[index] : value;
+        }
+        try {
+            return (T) factory.apply(arguments);
+        } catch (ConstructorException exception) {
+            throw exception;
+        } catch (RuntimeException exception) {
+            throw new ConstructorException(constructor.getDeclaringClass(), exception);
+        }
+    }
+
+    /**
+     * Creates the representation from a constructor, making it accessible
+     *
+     * @param constructor  the constructor
+     * @param parameters   the field to each parameter
+     * @param fieldIndexes the position of each parameter field at {@link ClassRepresentation#getFields()}
+     * @return a new {@link ConstructorRepresentation} instance
+     * @throws ConstructorException when the constructor cannot be made accessible
+     */
+    static ConstructorRepresentation of(Constructor constructor, List<FieldRepresentation> parameters,
+                                        int[] fieldIndexes) {
+        int size = constructor.getParameterCount();
+        try {
+            constructor.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(size))
+                    .asSpreader(Object[].class, size);
+            return new DefaultConstructorRepresentation(constructor, parameters, fieldIndexes,
+                    arguments -> invoke(handle, constructor, arguments));
+        } catch (IllegalAccessException | SecurityException exception) {
+            throw new ConstructorException(constructor.getDeclaringClass(), exception);
+        }
+    }
+
+    /**
+     * Creates the representation from a constructor and a factory that calls it directly,
+     * so the constructor is neither made accessible nor bound to a {@link MethodHandle}
+     *
+     * @param constructor  the constructor
+     * @param parameters   the field to each parameter
+     * @param fieldIndexes the position of each parameter field at {@link ClassRepresentation#getFields()}
+     * @param factory      the factory that receives the arguments in the parameter order
+     * @return a new {@link ConstructorRepresentation} instance
+     */
+    static ConstructorRepresentation of(Constructor constructor, List<FieldRepresentation> parameters,
+                                        int[] fieldIndexes, Function<Object[], ?> factory) {
+        return new DefaultConstructorRepresentation(constructor, parameters, fieldIndexes, factory);
+    }
+
+    private static Object invoke(MethodHandle handle, Constructor constructor, Object[] arguments) {
+        try {
+            return handle.invokeExact(arguments);
+        } catch (Throwable throwable) {
+            throw new ConstructorException(constructor.getDeclaringClass(), throwable);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultConstructorRepresentation{");
+        sb.append("constructor=").append(constructor);
+        sb.append(", parameters=").append(parameters);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The read and write access to a {@link Field} bound once as {@link MethodHandle}, so the converters
+ * don't go through {@link Field#get(Object)} and {@link Field#set(Object, Object)} on each call.
+ * The int, long and double fields also have handles typed to the primitive, so they are read and written
+ * without boxing.
+ */
+final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Field field;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private final MethodHandle primitiveGetter;
+
+    private final MethodHandle primitiveSetter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter,
+                          MethodHandle primitiveGetter, MethodHandle primitiveSetter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveGetter = primitiveGetter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    /**
+     * Reads the field value from the instance
+     *
+     * @param bean the instance
+     * @return the field value
+     * @throws ArtemisException when the value cannot be read
+     */
+    Object read(Object bean) {
+        try {
+            return getter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to read the field " + field, throwable);
+        }
+    }
+
+    /**
+     * Writes the value in the field of the instance
+     *
+     * @param bean  the instance
+     * @param value the value
+     * @throws ArtemisException when the value cannot be written
+     */
+    void write(Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to write the field " + field, throwable);
+        }
+    }
+
+    int readInt(Object bean) {
+        checkPrimitive(int.class);
+        try {
+            return (int) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to read the field " + field, throwable);
+        }
+    }
+
+    void writeInt(Object bean, int value) {
+        checkPrimitive(int.class);
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to write the field " + field, throwable);
+        }
+    }
+
+    long readLong(Object bean) {
+        checkPrimitive(long.class);
+        try {
+            return (long) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to read the field " + field, throwable);
+        }
+    }
+
+    void writeLong(Object bean, long value) {
+        checkPrimitive(long.class);
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to write the field " + field, throwable);
+        }
+    }
+
+    double readDouble(Object bean) {
+        checkPrimitive(double.class);
+        try {
+            return (double) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to read the field " + field, throwable);
+        }
+    }
+
+    void writeDouble(Object bean, double value) {
+        checkPrimitive(double.class);
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new ArtemisException("Error to write the field " + field, throwable);
+        }
+    }
+
+    private void checkPrimitive(Class<?> type) {
+        if (!type.equals(field.getType())) {
+            throw new ArtemisException("The field " + field + " is not " + type.getName());
+        }
+    }
+
+    /**
+     * Creates the accessor from an accessible field
+     *
+     * @param field the field
+     * @return a new {@link FieldAccessor} instance
+     * @throws NullPointerException when field is null
+     * @throws ArtemisException     when the field is not accessible
+     */
+    static FieldAccessor of(Field field) {
+        requireNonNull(field, "field is required");
+        try {
+            MethodHandle fieldGetter = LOOKUP.unreflectGetter(field);
+            MethodHandle fieldSetter = LOOKUP.unreflectSetter(field);
+            MethodHandle getter = fieldGetter.asType(methodType(Object.class, Object.class));
+            MethodHandle setter = fieldSetter.asType(methodType(void.class, Object.class, Object.class));
+            if (!field.getType().isPrimitive()) {
+                return new FieldAccessor(field, getter, setter, null, null);
+            }
+            MethodHandle primitiveGetter = fieldGetter.asType(methodType(field.getType(), Object.class));
+            MethodHandle primitiveSetter = fieldSetter.asType(methodType(void.class, Object.class, field.getType()));
+            return new FieldAccessor(field, getter, setter, primitiveGetter, primitiveSetter);
+        } catch (IllegalAccessException exception) {
+            throw new ArtemisException("The field is not accessible: " + field, exception);
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The metadata of a field resolved at compile time.
+ *
+ * @see ClassMetadata
+ */
+public final class FieldMetadata {
+
+    private final Class<?> declaringClass;
+
+    private final String fieldName;
+
+    private final String name;
+
+    private final FieldType type;
+
+    private final boolean id;
+
+    private final Class<? extends AttributeConverter> converter;
+
+    private final String entityName;
+
+    FieldMetadata(Class<?> declaringClass, String fieldName, String name, FieldType type, boolean id,
+                  Class<? extends AttributeConverter> converter, String entityName) {
+        this.declaringClass = requireNonNull(declaringClass, "declaringClass is required");
+        this.fieldName = requireNonNull(fieldName, "fieldName is required");
+        this.name = requireNonNull(name, "name is required");
+        this.type = requireNonNull(type, "type is required");
+        this.id = id;
+        this.converter = converter;
+        this.entityName = entityName;
+    }
+
+    /**
+     * @return the class that declares the field
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * @return the Java field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the column name, either the field name or the annotation value
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the {@link FieldType}
+     */
+    public FieldType getType() {
+        return type;
+    }
+
+    /**
+     * @return true when the field is annotated with {@link org.jnosql.artemis.Id}
+     */
+    public boolean isId() {
+        return id;
+    }
+
+    /**
+     * @return the {@link org.jnosql.artemis.Convert} value or null
+     */
+    public Class<? extends AttributeConverter> getConverter() {
+        return converter;
+    }
+
+    /**
+     * @return the entity name when the type is {@link FieldType#EMBEDDED} otherwise null
+     */
+    public String getEntityName() {
+        return entityName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FieldMetadata that = (FieldMetadata) o;
+        return Objects.equals(declaringClass, that.declaringClass) &&
+                Objects.equals(fieldName, that.fieldName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringClass, fieldName);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("FieldMetadata{");
+        sb.append("declaringClass=").append(declaringClass);
+        sb.append(", fieldName='").append(fieldName).append('\'');
+        sb.append(", name='").append(name).append('\'');
+        sb.append(", type=").append(type);
+        sb.append(", id=").append(id);
+        sb.append(", converter=").append(converter);
+        sb.append(", entityName='").append(entityName).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Creates the FieldMetadataBuilder
+     *
+     * @return a new Builder instance
+     */
+    public static FieldMetadataBuilder builder() {
+        return new FieldMetadataBuilder();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+/**
+ * The builder to {@link FieldMetadata}
+ */
+public final class FieldMetadataBuilder {
+
+    private Class<?> declaringClass;
+
+    private String fieldName;
+
+    private String name;
+
+    private FieldType type = FieldType.DEFAULT;
+
+    private boolean id;
+
+    private Class<? extends AttributeConverter> converter;
+
+    private String entityName;
+
+    FieldMetadataBuilder() {
+    }
+
+    public FieldMetadataBuilder withDeclaringClass(Class<?> declaringClass) {
+        this.declaringClass = declaringClass;
+        return this;
+    }
+
+    public FieldMetadataBuilder withFieldName(String fieldName) {
+        this.fieldName = fieldName;
+        return this;
+    }
+
+    public FieldMetadataBuilder withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public FieldMetadataBuilder withType(FieldType type) {
+        this.type = type;
+        return this;
+    }
+
+    public FieldMetadataBuilder withId(boolean id) {
+        this.id = id;
+        return this;
+    }
+
+    public FieldMetadataBuilder withConverter(Class<? extends AttributeConverter> converter) {
+        this.converter = converter;
+        return this;
+    }
+
+    public FieldMetadataBuilder withEntityName(String entityName) {
+        this.entityName = entityName;
+        return this;
+    }
+
+    /**
+     * Creates the {@link FieldMetadata}
+     *
+     * @return a new {@link FieldMetadata} instance
+     * @throws NullPointerException when declaringClass, fieldName, name or type are null
+     */
+    public FieldMetadata build() {
+        return new FieldMetadata(declaringClass, fieldName, name, type, id, converter, entityName);
+    }
+}
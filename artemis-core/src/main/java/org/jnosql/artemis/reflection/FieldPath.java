@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.List;
+
+/**
+ * A Java field path, such as {@code address.geo.lat}, resolved against a {@link ClassRepresentation}.
+ * Query builders and converters resolve the path once and read both the native name and
+ * the fields that the path walks through.
+ */
+public interface FieldPath {
+
+    /**
+     * Returns the native name of the path, to embedded, subentity or embeddable collection fields
+     * the native names of their fields split by comma.
+     *
+     * @return the native name
+     */
+    String getNativeField();
+
+    /**
+     * @return the field at the last segment of the path
+     */
+    FieldRepresentation getFieldRepresentation();
+
+    /**
+     * @return the fields from the entity to the last segment, one field to each segment of the path
+     */
+    List<FieldRepresentation> getFields();
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Java field path of an entity and its native name resolved at compile time. The native name of an embedded,
+ * subentity or embeddable collection field has the native names of the fields below it split by comma.
+ *
+ * @see ClassMetadata
+ */
+public final class FieldPathMetadata {
+
+    private final String path;
+
+    private final String nativeField;
+
+    private final Class<?> ownerClass;
+
+    private FieldPathMetadata(String path, String nativeField, Class<?> ownerClass) {
+        this.path = path;
+        this.nativeField = nativeField;
+        this.ownerClass = ownerClass;
+    }
+
+    /**
+     * @return the Java field path split by dot
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the native name
+     */
+    public String getNativeField() {
+        return nativeField;
+    }
+
+    /**
+     * @return the class whose mapped fields have the last field of the path
+     */
+    public Class<?> getOwnerClass() {
+        return ownerClass;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FieldPathMetadata that = (FieldPathMetadata) o;
+        return Objects.equals(path, that.path) &&
+                Objects.equals(nativeField, that.nativeField) &&
+                Objects.equals(ownerClass, that.ownerClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, nativeField, ownerClass);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("FieldPathMetadata{");
+        sb.append("path='").append(path).append('\'');
+        sb.append(", nativeField='").append(nativeField).append('\'');
+        sb.append(", ownerClass=").append(ownerClass);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Creates a {@link FieldPathMetadata}
+     *
+     * @param path        the Java field path split by dot
+     * @param nativeField the native name
+     * @param ownerClass  the class whose mapped fields have the last field of the path
+     * @return a new {@link FieldPathMetadata} instance
+     * @throws NullPointerException when either path, nativeField or ownerClass are null
+     */
+    public static FieldPathMetadata of(String path, String nativeField, Class<?> ownerClass) {
+        return new FieldPathMetadata(requireNonNull(path, "path is required"),
+                requireNonNull(nativeField, "nativeField is required"),
+                requireNonNull(ownerClass, "ownerClass is required"));
+    }
+}
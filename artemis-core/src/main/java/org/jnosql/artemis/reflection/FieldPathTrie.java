@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The Java field paths of an entity stored by segment, so a path such as {@code address.geo.lat} is resolved
+ * walking one node to each segment, comparing the segment in place instead of creating a string to each prefix.
+ * The nodes are filled by {@link ClassConverter} and never change after the {@link ClassRepresentation} is built,
+ * each node is the {@link FieldPath} to its segment and finds the fields of the path walking up to the root.
+ */
+final class FieldPathTrie implements FieldPath {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private static final String[] NO_SEGMENTS = new String[0];
+
+    private static final FieldPathTrie[] NO_CHILDREN = new FieldPathTrie[0];
+
+    private String[] segments = NO_SEGMENTS;
+
+    private FieldPathTrie[] children = NO_CHILDREN;
+
+    private int size;
+
+    private NativeMapping mapping;
+
+    private final FieldPathTrie parent;
+
+    private final int depth;
+
+    FieldPathTrie() {
+        this(null);
+    }
+
+    private FieldPathTrie(FieldPathTrie parent) {
+        this.parent = parent;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * Returns the child node to the segment, creating it when it does not exist
+     *
+     * @param segment the java field name
+     * @return the child node
+     */
+    FieldPathTrie add(String segment) {
+        requireNonNull(segment, "segment is required");
+        FieldPathTrie child = child(segment, 0, segment.length());
+        if (child != null) {
+            return child;
+        }
+        if (size == segments.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            segments = Arrays.copyOf(segments, capacity);
+            children = Arrays.copyOf(children, capacity);
+        }
+        child = new FieldPathTrie(this);
+        segments[size] = segment;
+        children[size] = child;
+        size++;
+        return child;
+    }
+
+    /**
+     * Shrinks the arrays of this node and of the nodes below it to the number of children
+     */
+    void trim() {
+        if (size < segments.length) {
+            segments = Arrays.copyOf(segments, size);
+            children = Arrays.copyOf(children, size);
+        }
+        for (int index = 0; index < size; index++) {
+            children[index].trim();
+        }
+    }
+
+    void setMapping(NativeMapping mapping) {
+        this.mapping = mapping;
+    }
+
+    /**
+     * Appends the mapping of every node below this one, depth first and in the order they were added
+     *
+     * @param mappings the list to append
+     */
+    void appendDescendants(List<NativeMapping> mappings) {
+        for (int index = 0; index < size; index++) {
+            FieldPathTrie child = children[index];
+            if (child.mapping != null) {
+                mappings.add(child.mapping);
+            }
+            child.appendDescendants(mappings);
+        }
+    }
+
+    @Override
+    public String getNativeField() {
+        return mapping.getNativeField();
+    }
+
+    @Override
+    public FieldRepresentation getFieldRepresentation() {
+        return mapping.getFieldRepresentation();
+    }
+
+    @Override
+    public List<FieldRepresentation> getFields() {
+        FieldRepresentation[] fields = new FieldRepresentation[depth];
+        for (FieldPathTrie node = this; node.parent != null; node = node.parent) {
+            fields[node.depth - 1] = node.mapping.getFieldRepresentation();
+        }
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * Finds the node from the java field path, split by dot
+     *
+     * @param path the java field path
+     * @return the node with a mapping otherwise null
+     */
+    FieldPathTrie find(String path) {
+        FieldPathTrie node = this;
+        int start = 0;
+        while (true) {
+            int end = path.indexOf('.', start);
+            int length = (end < 0 ? path.length() : end) - start;
+            node = node.child(path, start, length);
+            if (node == null) {
+                return null;
+            }
+            if (end < 0) {
+                return node.mapping == null ? null : node;
+            }
+            start = end + 1;
+        }
+    }
+
+    private FieldPathTrie child(String path, int start, int length) {
+        for (int index = 0; index < size; index++) {
+            String segment = segments[index];
+            if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                return children[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("FieldPathTrie{");
+        sb.append("segments=").append(Arrays.toString(Arrays.copyOf(segments, size)));
+        sb.append(", mapping=").append(mapping);
+        sb.append('}');
+        return sb.toString();
+    }
+}
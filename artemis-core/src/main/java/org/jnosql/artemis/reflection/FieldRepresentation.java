@@ -67,6 +67,78 @@ public interface FieldRepresentation extends Serializable {
      */
     Object getValue(Value value);
 
+    /**
+     * Reads the value of this field from the entity instance
+     *
+     * @param bean the entity instance
+     * @return the field value
+     * @throws org.jnosql.artemis.ArtemisException when the value cannot be read
+     */
+    Object read(Object bean);
+
+    /**
+     * Writes the value in this field of the entity instance
+     *
+     * @param bean  the entity instance
+     * @param value the value to be written
+     * @throws org.jnosql.artemis.ArtemisException when the value cannot be written
+     */
+    void write(Object bean, Object value);
+
+    /**
+     * Reads the value of this int field from the entity instance without boxing
+     *
+     * @param bean the entity instance
+     * @return the field value
+     * @throws org.jnosql.artemis.ArtemisException when the field is not int or the value cannot be read
+     */
+    int readInt(Object bean);
+
+    /**
+     * Writes the value in this int field of the entity instance without boxing
+     *
+     * @param bean  the entity instance
+     * @param value the value to be written
+     * @throws org.jnosql.artemis.ArtemisException when the field is not int or the value cannot be written
+     */
+    void writeInt(Object bean, int value);
+
+    /**
+     * Reads the value of this long field from the entity instance without boxing
+     *
+     * @param bean the entity instance
+     * @return the field value
+     * @throws org.jnosql.artemis.ArtemisException when the field is not long or the value cannot be read
+     */
+    long readLong(Object bean);
+
+    /**
+     * Writes the value in this long field of the entity instance without boxing
+     *
+     * @param bean  the entity instance
+     * @param value the value to be written
+     * @throws org.jnosql.artemis.ArtemisException when the field is not long or the value cannot be written
+     */
+    void writeLong(Object bean, long value);
+
+    /**
+     * Reads the value of this double field from the entity instance without boxing
+     *
+     * @param bean the entity instance
+     * @return the field value
+     * @throws org.jnosql.artemis.ArtemisException when the field is not double or the value cannot be read
+     */
+    double readDouble(Object bean);
+
+    /**
+     * Writes the value in this double field of the entity instance without boxing
+     *
+     * @param bean  the entity instance
+     * @param value the value to be written
+     * @throws org.jnosql.artemis.ArtemisException when the field is not double or the value cannot be written
+     */
+    void writeDouble(Object bean, double value);
+
     /**
      * Returns true is the field is annotated with {@link org.jnosql.artemis.Id}
      *
@@ -82,6 +154,15 @@ public interface FieldRepresentation extends Serializable {
      */
     <T extends AttributeConverter> Optional<Class<? extends AttributeConverter>> getConverter();
 
+    /**
+     * Returns the converter class without wrapping it, to the conversions that check it at each field
+     *
+     * @return the converter class or null when there isn't a converter
+     */
+    default Class<? extends AttributeConverter> getConverterClass() {
+        return getConverter().orElse(null);
+    }
+
     /**
      * Creates the FieldRepresentationBuilder
      *
@@ -22,26 +22,53 @@ import org.jnosql.diana.api.Value;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.IntFunction;
 
+/**
+ * The {@link FieldRepresentation} to collections and maps. The generic metadata, the element type,
+ * the key and value types to maps, the embeddable flag and the collection factory,
+ * is resolved once when the field is created.
+ */
 public class GenericFieldRepresentation extends AbstractFieldRepresentation {
 
     private final TypeSupplier<?> typeSupplier;
 
+    private final Type elementGenericType;
+
+    private final Class<?> elementType;
+
+    private final Reflections.KeyValueClass keyValue;
+
+    private final boolean embeddable;
+
+    private final IntFunction<Collection> collectionFactory;
+
     GenericFieldRepresentation(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier, Class<? extends AttributeConverter> converter) {
         super(type, field, name, converter);
         this.typeSupplier = typeSupplier;
+        Type[] arguments = getArguments(field.getGenericType());
+        this.elementGenericType = arguments.length > 0 ? arguments[0] : Object.class;
+        this.elementType = toClass(elementGenericType);
+        this.keyValue = Map.class.isAssignableFrom(field.getType()) && arguments.length == 2 ?
+                new Reflections.KeyValueClass(toClass(arguments[0]), toClass(arguments[1])) : null;
+        this.embeddable = elementType.getAnnotation(Embeddable.class) != null;
+        this.collectionFactory = getCollectionFactory(field.getType());
     }
 
     @Override
@@ -74,31 +101,84 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
         return Objects.hash(type, field, name, typeSupplier);
     }
 
+    /**
+     * @return true when the element type has the {@link Embeddable} annotation
+     */
     public boolean isEmbeddable() {
-        return Class.class.cast(ParameterizedType.class.cast(getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0])
-                .getAnnotation(Embeddable.class) != null;
+        return embeddable;
     }
 
+    /**
+     * @return the class of the first type argument, the element to collections and the key to maps
+     */
     public Class getElementType() {
-        return Class.class.cast(ParameterizedType.class.cast(getNativeField()
-                .getGenericType())
-                .getActualTypeArguments()[0]);
+        return elementType;
+    }
+
+    /**
+     * @return the first type argument, that might be a nested generic type such as {@code List<String>}
+     */
+    public Type getElementGenericType() {
+        return elementGenericType;
+    }
+
+    /**
+     * @return the key and value classes when the field is a {@link Map} otherwise {@link Optional#empty()}
+     */
+    public Optional<Reflections.KeyValueClass> getKeyValue() {
+        return Optional.ofNullable(keyValue);
     }
 
+    /**
+     * @return a new empty collection to the field type
+     * @throws UnsupportedOperationException when the collection type is not supported
+     */
     public Collection getCollectionInstance() {
-        Class<?> type = getNativeField().getType();
+        return collectionFactory.apply(0);
+    }
+
+    /**
+     * Creates a new empty collection to the field type sized to the elements expected
+     *
+     * @param expectedSize the number of elements expected
+     * @return a new empty collection
+     * @throws UnsupportedOperationException when the collection type is not supported
+     */
+    public Collection getCollectionInstance(int expectedSize) {
+        return collectionFactory.apply(expectedSize);
+    }
+
+    private static Type[] getArguments(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            return ParameterizedType.class.cast(genericType).getActualTypeArguments();
+        }
+        return new Type[0];
+    }
+
+    private static Class<?> toClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return toClass(ParameterizedType.class.cast(type).getRawType());
+        } else if (type instanceof WildcardType) {
+            return toClass(WildcardType.class.cast(type).getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static IntFunction<Collection> getCollectionFactory(Class<?> type) {
         if (Deque.class.equals(type) || Queue.class.equals(type)) {
-            return new LinkedList<>();
+            return size -> new LinkedList<>();
         } else if (List.class.equals(type) || Iterable.class.equals(type)) {
-            return new ArrayList<>();
+            return ArrayList::new;
         } else if (NavigableSet.class.equals(type) || SortedSet.class.equals(type)) {
-            return new TreeSet<>();
+            return size -> new TreeSet<>();
         } else if (Set.class.equals(type)) {
-            return new HashSet<>();
+            return size -> new HashSet<>(Math.max(16, (int) (size / .75f) + 1));
         }
-        throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        return size -> {
+            throw new UnsupportedOperationException("This collection is not supported yet: " + type);
+        };
     }
 
     @Override
@@ -110,6 +190,8 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
         sb.append(", name='").append(name).append('\'');
         sb.append(", fieldName='").append(fieldName).append('\'');
         sb.append(", converter=").append(converter);
+        sb.append(", elementType=").append(elementType);
+        sb.append(", embeddable=").append(embeddable);
         sb.append('}');
         return sb.toString();
     }
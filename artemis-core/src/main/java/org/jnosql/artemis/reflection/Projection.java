@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPage;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An interface projection of an entity. A repository method that returns an interface, or a collection,
+ * {@link Optional}, {@link Stream} or {@link KeysetPage} of it, instead of the entity reads only the fields
+ * of the interface getters, and each entity found is exposed through a proxy of the interface that reads its fields.
+ * A getter is named either as the java field or as the java field with the get or is prefix,
+ * and the interface doesn't have default methods.
+ */
+public final class Projection {
+
+    private static final List<Class<?>> CONTAINERS = Arrays.asList(List.class, Iterable.class, Collection.class,
+            Set.class, Queue.class, Stream.class, Optional.class, KeysetPage.class);
+
+    private final Class<?> type;
+
+    private final Map<Method, FieldRepresentation> getters;
+
+    private final List<String> columns;
+
+    private Projection(Class<?> type, Map<Method, FieldRepresentation> getters, List<String> columns) {
+        this.type = type;
+        this.getters = getters;
+        this.columns = columns;
+    }
+
+    /**
+     * @return the projection interface
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the native names of the fields read by the projection and of the entity id
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Creates the projection of an entity
+     *
+     * @param entity the entity, it might be null
+     * @return a proxy of the projection interface that reads the entity fields otherwise null
+     */
+    public Object create(Object entity) {
+        if (isNull(entity)) {
+            return null;
+        }
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, new ProjectionHandler(entity));
+    }
+
+    /**
+     * Returns the projection of a repository method
+     *
+     * @param method         the repository method
+     * @param representation the entity representation
+     * @return the projection when the method returns an interface that the entity does not implement
+     * otherwise {@link Optional#empty()}
+     * @throws NullPointerException  when either method or representation are null
+     * @throws DynamicQueryException when an interface method does not match a field of the entity
+     *                               or it is a default method
+     */
+    public static Optional<Projection> of(Method method, ClassRepresentation representation) {
+        requireNonNull(method, "method is required");
+        requireNonNull(representation, "representation is required");
+        Class<?> type = getElementType(method.getGenericReturnType());
+        if (isNull(type) || !type.isInterface() || CONTAINERS.contains(type) || type.getName().startsWith("java.")
+                || type.isAssignableFrom(representation.getClassInstance())) {
+            return Optional.empty();
+        }
+        Map<Method, FieldRepresentation> getters = new LinkedHashMap<>();
+        Set<String> columns = new LinkedHashSet<>();
+        for (Method getter : type.getMethods()) {
+            if (Modifier.isStatic(getter.getModifiers())) {
+                continue;
+            }
+            if (getter.isDefault()) {
+                throw new DynamicQueryException("The projection method " + getter.getName() + " of "
+                        + type.getName() + " is a default method, a projection has only the entity getters");
+            }
+            String fieldName = getFieldName(getter.getName());
+            FieldRepresentation field = representation.getFieldRepresentation(fieldName)
+                    .filter(f -> getter.getParameterCount() == 0)
+                    .orElseThrow(() -> new DynamicQueryException("The projection method " + getter.getName()
+                            + " of " + type.getName() + " does not match any field in the entity "
+                            + representation.getClassInstance().getName()));
+            getters.put(getter, field);
+            columns.addAll(Arrays.asList(representation.getColumnField(fieldName).split(",")));
+        }
+        representation.getId().ifPresent(id -> columns.add(id.getName()));
+        return Optional.of(new Projection(type, getters, Collections.unmodifiableList(new ArrayList<>(columns))));
+    }
+
+    private static Class<?> getElementType(Type returnType) {
+        if (returnType instanceof Class) {
+            return (Class<?>) returnType;
+        }
+        if (returnType instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) returnType;
+            Type element = parameterized.getActualTypeArguments()[0];
+            if (CONTAINERS.contains(parameterized.getRawType()) && element instanceof Class) {
+                return (Class<?>) element;
+            }
+        }
+        return null;
+    }
+
+    private static String getFieldName(String methodName) {
+        if (methodName.length() > 3 && methodName.startsWith("get") && Character.isUpperCase(methodName.charAt(3))) {
+            return Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+        }
+        if (methodName.length() > 2 && methodName.startsWith("is") && Character.isUpperCase(methodName.charAt(2))) {
+            return Character.toLowerCase(methodName.charAt(2)) + methodName.substring(3);
+        }
+        return methodName;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Projection{");
+        sb.append("type=").append(type);
+        sb.append(", columns=").append(columns);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private final class ProjectionHandler implements InvocationHandler {
+
+        private final Object entity;
+
+        private ProjectionHandler(Object entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            FieldRepresentation field = getters.get(method);
+            if (field != null) {
+                return field.read(entity);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return toString(type.getSimpleName());
+                default:
+                    throw new UnsupportedOperationException("The projection method " + method.getName()
+                            + " is not supported");
+            }
+        }
+
+        private String toString(String name) {
+            final StringBuilder sb = new StringBuilder(name).append('{');
+            getters.forEach((getter, field) -> sb.append(field.getFieldName()).append('=')
+                    .append(field.read(entity)).append(", "));
+            if (!getters.isEmpty()) {
+                sb.setLength(sb.length() - 2);
+            }
+            sb.append('}');
+            return sb.toString();
+        }
+    }
+}
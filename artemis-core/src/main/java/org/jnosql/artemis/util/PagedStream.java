@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sequential {@link Stream} that reads its elements page by page, so only one page is kept in memory.
+ * The next page is read when the current one is consumed; a page smaller than the requested size ends the stream,
+ * and a page bigger than the requested size, from a database that does not page, is taken as the whole result.
+ * Closing the stream discards the current page and stops the reading.
+ */
+public final class PagedStream {
+
+    private PagedStream() {
+    }
+
+    /**
+     * Reads a page of elements
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface PageReader<T> {
+
+        /**
+         * @param start the position of the first element of the page
+         * @param limit the maximum number of elements of the page
+         * @return the page elements
+         */
+        List<T> read(long start, long limit);
+    }
+
+    /**
+     * Creates the stream
+     *
+     * @param reader   the page reader
+     * @param start    the position of the first element
+     * @param limit    the maximum number of elements, zero or negative to read until the last page
+     * @param pageSize the maximum number of elements of each page
+     * @param <T>      the element type
+     * @return the stream
+     * @throws NullPointerException     when reader is null
+     * @throws IllegalArgumentException when pageSize is lower than one
+     */
+    public static <T> Stream<T> of(PageReader<T> reader, long start, long limit, int pageSize) {
+        requireNonNull(reader, "reader is required");
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
+        PageSpliterator<T> spliterator = new PageSpliterator<>(reader, start, limit, pageSize);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static final class PageSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private static final long UNLIMITED = -1L;
+
+        private final PageReader<T> reader;
+
+        private final int pageSize;
+
+        private long next;
+
+        private long remaining;
+
+        private Iterator<T> page = Collections.emptyIterator();
+
+        private boolean last;
+
+        private PageSpliterator(PageReader<T> reader, long start, long limit, int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.reader = reader;
+            this.pageSize = pageSize;
+            this.next = Math.max(0L, start);
+            this.remaining = limit > 0 ? limit : UNLIMITED;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (!page.hasNext()) {
+                if (last) {
+                    return false;
+                }
+                read();
+            }
+            action.accept(page.next());
+            return true;
+        }
+
+        private void read() {
+            long size = remaining == UNLIMITED ? pageSize : Math.min(pageSize, remaining);
+            List<T> elements = reader.read(next, size);
+            if (elements.size() != size) {
+                last = true;
+            }
+            next += elements.size();
+            if (remaining != UNLIMITED) {
+                remaining = Math.max(0L, remaining - elements.size());
+                last = last || remaining == 0L;
+            }
+            page = elements.iterator();
+        }
+
+        private void close() {
+            last = true;
+            page = Collections.emptyIterator();
+        }
+    }
+}
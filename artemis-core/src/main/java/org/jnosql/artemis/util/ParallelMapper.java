@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps a list on a {@link ForkJoinPool} keeping the order of the elements: the list is split in ranges
+ * of at least {@link #THRESHOLD} elements and each result is written at the position of its element.
+ * The conversion of the templates bulk writes uses it when the {@link #PARALLELISM} system property
+ * is greater than one.
+ */
+public final class ParallelMapper {
+
+    /**
+     * The system property with the number of threads that convert the entities of the bulk writes,
+     * by default the conversion runs in the caller thread
+     */
+    public static final String PARALLELISM = "jnosql.artemis.conversion.parallelism";
+
+    /**
+     * The minimum number of elements that a task maps without splitting
+     */
+    public static final int THRESHOLD = 64;
+
+    private ParallelMapper() {
+    }
+
+    /**
+     * Returns the pool shared by the templates, created with {@link #PARALLELISM} threads the first time
+     *
+     * @return the shared pool when the {@link #PARALLELISM} system property is greater than one
+     * otherwise {@link Optional#empty()}
+     */
+    public static Optional<ForkJoinPool> getPool() {
+        return Optional.ofNullable(PoolHolder.POOL);
+    }
+
+    /**
+     * Maps the elements, splitting them among the pool threads when the list has more than
+     * {@link #THRESHOLD} elements
+     *
+     * @param elements the elements
+     * @param mapper   the function applied to each element
+     * @param pool     the pool that runs the function
+     * @param <T>      the element type
+     * @param <R>      the result type
+     * @return an unmodifiable list with the results in the elements order
+     * @throws NullPointerException when either elements, mapper or pool are null
+     */
+    public static <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> mapper, ForkJoinPool pool) {
+        requireNonNull(elements, "elements is required");
+        requireNonNull(mapper, "mapper is required");
+        requireNonNull(pool, "pool is required");
+        if (elements.size() <= THRESHOLD) {
+            List<R> results = new ArrayList<>(elements.size());
+            for (T element : elements) {
+                results.add(mapper.apply(element));
+            }
+            return Collections.unmodifiableList(results);
+        }
+        Object[] results = new Object[elements.size()];
+        pool.invoke(new MapperTask<>(elements, mapper, results, 0, elements.size()));
+        @SuppressWarnings("unchecked")
+        List<R> list = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        return list;
+    }
+
+    private static final class MapperTask<T, R> extends RecursiveAction {
+
+        private final List<T> elements;
+
+        private final Function<? super T, ? extends R> mapper;
+
+        private final Object[] results;
+
+        private final int start;
+
+        private final int end;
+
+        private MapperTask(List<T> elements, Function<? super T, ? extends R> mapper, Object[] results,
+                           int start, int end) {
+            this.elements = elements;
+            this.mapper = mapper;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= THRESHOLD) {
+                for (int index = start; index < end; index++) {
+                    results[index] = mapper.apply(elements.get(index));
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new MapperTask<>(elements, mapper, results, start, middle),
+                    new MapperTask<>(elements, mapper, results, middle, end));
+        }
+    }
+
+    private static final class PoolHolder {
+
+        private static final ForkJoinPool POOL = createPool();
+
+        private static ForkJoinPool createPool() {
+            int parallelism = Integer.getInteger(PARALLELISM, 1);
+            return parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread safe map that compares its keys by identity and holds them weakly, so a value is discarded
+ * once its key is no longer used. It keeps state about entity instances without relying on
+ * their equals and hashCode, which might change with the entity fields.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class WeakIdentityMap<K, V> {
+
+    private final Map<IdentityKey<K>, V> values = new HashMap<>();
+
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    /**
+     * Associates the value to the key
+     *
+     * @param key   the key
+     * @param value the value
+     * @throws NullPointerException when either key or value are null
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key, "key is required");
+        requireNonNull(value, "value is required");
+        expunge();
+        values.put(new IdentityKey<>(key, queue), value);
+    }
+
+    /**
+     * Returns the value of the key
+     *
+     * @param key the key
+     * @return the value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when key is null
+     */
+    public synchronized Optional<V> get(K key) {
+        requireNonNull(key, "key is required");
+        expunge();
+        return Optional.ofNullable(values.get(new IdentityKey<>(key, null)));
+    }
+
+    /**
+     * Removes the value of the key
+     *
+     * @param key the key
+     * @return the value removed otherwise {@link Optional#empty()}
+     * @throws NullPointerException when key is null
+     */
+    public synchronized Optional<V> remove(K key) {
+        requireNonNull(key, "key is required");
+        expunge();
+        return Optional.ofNullable(values.remove(new IdentityKey<>(key, null)));
+    }
+
+    /**
+     * Removes all values
+     */
+    public synchronized void clear() {
+        values.clear();
+    }
+
+    /**
+     * @return the number of keys still in use
+     */
+    public synchronized int size() {
+        expunge();
+        return values.size();
+    }
+
+    private void expunge() {
+        for (Reference<? extends K> reference = queue.poll(); reference != null; reference = queue.poll()) {
+            values.remove(reference);
+        }
+    }
+
+    private static final class IdentityKey<K> extends WeakReference<K> {
+
+        private final int hash;
+
+        private IdentityKey(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            Object key = get();
+            return key != null && key == ((IdentityKey<?>) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
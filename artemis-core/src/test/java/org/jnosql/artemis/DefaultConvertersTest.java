@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.MoneyConverter;
+import org.jnosql.artemis.model.TimestampConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+import java.lang.reflect.Field;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultConvertersTest {
+
+    @Inject
+    private Converters converters;
+
+    @Test
+    public void shouldReturnNPEWhenClassIsNull() {
+        assertThrows(NullPointerException.class, () -> converters.get(null));
+    }
+
+    @Test
+    public void shouldCacheDependentConverter() {
+        AttributeConverter converter = converters.get(MoneyConverter.class);
+        long hits = converters.getHits();
+        long misses = converters.getMisses();
+
+        assertSame(converter, converters.get(MoneyConverter.class));
+        assertEquals(hits + 1, converters.getHits());
+        assertEquals(misses, converters.getMisses());
+        assertEquals("BRL 10.0", converter.convertToDatabaseColumn(Money.parse("BRL 10")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReleaseDependentConvertersWhenDestroyed() throws ReflectiveOperationException {
+        BeanManager beanManager = Mockito.mock(BeanManager.class);
+        Bean bean = Mockito.mock(Bean.class);
+        CreationalContext ctx = Mockito.mock(CreationalContext.class);
+        Mockito.when(bean.getScope()).thenReturn(Dependent.class);
+        Mockito.when(beanManager.resolve(Mockito.any())).thenReturn(bean);
+        Mockito.when(beanManager.createCreationalContext(bean)).thenReturn(ctx);
+        Mockito.when(beanManager.getReference(bean, MoneyConverter.class, ctx)).thenReturn(new MoneyConverter());
+
+        DefaultConverters defaultConverters = new DefaultConverters();
+        Field field = DefaultConverters.class.getDeclaredField("beanManager");
+        field.setAccessible(true);
+        field.set(defaultConverters, beanManager);
+
+        defaultConverters.get(MoneyConverter.class);
+        defaultConverters.get(MoneyConverter.class);
+        Mockito.verify(ctx, Mockito.never()).release();
+        defaultConverters.destroy();
+        Mockito.verify(ctx).release();
+    }
+
+    @Test
+    public void shouldCacheNormalScopedConverter() {
+        AttributeConverter<Instant, Long> converter = converters.get(TimestampConverter.class);
+        assertSame(converter, converters.get(TimestampConverter.class));
+        assertEquals(Long.valueOf(1000L), converter.convertToDatabaseColumn(Instant.ofEpochMilli(1000L)));
+    }
+
+    @Test
+    public void shouldReturnZeroWhenThereIsNotStatistics() {
+        Converters converters = c -> null;
+        assertEquals(0L, converters.getHits());
+        assertEquals(0L, converters.getMisses());
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityCacheTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EntityCache.lru(0));
+        Assertions.assertThrows(NullPointerException.class, () -> EntityCache.lru(10L, null));
+        EntityCache<String> cache = EntityCache.lru(10);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, 1L));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(String.class, null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(String.class, 1L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put(String.class, 1L, "value", null));
+    }
+
+    @Test
+    public void shouldKeyByClassAndId() {
+        EntityCache<String> cache = EntityCache.lru(10);
+        cache.put(String.class, 1L, "string");
+        cache.put(Integer.class, 1L, "integer");
+        assertEquals(Optional.of("string"), cache.get(String.class, 1L));
+        assertEquals(Optional.of("integer"), cache.get(Integer.class, 1L));
+        assertFalse(cache.get(String.class, 2L).isPresent());
+
+        cache.remove(String.class, 1L);
+        assertFalse(cache.get(String.class, 1L).isPresent());
+        cache.removeAll(Integer.class);
+        assertFalse(cache.get(Integer.class, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        EntityCache<String> cache = EntityCache.lru(2);
+        cache.put(String.class, 1L, "one");
+        cache.put(String.class, 2L, "two");
+        cache.get(String.class, 1L);
+        cache.put(String.class, 3L, "three");
+
+        assertEquals(Optional.of("one"), cache.get(String.class, 1L));
+        assertFalse(cache.get(String.class, 2L).isPresent());
+        assertEquals(Optional.of("three"), cache.get(String.class, 3L));
+        assertEquals(1L, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void shouldBoundByWeight() {
+        EntityCache<String> cache = EntityCache.lru(5L, String::length);
+        cache.put(String.class, 1L, "abc");
+        cache.put(String.class, 2L, "de");
+        cache.put(String.class, 3L, "toolong");
+        assertFalse(cache.get(String.class, 3L).isPresent());
+        assertEquals(Optional.of("abc"), cache.get(String.class, 1L));
+
+        cache.put(String.class, 4L, "f");
+        assertFalse(cache.get(String.class, 2L).isPresent());
+        assertEquals(Optional.of("f"), cache.get(String.class, 4L));
+    }
+
+    @Test
+    public void shouldExpireWithTTL() throws InterruptedException {
+        EntityCache<String> cache = EntityCache.lru(10);
+        cache.put(String.class, 1L, "value", Duration.ofMillis(10L));
+        cache.put(String.class, 2L, "value", Duration.ZERO);
+        assertEquals(Optional.of("value"), cache.get(String.class, 1L));
+        assertFalse(cache.get(String.class, 2L).isPresent());
+        Thread.sleep(20L);
+        assertFalse(cache.get(String.class, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldPutOnlyWhenVersionDidNotChange() {
+        EntityCache<String> cache = EntityCache.lru(10);
+        long version = cache.getVersion(String.class);
+        cache.put(Integer.class, 1L, "integer");
+        assertTrue(cache.putIfVersion(String.class, 1L, "one", version));
+        assertEquals(Optional.of("one"), cache.get(String.class, 1L));
+
+        version = cache.getVersion(String.class);
+        cache.remove(String.class, 1L);
+        assertFalse(cache.putIfVersion(String.class, 1L, "stale", version));
+        assertFalse(cache.get(String.class, 1L).isPresent());
+
+        version = cache.getVersion(String.class);
+        cache.clear();
+        assertFalse(cache.putIfVersion(String.class, 1L, "stale", version));
+        assertFalse(cache.get(String.class, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldReturnStatistics() {
+        EntityCache<String> cache = EntityCache.lru(10);
+        assertEquals(0D, cache.getStatistics().getHitRatio());
+        cache.put(String.class, 1L, "value");
+        cache.get(String.class, 1L);
+        cache.get(String.class, 1L);
+        cache.get(String.class, 1L);
+        cache.get(String.class, 2L);
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(CacheStatistics.of(3L, 1L, 0L), statistics);
+        assertEquals(0.75D, statistics.getHitRatio());
+    }
+}
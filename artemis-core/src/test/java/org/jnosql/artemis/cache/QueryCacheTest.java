@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCacheTest {
+
+    private final Duration ttl = Duration.ofMinutes(1L);
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        QueryCache<String> cache = QueryCache.lru(10);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, "query"));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get("person", null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put("person", "query", null, ttl));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put("person", "query", "value", null));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.removeAll(null));
+    }
+
+    @Test
+    public void shouldRemoveAllResultsOfTheCollection() {
+        QueryCache<String> cache = QueryCache.lru(10);
+        cache.put("person", "name", "Ada", ttl);
+        cache.put("person", "age", "10", ttl);
+        cache.put("book", "title", "Effective Java", ttl);
+
+        cache.removeAll("person");
+        assertFalse(cache.get("person", "name").isPresent());
+        assertFalse(cache.get("person", "age").isPresent());
+        assertEquals(Optional.of("Effective Java"), cache.get("book", "title"));
+        cache.removeAll("person");
+    }
+
+    @Test
+    public void shouldKeepTheGroupWhenEvicted() {
+        QueryCache<String> cache = QueryCache.lru(1);
+        cache.put("person", "name", "Ada", ttl);
+        cache.put("book", "title", "Effective Java", ttl);
+        assertFalse(cache.get("person", "name").isPresent());
+
+        cache.removeAll("book");
+        cache.put("person", "name", "Ada", ttl);
+        assertEquals(Optional.of("Ada"), cache.get("person", "name"));
+        assertEquals(1L, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void shouldPutOnlyWhenVersionDidNotChange() {
+        QueryCache<String> cache = QueryCache.lru(10);
+        long version = cache.getVersion("person");
+        cache.put("book", "title", "Effective Java", ttl);
+        assertTrue(cache.putIfVersion("person", "name", "Ada", ttl, version));
+        assertEquals(Optional.of("Ada"), cache.get("person", "name"));
+
+        version = cache.getVersion("person");
+        cache.removeAll("person");
+        assertFalse(cache.putIfVersion("person", "name", "stale", ttl, version));
+        assertFalse(cache.get("person", "name").isPresent());
+
+        version = cache.getVersion("person");
+        assertFalse(cache.putIfVersion("person", "name", "Ada", Duration.ZERO, version));
+        assertFalse(cache.get("person", "name").isPresent());
+    }
+
+    @Test
+    public void shouldReturnCacheTtl() {
+        assertEquals(Optional.of(Duration.ofHours(2L)), CacheableQuery.getCacheTtl(Cached.class));
+        assertFalse(CacheableQuery.getCacheTtl(String.class).isPresent());
+    }
+
+    @CacheQueries(ttl = 2, unit = ChronoUnit.HOURS)
+    private static class Cached {
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.model;
+
+
+import org.jnosql.artemis.AttributeConverter;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.time.Instant;
+
+@ApplicationScoped
+public class TimestampConverter implements AttributeConverter<Instant, Long> {
+
+
+    @Override
+    public Long convertToDatabaseColumn(Instant attribute) {
+        return attribute.toEpochMilli();
+    }
+
+    @Override
+    public Instant convertToEntityAttribute(Long dbData) {
+        return Instant.ofEpochMilli(dbData);
+    }
+}
@@ -25,10 +25,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
 public class ClassConverterJavaFieldParserTest {
@@ -99,4 +102,35 @@ public class ClassConverterJavaFieldParserTest {
         assertEquals("contacts.contact_name", result);
     }
 
+    @Test
+    public void shouldResolveTheFieldPathOfEmbeddedField() {
+        ClassRepresentation classRepresentation = classConverter.create(Worker.class);
+        Optional<FieldPath> path = classRepresentation.getFieldPath("job.city");
+        assertTrue(path.isPresent());
+        assertEquals("job.city", path.get().getNativeField());
+        assertEquals("city", path.get().getFieldRepresentation().getFieldName());
+        List<String> fields = path.get().getFields().stream().map(FieldRepresentation::getFieldName)
+                .collect(toList());
+        assertEquals(Stream.of("job", "city").collect(toList()), fields);
+    }
+
+    @Test
+    public void shouldResolveTheFieldPathOfEmbeddedFieldInCollection() {
+        ClassRepresentation classRepresentation = classConverter.create(AppointmentBook.class);
+        FieldPath path = classRepresentation.getFieldPath("contacts.name").get();
+        assertEquals("contacts.contact_name", path.getNativeField());
+        assertEquals(2, path.getFields().size());
+        assertEquals("contacts", path.getFields().get(0).getFieldName());
+    }
+
+    @Test
+    public void shouldNotResolveThePartialSegment() {
+        ClassRepresentation classRepresentation = classConverter.create(Worker.class);
+        assertFalse(classRepresentation.getFieldPath("jo").isPresent());
+        assertFalse(classRepresentation.getFieldPath("job.cit").isPresent());
+        assertFalse(classRepresentation.getFieldPath("job.city.name").isPresent());
+        assertFalse(classRepresentation.getFieldPath("").isPresent());
+        assertEquals("job.", classRepresentation.getColumnField("job."));
+    }
+
 }
@@ -14,9 +14,13 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Animal;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Director;
 import org.jnosql.artemis.model.Machine;
 import org.jnosql.artemis.model.Person;
@@ -26,14 +30,19 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.jnosql.artemis.reflection.FieldType.DEFAULT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
@@ -54,6 +63,48 @@ public class ClassConverterTest {
 
     }
 
+    @Test
+    public void shouldReturnFieldIndex() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        List<FieldRepresentation> fields = classRepresentation.getFields();
+
+        for (int index = 0; index < fields.size(); index++) {
+            assertEquals(index, classRepresentation.getFieldIndex(fields.get(index).getName()));
+        }
+        assertEquals(-1, classRepresentation.getFieldIndex("unknown"));
+        Assertions.assertThrows(NullPointerException.class, () -> classRepresentation.getFieldIndex(null));
+    }
+
+    @Test
+    public void shouldCreateInstanceFromSupplier() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        Person person = classRepresentation.<Person>getInstanceSupplier().get();
+        assertEquals(Person.class, person.getClass());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConstructorFails() {
+        ClassRepresentation classRepresentation = classConverter.create(Failure.class);
+        Assertions.assertThrows(ConstructorException.class, () -> classRepresentation.getInstanceSupplier().get());
+    }
+
+    @Test
+    public void shouldCreateParameterizedConstructor() {
+        ClassRepresentation classRepresentation = classConverter.create(Book.class);
+        ConstructorRepresentation constructor = classRepresentation.getParameterizedConstructor()
+                .orElseThrow(() -> new AssertionError("constructor not found"));
+        List<String> parameters = constructor.getParameters().stream().map(FieldRepresentation::getName)
+                .collect(Collectors.toList());
+        assertEquals(asList("_id", "title", "edition"), parameters);
+
+        Object[] values = new Object[classRepresentation.getFields().size()];
+        values[classRepresentation.getFieldIndex("title")] = "Effective Java";
+        Book book = constructor.newInstance(values);
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        Assertions.assertThrows(ConstructorException.class, () -> classRepresentation.getInstanceSupplier().get());
+    }
+
     @Test
     public void shouldCreateClassRepresentation2() {
         ClassRepresentation classRepresentation = classConverter.create(Actor.class);
@@ -108,4 +159,65 @@ public class ClassConverterTest {
         assertEquals(1, fields.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldGroupFieldsByName() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        Map<String, FieldRepresentation> fields = classRepresentation.getFieldsGroupByName();
+        assertEquals(4, fields.size());
+        assertThat(fields.keySet(), containsInAnyOrder("_id", "name", "age", "phones"));
+        assertEquals("phones", fields.get("phones").getFieldName());
+        assertNull(fields.get("unknown"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsMappedTwice() {
+        Assertions.assertThrows(ArtemisException.class, () -> classConverter.create(Duplicate.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereAreTwoParameterizedConstructors() {
+        Assertions.assertThrows(ArtemisException.class, () -> classConverter.create(Ambiguous.class));
+    }
+
+    @Vetoed
+    @Entity
+    public static class Ambiguous {
+
+        @Column
+        private String name;
+
+        @Column
+        private int age;
+
+        Ambiguous(@Column("name") String name) {
+            this.name = name;
+        }
+
+        Ambiguous(@Column("name") String name, @Column("age") int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    @Vetoed
+    @Entity
+    public static class Duplicate {
+
+        @Column("name")
+        private String name;
+
+        @Column("name")
+        private String nickname;
+    }
+
+    @Entity
+    public static class Failure {
+
+        @Column
+        private String name;
+
+        public Failure() {
+            throw new IllegalStateException("constructor failure");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ClassRepresentation} footprint to synthetic entity graphs: each entity has an id,
+ * scalar and collection fields and an embedded address that embeds a geo location, so the field paths
+ * go three segments deep. The benchmark reports the build time and, with the GC profiler, the bytes
+ * allocated to each build; the main method also prints the bytes retained to each entity.
+ * Run it with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClassRepresentationFootprintBenchmark {
+
+    private static final int SCALAR_FIELDS = 8;
+
+    @Param({"1000"})
+    private int entities;
+
+    private List<Class<?>> classes;
+
+    private ClassConverter converter;
+
+    @Setup
+    public void setUp() {
+        converter = new ClassConverter(new DefaultReflections());
+        classes = createEntities(entities);
+    }
+
+    @Benchmark
+    public List<ClassRepresentation> create() {
+        List<ClassRepresentation> representations = new ArrayList<>(classes.size());
+        for (Class<?> entity : classes) {
+            representations.add(converter.create(entity));
+        }
+        return representations;
+    }
+
+    static List<Class<?>> createEntities(int entities) {
+        ClassLoader loader = new URLClassLoader(new URL[0], ClassRepresentationFootprintBenchmark.class.getClassLoader());
+        String prefix = ClassRepresentationFootprintBenchmark.class.getPackage().getName() + ".synthetic.";
+        List<Class<?>> classes = new ArrayList<>(entities);
+        for (int index = 0; index < entities; index++) {
+            Class<?> geo = load(embeddable(prefix + "Geo" + index)
+                    .defineField("lat", double.class, Visibility.PRIVATE).annotateField(column())
+                    .defineField("lng", double.class, Visibility.PRIVATE).annotateField(column()), loader);
+
+            Class<?> address = load(embeddable(prefix + "Address" + index)
+                    .defineField("street", String.class, Visibility.PRIVATE).annotateField(column())
+                    .defineField("city", String.class, Visibility.PRIVATE).annotateField(column())
+                    .defineField("geo", geo, Visibility.PRIVATE).annotateField(column()), loader);
+
+            DynamicType.Builder<Object> entity = new ByteBuddy().subclass(Object.class)
+                    .name(prefix + "Entity" + index)
+                    .annotateType(AnnotationDescription.Builder.ofType(Entity.class).build())
+                    .defineField("id", long.class, Visibility.PRIVATE)
+                    .annotateField(AnnotationDescription.Builder.ofType(Id.class).build())
+                    .defineField("tags", listOf(String.class), Visibility.PRIVATE).annotateField(column())
+                    .defineField("address", address, Visibility.PRIVATE).annotateField(column());
+            for (int field = 0; field < SCALAR_FIELDS; field++) {
+                entity = entity.defineField("field" + field, field % 2 == 0 ? String.class : int.class,
+                        Visibility.PRIVATE).annotateField(column());
+            }
+            classes.add(load(entity, loader));
+        }
+        return classes;
+    }
+
+    private static DynamicType.Builder<Object> embeddable(String name) {
+        return new ByteBuddy().subclass(Object.class).name(name)
+                .annotateType(AnnotationDescription.Builder.ofType(Embeddable.class).build());
+    }
+
+    private static AnnotationDescription column() {
+        return AnnotationDescription.Builder.ofType(Column.class).build();
+    }
+
+    private static TypeDescription.Generic listOf(Class<?> element) {
+        return TypeDescription.Generic.Builder.parameterizedType(List.class, element).build();
+    }
+
+    private static Class<?> load(DynamicType.Builder<Object> builder, ClassLoader loader) {
+        return builder.make().load(loader, ClassLoadingStrategy.Default.INJECTION).getLoaded();
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 3; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ClassRepresentationFootprintBenchmark benchmark = new ClassRepresentationFootprintBenchmark();
+        benchmark.entities = 1000;
+        benchmark.setUp();
+        long before = usedMemory();
+        List<ClassRepresentation> representations = benchmark.create();
+        long retained = usedMemory() - before;
+        System.out.println("Retained bytes to each entity: " + retained / representations.size());
+
+        new Runner(new OptionsBuilder()
+                .include(ClassRepresentationFootprintBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
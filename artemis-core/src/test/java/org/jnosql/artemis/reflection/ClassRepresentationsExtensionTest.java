@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.model.Address;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.enterprise.inject.Vetoed;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+
+import static org.jnosql.artemis.reflection.ClassRepresentationsExtension.EXCLUDE_PACKAGES;
+import static org.jnosql.artemis.reflection.ClassRepresentationsExtension.INCLUDE_PACKAGES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClassRepresentationsExtensionTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(INCLUDE_PACKAGES);
+        System.clearProperty(EXCLUDE_PACKAGES);
+    }
+
+    @Test
+    public void shouldBuildRepresentationsAfterBeanDiscovery() {
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+        extension.initializePropertyLoading(event(Person.class));
+        extension.initializePropertyLoading(event(Movie.class));
+        extension.initializePropertyLoading(event(Address.class));
+        assertTrue(extension.getClasses().isEmpty());
+
+        extension.afterBeanDiscovery(mock(AfterBeanDiscovery.class));
+        assertEquals(3, extension.getClasses().size());
+        assertEquals(Movie.class, extension.getRepresentations().get("movie").getClassInstance());
+    }
+
+    @Test
+    public void shouldFilterPackages() {
+        System.setProperty(INCLUDE_PACKAGES, "org.jnosql.artemis.model");
+        System.setProperty(EXCLUDE_PACKAGES, "org.jnosql.artemis.model.Movie, org.jnosql.artemis.model.Address");
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+        extension.initializePropertyLoading(event(Person.class));
+        extension.initializePropertyLoading(event(Movie.class));
+        extension.initializePropertyLoading(event(ForClass.class));
+
+        extension.afterBeanDiscovery(mock(AfterBeanDiscovery.class));
+        assertEquals(1, extension.getClasses().size());
+        assertTrue(extension.getClasses().containsKey(Person.class));
+        assertFalse(extension.getRepresentations().containsKey("movie"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEntityNameIsDuplicated() {
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+        extension.initializePropertyLoading(event(ForClass.class));
+        extension.initializePropertyLoading(event(SameName.class));
+        AfterBeanDiscovery event = mock(AfterBeanDiscovery.class);
+
+        extension.afterBeanDiscovery(event);
+        verify(event).addDefinitionError(any(ArtemisException.class));
+        assertEquals(1, extension.getRepresentations().size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenEntityNameIsDuplicatedInIgnoreCase() {
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+        extension.initializePropertyLoading(event(ForClass.class));
+        extension.initializePropertyLoading(event(LowerCaseName.class));
+        AfterBeanDiscovery event = mock(AfterBeanDiscovery.class);
+
+        extension.afterBeanDiscovery(event);
+        verify(event).addDefinitionError(any(ArtemisException.class));
+        assertEquals(1, extension.getRepresentations().size());
+    }
+
+    @Test
+    public void shouldReleaseTheRepresentations() {
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+        extension.initializePropertyLoading(event(Person.class));
+        extension.afterBeanDiscovery(mock(AfterBeanDiscovery.class));
+        assertEquals(1, extension.getClasses().size());
+
+        extension.release();
+        assertTrue(extension.getClasses().isEmpty());
+        assertTrue(extension.getRepresentations().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ProcessAnnotatedType<T> event(Class<T> javaClass) {
+        AnnotatedType<T> annotatedType = mock(AnnotatedType.class);
+        when(annotatedType.getJavaClass()).thenReturn(javaClass);
+        when(annotatedType.isAnnotationPresent(any()))
+                .thenAnswer(a -> javaClass.isAnnotationPresent(a.getArgument(0)));
+        ProcessAnnotatedType<T> event = mock(ProcessAnnotatedType.class);
+        when(event.getAnnotatedType()).thenReturn(annotatedType);
+        return event;
+    }
+
+    @Entity
+    @Vetoed
+    static class ForClass {
+
+        @Column
+        private String name;
+    }
+
+    @Entity("ForClass")
+    @Vetoed
+    static class SameName {
+
+        @Column
+        private String name;
+    }
+
+    @Entity("forclass")
+    @Vetoed
+    static class LowerCaseName {
+
+        @Column
+        private String name;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultClassRepresentationsTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Test
+    public void shouldReturnNPEWhenClassIsNull() {
+        assertThrows(NullPointerException.class, () -> classRepresentations.get(null));
+    }
+
+    @Test
+    public void shouldReturnSameRepresentation() {
+        ClassRepresentation representation = classRepresentations.get(Person.class);
+        assertEquals(Person.class, representation.getClassInstance());
+        assertSame(representation, classRepresentations.get(Person.class));
+    }
+
+    @Test
+    public void shouldCreateRepresentationOnceOnConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Callable<ClassRepresentation> task = () -> classRepresentations.get(Machine.class);
+            List<Future<ClassRepresentation>> futures = executor.invokeAll(IntStream.range(0, 32)
+                    .mapToObj(i -> task).collect(Collectors.toList()));
+            ClassRepresentation representation = classRepresentations.get(Machine.class);
+            for (Future<ClassRepresentation> future : futures) {
+                assertSame(representation, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldFindByName() {
+        assertEquals(Movie.class, classRepresentations.findByName("movie").getClassInstance());
+        assertEquals(Movie.class, classRepresentations.findByName("MOVIE").getClassInstance());
+        assertSame(classRepresentations.get(Movie.class), classRepresentations.findByName("movie"));
+    }
+
+    @Test
+    public void shouldFindByNames() {
+        Map<String, ClassRepresentation> representations = classRepresentations
+                .findByNames(asList("movie", "Person", "person"));
+        assertEquals(3, representations.size());
+        assertEquals(Movie.class, representations.get("movie").getClassInstance());
+        assertSame(representations.get("Person"), representations.get("person"));
+        assertThrows(ClassInformationNotFoundException.class,
+                () -> classRepresentations.findByNames(asList("movie", "unknown")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsDuplicated() {
+        DefaultClassRepresentations defaultRepresentations = (DefaultClassRepresentations) classRepresentations;
+        defaultRepresentations.load(Movie.class);
+        assertThrows(ArtemisException.class, () -> defaultRepresentations.load(DuplicateMovie.class));
+        assertEquals(Movie.class, classRepresentations.findByName("movie").getClassInstance());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNameIsNotFound() {
+        assertThrows(ClassInformationNotFoundException.class, () -> classRepresentations.findByName("unknown"));
+    }
+
+    static class Machine {
+
+        private String name;
+    }
+
+    @Vetoed
+    @Entity("MOVIE")
+    static class DuplicateMovie {
+
+        @Column
+        private String title;
+    }
+}
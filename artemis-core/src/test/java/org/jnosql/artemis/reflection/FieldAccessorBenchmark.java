@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link Reflections#getValue(Object, Field)} and
+ * {@link Reflections#setValue(Object, Field, Object)} against the accessors bound in {@link FieldRepresentation}.
+ * Run it with the main method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    private Reflections reflections;
+
+    private List<FieldRepresentation> fields;
+
+    private Object[] values;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        reflections = new DefaultReflections();
+        ClassRepresentation representation = new ClassConverter(reflections).create(Person.class);
+        fields = representation.getFields();
+        person = Person.builder().withId(10L).withName("Ada").withAge(20).build();
+        values = fields.stream().map(f -> f.read(person)).toArray();
+    }
+
+    @Benchmark
+    public void readReflection(Blackhole blackhole) {
+        for (FieldRepresentation field : fields) {
+            blackhole.consume(reflections.getValue(person, field.getNativeField()));
+        }
+    }
+
+    @Benchmark
+    public void readAccessor(Blackhole blackhole) {
+        for (FieldRepresentation field : fields) {
+            blackhole.consume(field.read(person));
+        }
+    }
+
+    @Benchmark
+    public Person writeReflection() {
+        for (int index = 0; index < values.length; index++) {
+            reflections.setValue(person, fields.get(index).getNativeField(), values[index]);
+        }
+        return person;
+    }
+
+    @Benchmark
+    public Person writeAccessor() {
+        for (int index = 0; index < values.length; index++) {
+            fields.get(index).write(person, values[index]);
+        }
+        return person;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FieldAccessorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.reflection;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Column;
 import org.jnosql.artemis.Embeddable;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +32,10 @@ import static org.jnosql.artemis.reflection.FieldType.DEFAULT;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 import static org.jnosql.artemis.reflection.FieldType.MAP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(CDIExtension.class)
 public class FieldRepresentationTest {
@@ -77,6 +83,25 @@ public class FieldRepresentationTest {
 
     }
 
+    @Test
+    public void shouldResolveGenericMetadata() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        GenericFieldRepresentation list = (GenericFieldRepresentation) classRepresentation.getFieldsGroupByName()
+                .get("listAnnotation");
+        GenericFieldRepresentation map = (GenericFieldRepresentation) classRepresentation.getFieldsGroupByName()
+                .get("mapAnnotation");
+
+        assertEquals(String.class, list.getElementType());
+        assertFalse(list.isEmbeddable());
+        assertFalse(list.getKeyValue().isPresent());
+        assertTrue(list.getCollectionInstance(10) instanceof ArrayList);
+
+        Reflections.KeyValueClass keyValue = map.getKeyValue().get();
+        assertEquals(String.class, keyValue.getKeyClass());
+        assertEquals(String.class, keyValue.getValueClass());
+        assertThrows(UnsupportedOperationException.class, map::getCollectionInstance);
+    }
+
     @Test
     public void shouldReadEmbeddableField() {
         ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
@@ -90,6 +115,43 @@ public class FieldRepresentationTest {
     }
 
 
+    @Test
+    public void shouldReadFieldValue() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        FieldRepresentation field = classRepresentation.getFieldsGroupByName().get("stringTypeAnnotation");
+        ForClass instance = new ForClass();
+        instance.string = "value";
+
+        assertEquals("value", field.read(instance));
+    }
+
+    @Test
+    public void shouldWriteFieldValue() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        FieldRepresentation field = classRepresentation.getFieldsGroupByName().get("stringTypeAnnotation");
+        ForClass instance = new ForClass();
+
+        field.write(instance, "value");
+        assertEquals("value", instance.string);
+
+        field.write(instance, null);
+        assertNull(instance.string);
+    }
+
+    @Test
+    public void shouldReadAndWritePrimitiveField() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        FieldRepresentation field = classRepresentation.getFieldsGroupByName().get("counter");
+        ForClass instance = new ForClass();
+
+        field.writeInt(instance, 42);
+        assertEquals(42, instance.counter);
+        assertEquals(42, field.readInt(instance));
+        assertThrows(ArtemisException.class, () -> field.readLong(instance));
+        assertThrows(ArtemisException.class, () -> classRepresentation.getFieldsGroupByName()
+                .get("stringTypeAnnotation").writeDouble(instance, 1D));
+    }
+
     public static class ForClass {
 
         @Column("stringTypeAnnotation")
@@ -104,6 +166,9 @@ public class FieldRepresentationTest {
 
         @Column
         private BarClass barClass;
+
+        @Column
+        private int counter;
     }
 
     @Embeddable
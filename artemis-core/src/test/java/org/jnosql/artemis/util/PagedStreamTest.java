@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class PagedStreamTest {
+
+    private final List<Long> starts = new ArrayList<>();
+
+    private List<Long> read(long start, long limit, long size) {
+        starts.add(start);
+        return LongStream.range(start, Math.min(start + limit, size)).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> PagedStream.of(null, 0, 0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PagedStream.of((start, limit) -> new ArrayList<>(), 0, 0, 0));
+    }
+
+    @Test
+    public void shouldReadUntilTheLastPage() {
+        List<Long> elements = PagedStream.<Long>of((start, limit) -> read(start, limit, 7), 0, 0, 3)
+                .collect(Collectors.toList());
+        assertEquals(LongStream.range(0, 7).boxed().collect(Collectors.toList()), elements);
+        assertEquals(Arrays.asList(0L, 3L, 6L), starts);
+    }
+
+    @Test
+    public void shouldReadLazily() {
+        Stream<Long> stream = PagedStream.of((start, limit) -> read(start, limit, 100), 0, 0, 10);
+        assertEquals(0, starts.size());
+        assertEquals(Arrays.asList(0L, 1L), stream.limit(2).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(0L), starts);
+    }
+
+    @Test
+    public void shouldRespectStartAndLimit() {
+        List<Long> elements = PagedStream.<Long>of((start, limit) -> read(start, limit, 100), 5, 4, 3)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(5L, 6L, 7L, 8L), elements);
+        assertEquals(Arrays.asList(5L, 8L), starts);
+    }
+
+    @Test
+    public void shouldStopWhenTheDatabaseIgnoresThePage() {
+        List<Long> elements = PagedStream.<Long>of((start, limit) -> read(0, 100, 5), 0, 0, 2)
+                .collect(Collectors.toList());
+        assertEquals(5, elements.size());
+        assertEquals(1, starts.size());
+    }
+
+    @Test
+    public void shouldStopReadingWhenClosed() {
+        Stream<Long> stream = PagedStream.of((start, limit) -> read(start, limit, 100), 0, 0, 2);
+        Iterator<Long> iterator = stream.iterator();
+        assertEquals(Long.valueOf(0L), iterator.next());
+        stream.close();
+        assertFalse(iterator.hasNext());
+        assertEquals(1, starts.size());
+    }
+}
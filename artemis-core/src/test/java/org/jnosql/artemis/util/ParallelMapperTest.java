@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParallelMapperTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Function<Integer, Integer> identity = i -> i;
+        List<Integer> elements = Arrays.asList(1, 2);
+        Assertions.assertThrows(NullPointerException.class, () -> ParallelMapper.map(null, identity, pool));
+        Assertions.assertThrows(NullPointerException.class, () -> ParallelMapper.map(elements, null, pool));
+        Assertions.assertThrows(NullPointerException.class, () -> ParallelMapper.map(elements, identity, null));
+    }
+
+    @Test
+    public void shouldMapSmallList() {
+        List<String> result = ParallelMapper.map(Arrays.asList(1, 2, 3), String::valueOf, pool);
+        assertEquals(Arrays.asList("1", "2", "3"), result);
+    }
+
+    @Test
+    public void shouldKeepTheOrder() {
+        List<Integer> elements = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        List<String> result = ParallelMapper.map(elements, String::valueOf, pool);
+        assertEquals(elements.stream().map(String::valueOf).collect(Collectors.toList()), result);
+    }
+
+    @Test
+    public void shouldPropagateTheError() {
+        List<Integer> elements = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+        Assertions.assertThrows(IllegalStateException.class, () -> ParallelMapper.map(elements, i -> {
+            if (i == 500) {
+                throw new IllegalStateException("error");
+            }
+            return i;
+        }, pool));
+    }
+}
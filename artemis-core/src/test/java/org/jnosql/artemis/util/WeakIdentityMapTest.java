@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class WeakIdentityMapTest {
+
+    private final WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> map.put(null, "value"));
+        Assertions.assertThrows(NullPointerException.class, () -> map.put("key", null));
+        Assertions.assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Test
+    public void shouldCompareKeysByIdentity() {
+        String key = new String("key");
+        map.put(key, "value");
+        assertEquals(Optional.of("value"), map.get(key));
+        assertFalse(map.get(new String("key")).isPresent());
+    }
+
+    @Test
+    public void shouldRemove() {
+        Object key = new Object();
+        map.put(key, "value");
+        assertEquals(Optional.of("value"), map.remove(key));
+        assertFalse(map.get(key).isPresent());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void shouldReplaceTheValue() {
+        Object key = new Object();
+        map.put(key, "value");
+        map.put(key, "other");
+        assertEquals(Optional.of("other"), map.get(key));
+        assertEquals(1, map.size());
+    }
+}
@@ -14,9 +14,16 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.util.ParallelMapper;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -30,6 +37,16 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     protected abstract  DocumentEntityConverter getConverter();
 
+    /**
+     * Returns the pool that converts the entities of {@link #flow(List, Function)}. Only the
+     * {@link DocumentEntityConverter#toDocument(Object)} calls run on it, the events are fired in the caller thread.
+     *
+     * @return the {@link ParallelMapper#getPool()}, by default empty and the conversion runs in the caller thread
+     */
+    protected Optional<ForkJoinPool> getConversionPool() {
+        return ParallelMapper.getPool();
+    }
+
 
     @Override
     public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
@@ -40,6 +57,47 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flow(List<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        DocumentEventPersistManager persistManager = getDocumentEventPersistManager();
+        DocumentEntityConverter converter = getConverter();
+
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            persistManager.firePreEntity(entity);
+            persistManager.firePreDocumentEntity(entity);
+        }
+        Optional<ForkJoinPool> pool = getConversionPool();
+        List<DocumentEntity> documents;
+        if (pool.isPresent()) {
+            documents = ParallelMapper.map(entities, converter::toDocument, pool.get());
+        } else {
+            documents = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                documents.add(converter.toDocument(entity));
+            }
+        }
+        documents.forEach(persistManager::firePreDocument);
+
+        Iterator<DocumentEntity> results = action.apply(documents).iterator();
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            if (!results.hasNext()) {
+                throw new ArtemisException("The database returned fewer documents than the " + entities.size()
+                        + " entities sent");
+            }
+            DocumentEntity document = results.next();
+            persistManager.firePostDocument(document);
+            T result = converter.toEntity(entity, document);
+            persistManager.firePostEntity(result);
+            persistManager.firePostDocumentEntity(result);
+            saved.add(result);
+        }
+        return saved;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -18,24 +18,13 @@ import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
-import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link DocumentEntityConverter}
@@ -50,20 +39,19 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final ClassValue<DocumentEntityCodec> codecs = new ClassValue<DocumentEntityCodec>() {
+        @Override
+        protected DocumentEntityCodec computeValue(Class<?> type) {
+            return DocumentEntityCodec.of(getClassRepresentations().get(type), converterFactory);
+        }
+    };
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassRepresentation representation = getClassRepresentations().get(entityInstance.getClass());
-        DocumentEntity entity = DocumentEntity.of(representation.getName());
-        representation.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
-        return entity;
-
+        return getCodec(representation).toDocument(entityInstance, this);
     }
 
     @Override
@@ -84,8 +72,7 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     protected <T> T toEntity(Class<T> entityClass, List<Document> documents) {
         ClassRepresentation representation = getClassRepresentations().get(entityClass);
-        T instance = getReflections().newInstance(representation.getConstructor());
-        return convertEntity(documents, representation, instance);
+        return getCodec(representation).toEntity(documents, this);
     }
 
 
@@ -94,41 +81,15 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
     public <T> T toEntity(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassRepresentation representation = getClassRepresentations().findByName(entity.getName());
-        T instance = getReflections().newInstance(representation.getConstructor());
-        return convertEntity(entity.getDocuments(), representation, instance);
+        return getCodec(representation).toEntity(entity.getDocuments(), this);
     }
 
     private <T> T convertEntity(List<Document> documents, ClassRepresentation representation, T instance) {
-        final Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
-        return instance;
+        return getCodec(representation).toEntity(instance, documents, this);
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
-
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
-        };
+    private DocumentEntityCodec getCodec(ClassRepresentation representation) {
+        return codecs.get(representation.getClassInstance());
     }
 
-
-    private DocumentFieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = getReflections().getValue(entityInstance, field.getNativeField());
-        return DefaultDocumentFieldValue.of(value, field);
-    }
-
-
 }
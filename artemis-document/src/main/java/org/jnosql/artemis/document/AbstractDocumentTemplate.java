@@ -17,32 +17,93 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.cache.CacheStatistics;
+import org.jnosql.artemis.cache.CacheableQuery;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.artemis.document.util.ConverterUtil;
+import org.jnosql.artemis.reflection.ClassInformationNotFoundException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.util.PagedStream;
+import org.jnosql.artemis.util.WeakIdentityMap;
+import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * This class provides a skeletal implementation of the {@link DocumentTemplate} interface,
  * to minimize the effort required to implement this interface.
+ * The insert and update of an {@link Iterable} split the entities in chunks of {@link #getChunkSize()}
+ * and send each chunk to the {@link DocumentCollectionManager} in a single call.
+ * The {@link #stream(DocumentQuery)} reads the query result in pages of {@link #getPageSize()} entities.
+ * When {@link #isDirtyTracking()} is enabled the entities read keep a snapshot of their documents,
+ * so the update sends only the id and the documents changed, and nothing when the entity did not change.
+ * When {@link #getEntityCache()} is present the {@link #find(Class, Object)} reads the entity from it, the insert
+ * caches the entity saved with its time to live and the update and delete remove it. The find does not cache
+ * an entity when its class was written or removed from the cache while the entity was loaded.
+ * When {@link #getQueryCache()} is present the select of an entity, or a repository, annotated with
+ * {@link org.jnosql.artemis.cache.CacheQueries} reads the result from it, and any write to a collection
+ * removes all of its results.
  */
 public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
+    /**
+     * The system property with the number of entities sent to the database in each call
+     * of the {@link Iterable} insert and update, by default {@link #DEFAULT_CHUNK_SIZE}
+     */
+    public static final String CHUNK_SIZE = "jnosql.artemis.chunk.size";
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The system property with the number of entities read from the database in each call
+     * of the {@link #stream(DocumentQuery)}, by default {@link #DEFAULT_PAGE_SIZE}
+     */
+    public static final String PAGE_SIZE = "jnosql.artemis.page.size";
+
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * The system property that enables the dirty tracking, the update of an entity read by this template
+     * sends only its id and the documents changed. It requires a database that merges the documents of an update.
+     */
+    public static final String DIRTY_TRACKING = "jnosql.artemis.dirty.tracking";
+
+    /**
+     * The system property with the maximum number of entities kept by the {@link #getEntityCache()},
+     * by default zero that disables the cache
+     */
+    public static final String ENTITY_CACHE_SIZE = "jnosql.artemis.entity.cache.size";
+
+    /**
+     * The system property with the maximum number of query results kept by the {@link #getQueryCache()},
+     * by default zero that disables the cache
+     */
+    public static final String QUERY_CACHE_SIZE = "jnosql.artemis.query.cache.size";
+
 
     protected abstract DocumentEntityConverter getConverter();
 
@@ -60,10 +121,24 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     private final UnaryOperator<DocumentEntity> update = e -> getManager().update(e);
 
+    private final WeakIdentityMap<Object, DocumentSnapshot> snapshots = new WeakIdentityMap<>();
+
+    private final Optional<EntityCache<DocumentEntity>> entityCache =
+            Optional.of(Integer.getInteger(ENTITY_CACHE_SIZE, 0)).filter(size -> size > 0).map(EntityCache::lru);
+
+    private final Optional<QueryCache<List<DocumentEntity>>> queryCache =
+            Optional.of(Integer.getInteger(QUERY_CACHE_SIZE, 0)).filter(size -> size > 0).map(QueryCache::lru);
+
+    private final int chunkSize = getSize(CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+
+    private final int pageSize = getSize(PAGE_SIZE, DEFAULT_PAGE_SIZE);
+
+    private final boolean dirtyTracking = Boolean.getBoolean(DIRTY_TRACKING);
+
     @Override
     public <T> T insert(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, insert);
+        return invalidate(getWorkflow().flow(entity, cached(entity, insert, null)));
     }
 
 
@@ -71,15 +146,80 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     public <T> T insert(T entity, Duration ttl) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return getWorkflow().flow(entity, e -> getManager().insert(e, ttl));
+        return invalidate(getWorkflow().flow(entity, cached(entity, e -> getManager().insert(e, ttl), ttl)));
     }
 
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return evictAll(flow(entities, e -> getManager().insert(e)));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return evictAll(flow(entities, e -> getManager().insert(e, ttl)));
+    }
+
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, update);
+        if (!isDirtyTracking()) {
+            return evict(getWorkflow().flow(entity, update));
+        }
+        String id = getClassRepresentations().get(entity.getClass()).getId().map(FieldRepresentation::getName)
+                .orElse(null);
+        Optional<DocumentSnapshot> snapshot = snapshots.get(entity);
+        return evict(getWorkflow().flow(entity, e -> {
+            DocumentEntity result = e;
+            if (snapshot.isPresent()) {
+                snapshot.get().getChanges(e, id).ifPresent(c -> getManager().update(c));
+            } else {
+                result = getManager().update(e);
+            }
+            snapshots.put(entity, DocumentSnapshot.of(e));
+            return result;
+        }));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        if (isDirtyTracking()) {
+            return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(Collectors.toList());
+        }
+        return evictAll(flow(entities, e -> getManager().update(e)));
+    }
+
+    /**
+     * Returns the number of entities sent to the database in each call of the {@link Iterable} insert and update
+     *
+     * @return the {@link #CHUNK_SIZE} system property read when the template is created
+     * otherwise {@link #DEFAULT_CHUNK_SIZE}
+     */
+    protected int getChunkSize() {
+        return chunkSize;
+    }
+
+    private <T> List<T> flow(Iterable<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        int chunkSize = getChunkSize();
+        List<T> saved = entities instanceof Collection ? new ArrayList<>(((Collection<T>) entities).size())
+                : new ArrayList<>();
+        List<T> chunk = new ArrayList<>(Math.min(chunkSize, DEFAULT_CHUNK_SIZE));
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == chunkSize) {
+                saved.addAll(getWorkflow().flow(chunk, action));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saved.addAll(getWorkflow().flow(chunk, action));
+        }
+        return saved;
     }
 
 
@@ -89,17 +229,225 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         Objects.requireNonNull(query, "query is required");
         getPersistManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        getEntityCache().ifPresent(c -> evictAll(c, query.getDocumentCollection()));
+        getQueryCache().ifPresent(c -> c.removeAll(query.getDocumentCollection()));
+    }
+
+    private void evictAll(EntityCache<?> cache, String name) {
+        try {
+            cache.removeAll(getClassRepresentations().findByName(name).getClassInstance());
+        } catch (ClassInformationNotFoundException exception) {
+            cache.clear();
+        }
     }
 
     @Override
     public <T> List<T> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
         getPersistManager().firePreQuery(query);
-        List<DocumentEntity> entities = getManager().select(query);
-        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        List<DocumentEntity> entities = selectCached(query);
+        Function<DocumentEntity, T> function = toEntity();
         return entities.stream().map(function).collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        Function<DocumentEntity, T> function = toEntity();
+        PagedStream.PageReader<DocumentEntity> reader = (start, limit) ->
+                getManager().select(PagedDocumentQuery.of(query, start, limit));
+        return PagedStream.of(reader, query.getFirstResult(), query.getMaxResults(), getPageSize()).map(function);
+    }
+
+    @Override
+    public <T> KeysetPage<T> select(DocumentQuery query, KeysetPagination pagination) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(pagination, "pagination is required");
+        DocumentQuery page = DocumentKeyset.query(query, pagination, getIdName(query));
+        getPersistManager().firePreQuery(page);
+        List<DocumentEntity> entities = getManager().select(page);
+        Function<DocumentEntity, T> function = toEntity();
+        List<T> content = entities.stream().map(function).collect(Collectors.toList());
+        if (entities.size() < pagination.getMaxResults()) {
+            return KeysetPage.of(content);
+        }
+        return KeysetPage.of(content, DocumentKeyset.next(page, entities.get(entities.size() - 1), pagination));
+    }
+
+    /**
+     * Returns whether the entities read keep a snapshot so the update sends only the documents changed
+     *
+     * @return the {@link #DIRTY_TRACKING} system property read when the template is created, by default false
+     */
+    protected boolean isDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    private <T> Function<DocumentEntity, T> toEntity() {
+        if (!isDirtyTracking()) {
+            return e -> getConverter().toEntity(e);
+        }
+        return e -> {
+            T entity = getConverter().toEntity(e);
+            snapshots.put(entity, DocumentSnapshot.of(e));
+            return entity;
+        };
+    }
+
+    /**
+     * Returns the number of entities read from the database in each call of the {@link #stream(DocumentQuery)}
+     *
+     * @return the {@link #PAGE_SIZE} system property read when the template is created
+     * otherwise {@link #DEFAULT_PAGE_SIZE}
+     */
+    protected int getPageSize() {
+        return pageSize;
+    }
+
+    private static int getSize(String property, int defaultSize) {
+        int size = Integer.getInteger(property, defaultSize);
+        return size > 0 ? size : defaultSize;
+    }
+
+    @Override
+    public DocumentSession openSession() {
+        return new DefaultDocumentSession(this);
+    }
+
+    /**
+     * Returns the cache of the entities by their class and id used by the {@link #find(Class, Object)},
+     * by default a least recently used cache with the {@link #ENTITY_CACHE_SIZE} system property, read when
+     * the template is created, as its size.
+     * It might be replaced to either a custom bound or another eviction policy.
+     *
+     * @return the entity cache otherwise {@link Optional#empty()} when the cache is disabled
+     */
+    protected Optional<EntityCache<DocumentEntity>> getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Returns the hits, misses and evictions of the {@link #getEntityCache()}
+     *
+     * @return the statistics otherwise {@link Optional#empty()} when the cache is disabled
+     */
+    public Optional<CacheStatistics> getEntityCacheStatistics() {
+        return getEntityCache().map(EntityCache::getStatistics);
+    }
+
+    private <T> UnaryOperator<DocumentEntity> cached(T entity, UnaryOperator<DocumentEntity> action, Duration ttl) {
+        Optional<EntityCache<DocumentEntity>> cache = getEntityCache();
+        Optional<FieldRepresentation> idField = getClassRepresentations().get(entity.getClass()).getId();
+        if (!cache.isPresent() || !idField.isPresent()) {
+            return action;
+        }
+        return e -> {
+            DocumentEntity saved = action.apply(e);
+            Optional<Object> id = saved.find(idField.get().getName()).map(Document::get);
+            if (id.isPresent() && ttl == null) {
+                cache.get().put(entity.getClass(), id.get(), copy(saved));
+            } else if (id.isPresent()) {
+                cache.get().put(entity.getClass(), id.get(), copy(saved), ttl);
+            }
+            return saved;
+        };
+    }
+
+    private <T> T evict(T entity) {
+        getEntityCache().ifPresent(c -> {
+            Optional<FieldRepresentation> idField = getClassRepresentations().get(entity.getClass()).getId();
+            Object id = idField.map(f -> f.read(entity)).orElse(null);
+            if (id != null) {
+                c.remove(entity.getClass(), ConverterUtil.getValue(id, idField.get(), getConverters()));
+            }
+        });
+        return invalidate(entity);
+    }
+
+    private <T> Iterable<T> evictAll(List<T> entities) {
+        if (getEntityCache().isPresent()) {
+            entities.forEach(this::evict);
+        } else if (getQueryCache().isPresent()) {
+            entities.stream().map(Object::getClass).distinct().forEach(this::invalidateAll);
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the cache of the query results used by the select of the entities and repositories annotated with
+     * {@link org.jnosql.artemis.cache.CacheQueries}, by default a least recently used cache with the
+     * {@link #QUERY_CACHE_SIZE} system property, read when the template is created, as its size.
+     * It might be replaced to either a custom bound or another eviction policy.
+     *
+     * @return the query cache otherwise {@link Optional#empty()} when the cache is disabled
+     */
+    protected Optional<QueryCache<List<DocumentEntity>>> getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Returns the hits, misses and evictions of the {@link #getQueryCache()}
+     *
+     * @return the statistics otherwise {@link Optional#empty()} when the cache is disabled
+     */
+    public Optional<CacheStatistics> getQueryCacheStatistics() {
+        return getQueryCache().map(QueryCache::getStatistics);
+    }
+
+    private List<DocumentEntity> selectCached(DocumentQuery query) {
+        Optional<QueryCache<List<DocumentEntity>>> cache = getQueryCache();
+        Optional<Duration> ttl = cache.isPresent() ? getCacheTtl(query) : Optional.empty();
+        if (!ttl.isPresent()) {
+            return getManager().select(query);
+        }
+        DocumentQueryKey key = DocumentQueryKey.of(query);
+        Optional<List<DocumentEntity>> cached = cache.get().get(query.getDocumentCollection(), key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long version = cache.get().getVersion(query.getDocumentCollection());
+        List<DocumentEntity> entities = getManager().select(query);
+        cache.get().putIfVersion(query.getDocumentCollection(), key,
+                Collections.unmodifiableList(entities.stream().map(this::copy).collect(Collectors.toList())), ttl.get(),
+                version);
+        return entities;
+    }
+
+    private Optional<Duration> getCacheTtl(DocumentQuery query) {
+        if (query instanceof CacheableQuery) {
+            return Optional.of(((CacheableQuery) query).getCacheTtl());
+        }
+        try {
+            return CacheableQuery.getCacheTtl(getClassRepresentations().findByName(query.getDocumentCollection()).getClassInstance());
+        } catch (ClassInformationNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private String getIdName(DocumentQuery query) {
+        try {
+            return getClassRepresentations().findByName(query.getDocumentCollection()).getId()
+                    .map(FieldRepresentation::getName).orElse(null);
+        } catch (ClassInformationNotFoundException exception) {
+            return null;
+        }
+    }
+
+    private <T> T invalidate(T entity) {
+        invalidateAll(entity.getClass());
+        return entity;
+    }
+
+    private void invalidateAll(Class<?> entityClass) {
+        getQueryCache().ifPresent(c -> c.removeAll(getClassRepresentations().get(entityClass).getName()));
+    }
+
+    private DocumentEntity copy(DocumentEntity entity) {
+        return DocumentEntity.of(entity.getName(), entity.getDocuments().stream()
+                .map(d -> (Document) DocumentSnapshot.copy(d)).collect(Collectors.toList()));
+    }
+
     @Override
     public <T, ID> Optional<T> find(Class<T> entityClass, ID id) {
         requireNonNull(entityClass, "entityClass is required");
@@ -109,10 +457,28 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
         Object value = ConverterUtil.getValue(id, classRepresentation, idField.getFieldName(), getConverters());
+        Optional<EntityCache<DocumentEntity>> cache = getEntityCache();
+        Optional<DocumentEntity> cached = cache.flatMap(c -> c.get(entityClass, value));
+        if (cached.isPresent()) {
+            return Optional.of(this.<T>toEntity().apply(cached.get()));
+        }
         DocumentQuery query = DocumentQueryBuilder.select().from(classRepresentation.getName())
                 .where(idField.getName()).eq(value).build();
+        if (!cache.isPresent()) {
+            return singleResult(query);
+        }
 
-        return singleResult(query);
+        getPersistManager().firePreQuery(query);
+        long version = cache.get().getVersion(entityClass);
+        List<DocumentEntity> entities = getManager().select(query);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() > 1) {
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        }
+        cache.get().putIfVersion(entityClass, value, copy(entities.get(0)), version);
+        return Optional.of(this.<T>toEntity().apply(entities.get(0)));
     }
 
     @Override
@@ -128,7 +494,10 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         DocumentDeleteQuery query = DocumentQueryBuilder.delete().from(classRepresentation.getName())
                 .where(idField.getName()).eq(value).build();
 
-        delete(query);
+        getPersistManager().firePreDeleteQuery(query);
+        getManager().delete(query);
+        getEntityCache().ifPresent(c -> c.remove(entityClass, value));
+        getQueryCache().ifPresent(c -> c.removeAll(classRepresentation.getName()));
     }
 
 }
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.document.util.ConverterUtil;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The default {@link DocumentSession}, the entities are kept by their class and id value converted to the database.
+ * Entities without id are not kept and their updates go to the database when they are called.
+ */
+final class DefaultDocumentSession implements DocumentSession {
+
+    private final AbstractDocumentTemplate template;
+
+    private final Map<EntityKey, Object> entities = new HashMap<>();
+
+    private final Map<EntityKey, Object> updates = new LinkedHashMap<>();
+
+    DefaultDocumentSession(AbstractDocumentTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public <T> T insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return inserted(template.insert(entity));
+    }
+
+    @Override
+    public <T> T insert(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return inserted(template.insert(entity, ttl));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return inserted(template.insert(entities));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return inserted(template.insert(entities, ttl));
+    }
+
+    @Override
+    public <T> T update(T entity) {
+        requireNonNull(entity, "entity is required");
+        Optional<EntityKey> key = getKey(entity);
+        if (!key.isPresent()) {
+            return template.update(entity);
+        }
+        entities.put(key.get(), entity);
+        updates.put(key.get(), entity);
+        return entity;
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return StreamSupport.stream(entities.spliterator(), false).map(this::update).collect(toList());
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        commit();
+        entities.keySet().removeIf(k -> template.getClassRepresentations().get(k.type).getName()
+                .equals(query.getDocumentCollection()));
+        template.delete(query);
+    }
+
+    @Override
+    public <T> List<T> select(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        commit();
+        return template.<T>select(query).stream().map(this::managed).collect(toList());
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        commit();
+        return template.<T>stream(query).map(this::managed);
+    }
+
+    @Override
+    public <T> KeysetPage<T> select(DocumentQuery query, KeysetPagination pagination) {
+        requireNonNull(query, "query is required");
+        requireNonNull(pagination, "pagination is required");
+        commit();
+        KeysetPage<T> page = template.select(query, pagination);
+        List<T> content = page.getContent().stream().map(this::managed).collect(toList());
+        return page.next().map(n -> KeysetPage.of(content, n)).orElseGet(() -> KeysetPage.of(content));
+    }
+
+    @Override
+    public <T, ID> Optional<T> find(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        ClassRepresentation representation = template.getClassRepresentations().get(entityClass);
+        Optional<FieldRepresentation> idField = representation.getId();
+        if (idField.isPresent()) {
+            Object value = ConverterUtil.getValue(id, idField.get(), template.getConverters());
+            Object entity = entities.get(new EntityKey(entityClass, value));
+            if (entity != null) {
+                return Optional.of(entityClass.cast(entity));
+            }
+        }
+        return template.find(entityClass, id).map(this::managed);
+    }
+
+    @Override
+    public <T, ID> void delete(Class<T> entityClass, ID id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        template.getClassRepresentations().get(entityClass).getId().ifPresent(f -> {
+            EntityKey key = new EntityKey(entityClass, ConverterUtil.getValue(id, f, template.getConverters()));
+            entities.remove(key);
+            updates.remove(key);
+        });
+        template.delete(entityClass, id);
+    }
+
+    @Override
+    public DocumentSession openSession() {
+        return template.openSession();
+    }
+
+    @Override
+    public void commit() {
+        if (updates.isEmpty()) {
+            return;
+        }
+        List<Object> pending = new ArrayList<>(updates.values());
+        updates.clear();
+        template.update(pending);
+    }
+
+    @Override
+    public void close() {
+        updates.clear();
+        entities.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T managed(T entity) {
+        Optional<EntityKey> key = getKey(entity);
+        if (!key.isPresent()) {
+            return entity;
+        }
+        return (T) entities.computeIfAbsent(key.get(), k -> entity);
+    }
+
+    private <T> T inserted(T entity) {
+        getKey(entity).ifPresent(k -> {
+            entities.put(k, entity);
+            updates.remove(k);
+        });
+        return entity;
+    }
+
+    private <T> Iterable<T> inserted(Iterable<T> entities) {
+        entities.forEach(this::inserted);
+        return entities;
+    }
+
+    private Optional<EntityKey> getKey(Object entity) {
+        Optional<FieldRepresentation> idField = template.getClassRepresentations().get(entity.getClass()).getId();
+        if (!idField.isPresent()) {
+            return Optional.empty();
+        }
+        Object value = idField.get().read(entity);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new EntityKey(entity.getClass(),
+                ConverterUtil.getValue(value, idField.get(), template.getConverters())));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultDocumentSession{");
+        sb.append("entities=").append(entities.size());
+        sb.append(", updates=").append(updates.size());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class EntityKey {
+
+        private final Class<?> type;
+
+        private final Object id;
+
+        private EntityKey(Class<?> type, Object id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntityKey)) {
+                return false;
+            }
+            EntityKey that = (EntityKey) o;
+            return type.equals(that.type) && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
+}
@@ -22,6 +22,30 @@ import java.util.Optional;
 
 interface DocumentFieldConverter {
 
-    <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldRepresentation field,
-                     AbstractDocumentEntityConverter converter);
+    /**
+     * Converts the document to the field value
+     *
+     * @param documents all the documents of the entity
+     * @param document  the document of the field, empty to embedded and subentity fields
+     * @param field     the field
+     * @param converter the converter
+     * @return the field value
+     */
+    Object decode(List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                  AbstractDocumentEntityConverter converter);
+
+    /**
+     * Converts the document and writes the value into the instance field
+     *
+     * @param instance  the instance
+     * @param documents all the documents of the entity
+     * @param document  the document of the field, empty to embedded and subentity fields
+     * @param field     the field
+     * @param converter the converter
+     * @param <T>       the instance type
+     */
+    default <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                             AbstractDocumentEntityConverter converter) {
+        field.write(instance, decode(documents, document, field, converter));
+    }
 }
@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -63,8 +62,8 @@ class DocumentFieldConverters {
     private static class EmbeddedFieldConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        public Object decode(List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                             AbstractDocumentEntityConverter converter) {
 
             if (document.isPresent()) {
                 Document sudDocument = document.get();
@@ -76,15 +75,15 @@ class DocumentFieldConverters {
                     for (Map.Entry entry : (Set<Map.Entry>) map.entrySet()) {
                         embeddedDocument.add(Document.of(entry.getKey().toString(), entry.getValue()));
                     }
-                    converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(), embeddedDocument));
+                    return converter.toEntity(field.getNativeField().getType(), embeddedDocument);
                 } else {
-                    converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(),
+                    return converter.toEntity(field.getNativeField().getType(),
                             sudDocument.get(new TypeReference<List<Document>>() {
-                            })));
+                            }));
                 }
 
             } else {
-                converter.getReflections().setValue(instance, field.getNativeField(), converter.toEntity(field.getNativeField().getType(), documents));
+                return converter.toEntity(field.getNativeField().getType(), documents);
             }
         }
     }
@@ -92,17 +91,17 @@ class DocumentFieldConverters {
     private static class DefaultConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        public Object decode(List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                             AbstractDocumentEntityConverter converter) {
             Value value = document.get().getValue();
 
             Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
             if (optionalConverter.isPresent()) {
                 AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
                 Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                converter.getReflections().setValue(instance, field.getNativeField(), field.getValue(Value.of(attributeConverted)));
+                return field.getValue(Value.of(attributeConverted));
             } else {
-                converter.getReflections().setValue(instance, field.getNativeField(), field.getValue(value));
+                return field.getValue(value);
             }
         }
     }
@@ -110,36 +109,38 @@ class DocumentFieldConverters {
     private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldRepresentation field, AbstractDocumentEntityConverter converter) {
-            document.ifPresent(convertDocument(instance, field, converter));
+        public <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                                AbstractDocumentEntityConverter converter) {
+            if (document.isPresent()) {
+                field.write(instance, decode(documents, document, field, converter));
+            }
         }
 
-        private <T> Consumer<Document> convertDocument(T instance, FieldRepresentation field, AbstractDocumentEntityConverter converter) {
-            return document -> {
-                GenericFieldRepresentation genericField = GenericFieldRepresentation.class.cast(field);
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Document>> embeddable = (List<List<Document>>) document.get();
-                for (List<Document> documentList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), documentList);
-                    collection.add(element);
-                }
-                converter.getReflections().setValue(instance, field.getNativeField(), collection);
-            };
+        @Override
+        public Object decode(List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                             AbstractDocumentEntityConverter converter) {
+            if (!document.isPresent()) {
+                return null;
+            }
+            GenericFieldRepresentation genericField = GenericFieldRepresentation.class.cast(field);
+            List<List<Document>> embeddable = (List<List<Document>>) document.get().get();
+            Collection collection = genericField.getCollectionInstance(embeddable.size());
+            for (List<Document> documentList : embeddable) {
+                Object element = converter.toEntity(genericField.getElementType(), documentList);
+                collection.add(element);
+            }
+            return collection;
         }
     }
 
     private static class SubEntityConverter implements DocumentFieldConverter {
 
-
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        public Object decode(List<Document> documents, Optional<Document> document, FieldRepresentation field,
+                             AbstractDocumentEntityConverter converter) {
 
             Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), documents);
-            converter.getReflections().setValue(instance, nativeField, subEntity);
-
+            return converter.toEntity(nativeField.getType(), documents);
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.ArtemisException;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.jnosql.diana.api.Sort.SortType.ASC;
+
+/**
+ * Translates a {@link KeysetPagination} to a {@link DocumentQuery}. The keys of sorts s1..sn become the condition
+ * (s1 &gt; k1) or (s1 = k1 and s2 &gt; k2) ... or (s1 = k1 ... and sn &gt; kn), with &lt; to the descending sorts,
+ * and it is combined with the query condition. These conditions are strict, so the id is appended as the last sort
+ * when the query is not sorted by it, otherwise the entities that share the keys of the last one would be skipped.
+ */
+final class DocumentKeyset {
+
+    private DocumentKeyset() {
+    }
+
+    /**
+     * Creates the query to the page
+     *
+     * @param query      the sorted query
+     * @param pagination the pagination
+     * @param id         the name of the id field, or null when the entity doesn't have one
+     * @return the query to the page, sorted by the id at last
+     */
+    static DocumentQuery query(DocumentQuery query, KeysetPagination pagination, String id) {
+        if (query.getSorts().isEmpty()) {
+            throw new ArtemisException("The keyset pagination requires a sorted query: " + query);
+        }
+        List<Sort> sorts = getSorts(query, id);
+        List<Object> keys = pagination.getKeys();
+        if (keys.isEmpty()) {
+            return PagedDocumentQuery.of(query, sorts, query.getCondition().orElse(null), pagination.getMaxResults());
+        }
+        if (keys.size() != sorts.size()) {
+            throw new ArtemisException("The keyset pagination has " + keys.size() + " keys and the query is sorted by "
+                    + sorts.size() + " fields: " + query);
+        }
+        DocumentCondition[] alternatives = new DocumentCondition[sorts.size()];
+        for (int index = 0; index < sorts.size(); index++) {
+            DocumentCondition[] conditions = new DocumentCondition[index + 1];
+            for (int previous = 0; previous < index; previous++) {
+                conditions[previous] = DocumentCondition.eq(Document.of(sorts.get(previous).getName(),
+                        keys.get(previous)));
+            }
+            Document document = Document.of(sorts.get(index).getName(), keys.get(index));
+            conditions[index] = ASC.equals(sorts.get(index).getType()) ? DocumentCondition.gt(document)
+                    : DocumentCondition.lt(document);
+            alternatives[index] = index == 0 ? conditions[0] : DocumentCondition.and(conditions);
+        }
+        DocumentCondition keyset = alternatives.length == 1 ? alternatives[0] : DocumentCondition.or(alternatives);
+        DocumentCondition condition = query.getCondition().map(c -> DocumentCondition.and(c, keyset)).orElse(keyset);
+        return PagedDocumentQuery.of(query, sorts, condition, pagination.getMaxResults());
+    }
+
+    /**
+     * Creates the pagination to the page after the given entity
+     *
+     * @param page       the query returned from {@link #query(DocumentQuery, KeysetPagination, String)}
+     * @param last       the last entity of the page
+     * @param pagination the pagination
+     * @return the pagination with the sort values of the last entity
+     */
+
+    static KeysetPagination next(DocumentQuery page, DocumentEntity last, KeysetPagination pagination) {
+        List<Object> keys = page.getSorts().stream().map(Sort::getName)
+                .map(name -> last.find(name).map(Document::get)
+                        .orElseThrow(() -> new ArtemisException("The sort field " + name
+                                + " was not found in the entity " + last.getName() + " to the keyset pagination")))
+                .collect(toList());
+        return KeysetPagination.of(pagination.getMaxResults(), keys);
+    }
+
+    private static List<Sort> getSorts(DocumentQuery query, String id) {
+        List<Sort> sorts = query.getSorts();
+        if (id == null || sorts.stream().map(Sort::getName).anyMatch(id::equals)) {
+            return sorts;
+        }
+        List<Sort> unique = new ArrayList<>(sorts);
+        unique.add(Sort.of(id, ASC));
+        return Collections.unmodifiableList(unique);
+    }
+}
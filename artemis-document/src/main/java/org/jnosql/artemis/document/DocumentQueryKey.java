@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The structural key of a {@link DocumentQuery} in the query cache: two queries with the same collection,
+ * condition tree, sorts, start, limit and documents have the same key whatever their implementation.
+ */
+final class DocumentQueryKey {
+
+    private final String documentCollection;
+
+    private final DocumentCondition condition;
+
+    private final List<Sort> sorts;
+
+    private final long start;
+
+    private final long limit;
+
+    private final List<String> documents;
+
+    private DocumentQueryKey(DocumentQuery query) {
+        this.documentCollection = query.getDocumentCollection();
+        this.condition = query.getCondition().orElse(null);
+        this.sorts = new ArrayList<>(query.getSorts());
+        this.start = query.getFirstResult();
+        this.limit = query.getMaxResults();
+        this.documents = new ArrayList<>(query.getDocuments());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DocumentQueryKey)) {
+            return false;
+        }
+        DocumentQueryKey that = (DocumentQueryKey) o;
+        return start == that.start && limit == that.limit
+                && Objects.equals(documentCollection, that.documentCollection)
+                && Objects.equals(condition, that.condition)
+                && Objects.equals(sorts, that.sorts)
+                && Objects.equals(documents, that.documents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(documentCollection, condition, sorts, start, limit, documents);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DocumentQueryKey{");
+        sb.append("documentCollection='").append(documentCollection).append('\'');
+        sb.append(", condition=").append(condition);
+        sb.append(", sorts=").append(sorts);
+        sb.append(", start=").append(start);
+        sb.append(", limit=").append(limit);
+        sb.append(", documents=").append(documents);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static DocumentQueryKey of(DocumentQuery query) {
+        return new DocumentQueryKey(query);
+    }
+}
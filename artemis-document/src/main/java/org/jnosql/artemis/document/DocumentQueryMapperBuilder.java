@@ -33,6 +33,19 @@ public interface DocumentQueryMapperBuilder {
      */
     <T> DocumentFrom selectFrom(Class<T> entityClass);
 
+    /**
+     * Returns a {@link DocumentFrom} implementation that does the object mapper API and reads only the fields
+     * informed, so the entities found have only these fields populated.
+     *
+     * @param entityClass the entity class
+     * @param fields      the java field names to read
+     * @param <T>         the entity type
+     * @return a {@link DocumentFrom} instance
+     * @throws NullPointerException when either entityClass or fields are null
+     * @throws org.jnosql.artemis.ArtemisException when a field is not mapped in the entity
+     */
+    <T> DocumentFrom selectFrom(Class<T> entityClass, String... fields);
+
     /**
      * Returns a {@link DocumentDeleteFrom} implementation that does the object mapper API.
      *
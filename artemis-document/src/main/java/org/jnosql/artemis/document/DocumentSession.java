@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+/**
+ * A unit of work over a {@link DocumentTemplate}, it keeps an identity map of the entities it reads or saves,
+ * so a {@link #find(Class, Object)} of an entity already loaded does not go to the database and the queries
+ * return the same instance to the same id. The {@link #update(Object)} is held until the {@link #commit()}
+ * or the next query, the updates to the same id become a single write and all of them are sent in bulk.
+ * Inserts and deletes go to the database when they are called.
+ * A session is not thread safe, it is meant to live within a single request.
+ *
+ * <pre>
+ * try (DocumentSession session = template.openSession()) {
+ *     Person person = session.find(Person.class, id).get();
+ *     person.setAge(30);
+ *     session.update(person);
+ *     session.commit();
+ * }
+ * </pre>
+ *
+ * @see DocumentTemplate#openSession()
+ */
+public interface DocumentSession extends DocumentTemplate, AutoCloseable {
+
+    /**
+     * Sends the pending updates to the database in bulk, the entities loaded are kept
+     */
+    void commit();
+
+    /**
+     * Discards the updates not committed and the entities loaded
+     */
+    @Override
+    void close();
+}
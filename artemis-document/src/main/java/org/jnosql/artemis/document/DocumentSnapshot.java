@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * The values of the documents of an entity read from the database, so an update sends only the documents changed.
+ * The collections, maps and subdocuments are copied, so a change made through the entity is not seen by the snapshot.
+ */
+final class DocumentSnapshot {
+
+    private final Map<String, Object> values;
+
+    private DocumentSnapshot(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns the entity to send to the database
+     *
+     * @param entity the entity with all documents
+     * @param id     the id name, it might be null
+     * @return {@link Optional#empty()} when nothing changed, the id and the documents changed, or the whole
+     * entity when either a document was removed or the entity has no id
+     */
+    Optional<DocumentEntity> getChanges(DocumentEntity entity, String id) {
+        List<Document> documents = entity.getDocuments();
+        Optional<Document> idDocument = Optional.ofNullable(id).flatMap(entity::find);
+        if (!idDocument.isPresent() || !entity.getDocumentNames().containsAll(values.keySet())) {
+            return Optional.of(entity);
+        }
+        List<Document> changes = documents.stream().filter(d -> !d.getName().equals(id))
+                .filter(d -> !Objects.equals(d.get(), values.get(d.getName())))
+                .collect(toList());
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        DocumentEntity partial = DocumentEntity.of(entity.getName());
+        partial.add(idDocument.get());
+        partial.addAll(changes);
+        return Optional.of(partial);
+    }
+
+    static DocumentSnapshot of(DocumentEntity entity) {
+        Map<String, Object> values = new HashMap<>(entity.size() * 2);
+        for (Document document : entity.getDocuments()) {
+            values.put(document.getName(), copy(document.get()));
+        }
+        return new DocumentSnapshot(values);
+    }
+
+    /**
+     * Copies a value read from the database, the collections, maps and subdocuments are copied
+     *
+     * @param value the value
+     * @return the copy
+     */
+    static Object copy(Object value) {
+        if (value instanceof Document) {
+            Document document = (Document) value;
+            return Document.of(document.getName(), copy(document.get()));
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(DocumentSnapshot::copy).collect(toList());
+        } else if (value instanceof Set) {
+            return ((Set<?>) value).stream().map(DocumentSnapshot::copy).collect(toSet());
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new HashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(k, copy(v)));
+            return map;
+        }
+        return value;
+    }
+}
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
@@ -23,6 +25,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -130,6 +133,35 @@ public interface DocumentTemplate {
      */
     <T> List<T> select(DocumentQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream} that converts each entity when it is consumed,
+     * by default it's just the {@link DocumentTemplate#select(DocumentQuery)} result.
+     * The stream should be closed to release the resources it holds.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return this.<T>select(query).stream();
+    }
+
+    /**
+     * Finds a page of entities from a sorted query with the keyset pagination: the page starts after the keys
+     * of the pagination instead of skipping the first results. The query start and limit are ignored.
+     * When the query is not sorted by the entity id, the id is the last sort, so the keys end with its value.
+     *
+     * @param query      - the sorted query to figure out entities
+     * @param pagination the page size and the sort values of the last entity of the previous page
+     * @param <T>        the instance type
+     * @return the page with the pagination to the next page
+     * @throws NullPointerException          when either query or pagination are null
+     * @throws org.jnosql.artemis.ArtemisException when the query is not sorted or the keys do not match the sorts
+     */
+    <T> KeysetPage<T> select(DocumentQuery query, KeysetPagination pagination);
+
     /**
      * Finds by Id.
      *
@@ -155,6 +187,14 @@ public interface DocumentTemplate {
      */
     <T, ID> void delete(Class<T> entityClass, ID id);
 
+    /**
+     * Opens a {@link DocumentSession}, a unit of work that keeps the entities loaded and sends
+     * the updates in bulk at its commit.
+     *
+     * @return a new session over this template
+     */
+    DocumentSession openSession();
+
     /**
      * Returns a single entity from query
      *
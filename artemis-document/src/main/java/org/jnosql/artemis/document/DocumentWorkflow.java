@@ -15,8 +15,15 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -44,4 +51,35 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action);
+
+    /**
+     * Executes the workflow to a chunk of entities. The events and the conversions run to each entity
+     * and the alteration receives the documents of the whole chunk in a single call.
+     * The default implementation runs {@link #flow(Object, UnaryOperator)} to each entity,
+     * so the alteration receives a single document at each call.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database, it returns the documents in the same order
+     * @param <T>      the entity type
+     * @return after the workflow the entities response in the same order
+     * @throws NullPointerException when either entities, an entity or action are null
+     * @throws org.jnosql.artemis.ArtemisException when the action returns fewer documents than the entities
+     * @see DocumentTemplate#insert(Iterable) DocumentTemplate#update(Iterable)
+     */
+    default <T> List<T> flow(List<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(flow(entity, document -> {
+                Iterator<DocumentEntity> results = action.apply(Collections.singletonList(document)).iterator();
+                if (!results.hasNext()) {
+                    throw new ArtemisException("The database returned fewer documents than the " + entities.size()
+                            + " entities sent");
+                }
+                return results.next();
+            }));
+        }
+        return saved;
+    }
 }
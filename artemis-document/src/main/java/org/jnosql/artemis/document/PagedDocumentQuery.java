@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of a {@link DocumentQuery}: the same query with another first result, max results, condition and sorts.
+ */
+final class PagedDocumentQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final List<Sort> sorts;
+
+    private final DocumentCondition condition;
+
+    private final long start;
+
+    private final long limit;
+
+    private PagedDocumentQuery(DocumentQuery query, List<Sort> sorts, DocumentCondition condition, long start, long limit) {
+        this.query = query;
+        this.sorts = sorts;
+        this.condition = condition;
+        this.start = start;
+        this.limit = limit;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return limit;
+    }
+
+    @Override
+    public long getFirstResult() {
+        return start;
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return Optional.ofNullable(condition);
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("PagedDocumentQuery{");
+        sb.append("query=").append(query);
+        sb.append(", condition=").append(condition);
+        sb.append(", firstResult=").append(start);
+        sb.append(", maxResult=").append(limit);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static DocumentQuery of(DocumentQuery query, long start, long limit) {
+        return new PagedDocumentQuery(query, query.getSorts(), query.getCondition().orElse(null), start, limit);
+    }
+
+    static DocumentQuery of(DocumentQuery query, List<Sort> sorts, DocumentCondition condition, long limit) {
+        return new PagedDocumentQuery(query, sorts, condition, 0L, limit);
+    }
+}
@@ -47,7 +47,7 @@ public abstract class AbstractDocumentRepository<T, ID> implements Repository<T,
     @Override
     public <S extends T> S save(S entity) {
         Objects.requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        Object id = getIdField().read(entity);
         if (nonNull(id) && existsById((ID) id)) {
             return getTemplate().update(entity);
         } else {
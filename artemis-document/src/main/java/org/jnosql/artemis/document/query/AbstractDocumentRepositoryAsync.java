@@ -45,7 +45,7 @@ public abstract class AbstractDocumentRepositoryAsync<T, ID> implements Reposito
     @Override
     public <S extends T> void save(S entity) {
         Objects.requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        Object id = getIdField().read(entity);
         if (isNull(id)) {
             getTemplate().insert(entity);
             return;
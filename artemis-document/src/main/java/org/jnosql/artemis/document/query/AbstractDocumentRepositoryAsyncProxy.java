@@ -25,10 +25,12 @@ import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
-import static org.jnosql.artemis.document.query.DocumentRepositoryType.getDeleteQuery;
-import static org.jnosql.artemis.document.query.DocumentRepositoryType.getQuery;
+import static org.jnosql.artemis.document.query.DocumentRepositoryType.getDeleteQueryIndex;
+import static org.jnosql.artemis.document.query.DocumentRepositoryType.getQueryIndex;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 
 /**
@@ -51,37 +53,51 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> implements Invocat
 
     protected abstract Converters getConverters();
 
+    private final Map<Method, DocumentMethodHandler> handlers = new ConcurrentHashMap<>();
+
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+        DocumentMethodHandler handler = handlers.get(method);
+        if (handler == null) {
+            handler = handlers.computeIfAbsent(method, this::toHandler);
+        }
+        return handler.invoke(args);
+    }
 
+    private DocumentMethodHandler toHandler(Method method) {
 
         String methodName = method.getName();
-        DocumentRepositoryType type = DocumentRepositoryType.of(method, args);
+        DocumentRepositoryType type = DocumentRepositoryType.of(method);
 
         switch (type) {
             case DEFAULT:
-                return method.invoke(getRepository(), args);
+                return args -> method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
-                        getConverters());
-                return executeQuery(getCallBack(args), query);
+                return args -> {
+                    DocumentQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
+                            getConverters());
+                    return executeQuery(getCallBack(args), query);
+                };
             case FIND_ALL:
-                return executeQuery(getCallBack(args), select().from(getClassRepresentation().getName()).build());
+                return args -> executeQuery(getCallBack(args),
+                        select().from(getClassRepresentation().getName()).build());
             case DELETE_BY:
-                DocumentDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation(),
-                        getConverters());
-                return executeDelete(args, deleteQuery);
+                return args -> {
+                    DocumentDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args,
+                            getClassRepresentation(), getConverters());
+                    return executeDelete(args, deleteQuery);
+                };
             case QUERY:
-                DocumentQuery documentQuery = getQuery(args).get();
-                return executeQuery(getCallBack(args), documentQuery);
+                int queryIndex = getQueryIndex(method);
+                return args -> executeQuery(getCallBack(args), DocumentQuery.class.cast(args[queryIndex]));
             case QUERY_DELETE:
-                return executeDelete(args, getDeleteQuery(args).get());
+                int deleteQueryIndex = getDeleteQueryIndex(method);
+                return args -> executeDelete(args, DocumentDeleteQuery.class.cast(args[deleteQueryIndex]));
             case OBJECT_METHOD:
-                return method.invoke(this, args);
+                return args -> method.invoke(this, args);
             default:
-                return Void.class;
+                return args -> Void.class;
         }
-
     }
 
     private Object executeDelete(Object[] args, DocumentDeleteQuery query1) {
@@ -19,15 +19,21 @@ import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.Projection;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static org.jnosql.artemis.document.query.DocumentRepositoryType.getDeleteQuery;
-import static org.jnosql.artemis.document.query.DocumentRepositoryType.getQuery;
+import static org.jnosql.artemis.document.query.DocumentRepositoryType.getDeleteQueryIndex;
+import static org.jnosql.artemis.document.query.DocumentRepositoryType.getQueryIndex;
 import static org.jnosql.artemis.document.query.ReturnTypeConverterUtil.returnObject;
+import static org.jnosql.artemis.document.query.ReturnTypeConverterUtil.returnProjection;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 
 /**
@@ -50,37 +56,77 @@ public abstract class AbstractDocumentRepositoryProxy<T> implements InvocationHa
 
     protected abstract Converters getConverters();
 
+    private final Map<Method, DocumentMethodHandler> handlers = new ConcurrentHashMap<>();
+
 
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
+        DocumentMethodHandler handler = handlers.get(method);
+        if (handler == null) {
+            handler = handlers.computeIfAbsent(method, this::toHandler);
+        }
+        return handler.invoke(args);
+    }
+
+    private DocumentMethodHandler toHandler(Method method) {
 
         String methodName = method.getName();
-        DocumentRepositoryType type = DocumentRepositoryType.of(method, args);
+        DocumentRepositoryType type = DocumentRepositoryType.of(method);
         Class<?> typeClass = getClassRepresentation().getClassInstance();
 
         switch (type) {
             case DEFAULT:
-                return method.invoke(getRepository(), args);
+                return args -> method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(), getConverters());
-                return returnObject(query, getTemplate(), typeClass, method);
+                Optional<Projection> findByProjection = Projection.of(method, getClassRepresentation());
+                return args -> {
+                    DocumentQuery query = getQueryParser().parse(methodName, args, getClassRepresentation(),
+                            getConverters());
+                    return returnResult(query, typeClass, findByProjection, method, args);
+                };
             case FIND_ALL:
-                return returnObject(select().from(getClassRepresentation().getName()).build(), getTemplate(),
-                        typeClass, method);
+                Optional<Projection> findAllProjection = Projection.of(method, getClassRepresentation());
+                return args -> returnResult(select().from(getClassRepresentation().getName()).build(), typeClass,
+                        findAllProjection, method, args);
             case DELETE_BY:
-                getTemplate().delete(getDeleteParser().parse(methodName, args, getClassRepresentation(), getConverters()));
-                return null;
+                return args -> {
+                    getTemplate().delete(getDeleteParser().parse(methodName, args, getClassRepresentation(),
+                            getConverters()));
+                    return null;
+                };
             case QUERY:
-                DocumentQuery documentQuery = getQuery(args).get();
-                return returnObject(documentQuery, getTemplate(), typeClass, method);
+                Optional<Projection> queryProjection = Projection.of(method, getClassRepresentation());
+                int queryIndex = getQueryIndex(method);
+                return args -> returnResult(DocumentQuery.class.cast(args[queryIndex]), typeClass, queryProjection,
+                        method, args);
             case QUERY_DELETE:
-                DocumentDeleteQuery deleteQuery = getDeleteQuery(args).get();
-                getTemplate().delete(deleteQuery);
-                return Void.class;
+                int deleteQueryIndex = getDeleteQueryIndex(method);
+                return args -> {
+                    getTemplate().delete(DocumentDeleteQuery.class.cast(args[deleteQueryIndex]));
+                    return Void.class;
+                };
             case OBJECT_METHOD:
-                return method.invoke(this, args);
+                return args -> method.invoke(this, args);
             default:
-                return Void.class;
+                return args -> Void.class;
+        }
+    }
+
+    /**
+     * Returns the time to live in the query cache of the results of this repository
+     *
+     * @return the time to live otherwise {@link Optional#empty()} when the results are not cached by the repository
+     */
+    protected Optional<Duration> getCacheTtl() {
+        return Optional.empty();
+    }
+
+    private Object returnResult(DocumentQuery selectQuery, Class<?> typeClass, Optional<Projection> projection,
+                                Method method, Object[] args) {
+        DocumentQuery query = getCacheTtl().map(t -> CacheableDocumentQuery.of(selectQuery, t)).orElse(selectQuery);
+        if (projection.isPresent()) {
+            return returnProjection(query, getTemplate(), projection.get(), method, args);
         }
+        return returnObject(query, getTemplate(), typeClass, method, args);
     }
 }
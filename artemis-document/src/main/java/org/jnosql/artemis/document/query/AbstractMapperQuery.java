@@ -17,10 +17,12 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.document.util.ConverterUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldPath;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -76,8 +78,9 @@ abstract class AbstractMapperQuery {
     protected void betweenImpl(Number valueA, Number valueB) {
         requireNonNull(valueA, "valueA is required");
         requireNonNull(valueB, "valueB is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .between(Document.of(representation.getColumnField(name), asList(getValue(valueA), getValue(valueB))));
+                .between(Document.of(getColumnField(path), asList(getValue(valueA, path), getValue(valueB, path))));
         appendCondition(newCondition);
     }
 
@@ -85,59 +88,76 @@ abstract class AbstractMapperQuery {
     protected  <T> void inImpl(Iterable<T> values) {
 
         requireNonNull(values, "values is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         List<Object> convertedValues = StreamSupport.stream(values.spliterator(), false)
-                .map(this::getValue).collect(toList());
+                .map(v -> getValue(v, path)).collect(toList());
         DocumentCondition newCondition = DocumentCondition
-                .in(Document.of(representation.getColumnField(name), convertedValues));
+                .in(Document.of(getColumnField(path), convertedValues));
         appendCondition(newCondition);
     }
 
     protected <T> void eqImpl(T value) {
         requireNonNull(value, "value is required");
-
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .eq(Document.of(representation.getColumnField(name), getValue(value)));
+                .eq(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void likeImpl(String value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .like(Document.of(representation.getColumnField(name), getValue(value)));
+                .like(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void gteImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .gte(Document.of(representation.getColumnField(name), getValue(value)));
+                .gte(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void gtImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .gt(Document.of(representation.getColumnField(name), getValue(value)));
+                .gt(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void ltImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .lt(Document.of(representation.getColumnField(name), getValue(value)));
+                .lt(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
     protected void lteImpl(Number value) {
         requireNonNull(value, "value is required");
+        Optional<FieldPath> path = representation.getFieldPath(name);
         DocumentCondition newCondition = DocumentCondition
-                .lte(Document.of(representation.getColumnField(name), getValue(value)));
+                .lte(Document.of(getColumnField(path), getValue(value, path)));
         appendCondition(newCondition);
     }
 
 
 
     protected Object getValue(Object value) {
-      return ConverterUtil.getValue(value, representation,name, converters);
+        return getValue(value, representation.getFieldPath(name));
+    }
+
+    private Object getValue(Object value, Optional<FieldPath> path) {
+        if (path.isPresent()) {
+            return ConverterUtil.getValue(value, path.get().getFieldRepresentation(), converters);
+        }
+        return value;
+    }
+
+    private String getColumnField(Optional<FieldPath> path) {
+        return path.map(FieldPath::getNativeField).orElse(name);
     }
 }
@@ -18,7 +18,6 @@ import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentQuery;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,13 +28,16 @@ class ArtemisDocumentQuery implements DocumentQuery {
     private final long start;
     private final DocumentCondition condition;
     private final String documentCollection;
+    private final List<String> documents;
 
-    ArtemisDocumentQuery(List<Sort> sorts, long limit, long start, DocumentCondition condition, String documentCollection) {
+    ArtemisDocumentQuery(List<Sort> sorts, long limit, long start, DocumentCondition condition,
+                         String documentCollection, List<String> documents) {
         this.sorts = sorts;
         this.limit = limit;
         this.start = start;
         this.condition = condition;
         this.documentCollection = documentCollection;
+        this.documents = documents;
     }
 
     @Override
@@ -65,7 +67,7 @@ class ArtemisDocumentQuery implements DocumentQuery {
 
     @Override
     public List<String> getDocuments() {
-        return Collections.emptyList();
+        return documents;
     }
 
     @Override
@@ -81,12 +83,13 @@ class ArtemisDocumentQuery implements DocumentQuery {
                 start == that.getFirstResult() &&
                 Objects.equals(sorts, that.getSorts()) &&
                 Objects.equals(condition, that.getCondition().orElse(null)) &&
-                Objects.equals(documentCollection, that.getDocumentCollection());
+                Objects.equals(documentCollection, that.getDocumentCollection()) &&
+                Objects.equals(documents, that.getDocuments());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(limit, start, documentCollection, condition, sorts, Collections.emptyList());
+        return Objects.hash(limit, start, documentCollection, condition, sorts, documents);
     }
 
     @Override
@@ -97,7 +100,7 @@ class ArtemisDocumentQuery implements DocumentQuery {
         sb.append(", documentCollection='").append(documentCollection).append('\'');
         sb.append(", condition=").append(condition);
         sb.append(", sorts=").append(sorts);
-        sb.append(", documents=").append(Collections.emptyList());
+        sb.append(", documents=").append(documents);
         sb.append('}');
         return sb.toString();
     }
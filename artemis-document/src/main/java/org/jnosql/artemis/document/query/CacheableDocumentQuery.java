@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.cache.CacheableQuery;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DocumentQuery} of a repository annotated with {@link org.jnosql.artemis.cache.CacheQueries},
+ * the same query with the time to live of its result.
+ */
+final class CacheableDocumentQuery implements DocumentQuery, CacheableQuery {
+
+    private final DocumentQuery query;
+
+    private final Duration ttl;
+
+    private CacheableDocumentQuery(DocumentQuery query, Duration ttl) {
+        this.query = query;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Duration getCacheTtl() {
+        return ttl;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return query.getMaxResults();
+    }
+
+    @Override
+    public long getFirstResult() {
+        return query.getFirstResult();
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CacheableDocumentQuery{");
+        sb.append("query=").append(query);
+        sb.append(", ttl=").append(ttl);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static DocumentQuery of(DocumentQuery query, Duration ttl) {
+        return new CacheableDocumentQuery(query, ttl);
+    }
+}
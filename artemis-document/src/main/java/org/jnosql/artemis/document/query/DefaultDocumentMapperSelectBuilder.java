@@ -28,6 +28,7 @@ import org.jnosql.diana.api.document.query.DocumentStart;
 import org.jnosql.diana.api.document.query.DocumentWhere;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
@@ -37,9 +38,16 @@ class DefaultDocumentMapperSelectBuilder  extends AbstractMapperQuery implements
 
     private final List<Sort> sorts = new ArrayList<>();
 
+    private final List<String> documents;
+
 
     DefaultDocumentMapperSelectBuilder(ClassRepresentation representation, Converters converters) {
+        this(representation, converters, Collections.emptyList());
+    }
+
+    DefaultDocumentMapperSelectBuilder(ClassRepresentation representation, Converters converters, List<String> documents) {
         super(representation, converters);
+        this.documents = documents;
     }
 
 
@@ -164,6 +172,6 @@ class DefaultDocumentMapperSelectBuilder  extends AbstractMapperQuery implements
 
     @Override
     public DocumentQuery build() {
-        return new ArtemisDocumentQuery(sorts, limit, start, condition, documentCollection);
+        return new ArtemisDocumentQuery(sorts, limit, start, condition, documentCollection, documents);
     }
 }
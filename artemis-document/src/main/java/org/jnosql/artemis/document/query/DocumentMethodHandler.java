@@ -14,16 +14,19 @@
  */
 package org.jnosql.artemis.document.query;
 
-import org.jnosql.artemis.Converters;
-import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.document.DocumentCondition;
-
-interface DocumentTokenProcessor {
+/**
+ * The call of a repository method, resolved once to each {@link java.lang.reflect.Method}
+ * by {@link AbstractDocumentRepositoryProxy} and {@link AbstractDocumentRepositoryAsyncProxy}
+ */
+@FunctionalInterface
+interface DocumentMethodHandler {
 
-    DocumentCondition process(String token,
-                              int index,
-                              Object[] args,
-                              String methodName,
-                              ClassRepresentation representation,
-                              Converters converters);
+    /**
+     * Executes the method
+     *
+     * @param args the arguments of the call
+     * @return the method result
+     * @throws Throwable when the method fails
+     */
+    Object invoke(Object[] args) throws Throwable;
 }
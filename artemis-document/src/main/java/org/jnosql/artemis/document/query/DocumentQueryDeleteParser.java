@@ -15,14 +15,11 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Converters;
-import org.jnosql.artemis.document.query.DocumentQueryParserUtil.ConditionResult;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.and;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.or;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.toCondition;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class the returns a {@link DocumentDeleteQuery}
@@ -31,30 +28,14 @@ import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.toCondit
 public class DocumentQueryDeleteParser {
 
     private static final String PREFIX = "deleteBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final Map<Class<?>, Map<String, DocumentQueryPlan>> plans = new ConcurrentHashMap<>();
 
 
     public DocumentDeleteQuery parse(String methodName, Object[] args, ClassRepresentation representation, Converters converters) {
-        String[] tokens = methodName.replace(PREFIX, DocumentQueryParserUtil.EMPTY).split(TOKENIZER);
-
-        DocumentCondition condition = null;
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(DocumentQueryParserUtil.AND)) {
-                ConditionResult result = and(args, index, token, methodName, representation, condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                ConditionResult result = or(args, index, token, methodName, representation, condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation, converters);
-                index++;
-            }
-        }
-        return new ArtemisDocumentDeleteQuery(representation.getName(), condition);
+        DocumentQueryPlan plan = plans.computeIfAbsent(representation.getClassInstance(), c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, m -> DocumentQueryPlan.of(m, PREFIX, representation, false));
+        return new ArtemisDocumentDeleteQuery(representation.getName(), plan.getCondition(args, converters));
     }
 
 }
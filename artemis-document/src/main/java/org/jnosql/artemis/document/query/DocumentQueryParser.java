@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.Sort;
@@ -22,18 +23,12 @@ import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.AND;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.ORDER_BY;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.and;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.or;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.toCondition;
-import static org.jnosql.diana.api.Sort.SortType.ASC;
-import static org.jnosql.diana.api.Sort.SortType.DESC;
-
 /**
  * Class the returns a {@link org.jnosql.diana.api.document.DocumentQuery}
  * on {@link DocumentRepositoryProxy}
@@ -43,43 +38,22 @@ public class DocumentQueryParser {
     private static final Logger LOGGER = Logger.getLogger(DocumentQueryParser.class.getName());
 
     private static final String PREFIX = "findBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final Map<Class<?>, Map<String, DocumentQueryPlan>> plans = new ConcurrentHashMap<>();
 
 
     public DocumentQuery parse(String methodName, Object[] args, ClassRepresentation representation, Converters converters) {
 
+        DocumentQueryPlan plan = plans.computeIfAbsent(representation.getClassInstance(), c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, m -> DocumentQueryPlan.of(m, PREFIX, representation, true));
 
-        String[] tokens = methodName.replace(PREFIX, EMPTY).split(TOKENIZER);
         String className = representation.getClassInstance().getName();
-        DocumentCondition condition = null;
-        List<Sort> sorts = new ArrayList<>();
+        DocumentCondition condition = plan.getCondition(args, converters);
+        List<Sort> sorts = new ArrayList<>(plan.getSorts());
         long limit = 0;
         long start = 0;
 
-
-        int index = 0;
-        for (String token : tokens) {
-
-            if (token.startsWith(AND)) {
-                DocumentQueryParserUtil.ConditionResult result = and(args, index, token, methodName,
-                        representation, condition, converters);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                if (token.startsWith(ORDER_BY)) {
-                    sort(sorts, token, representation);
-                } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                    DocumentQueryParserUtil.ConditionResult result = or(args, index, token, methodName,
-                            representation, condition, converters);
-                    condition = result.getCondition();
-                    index = result.getIndex();
-                } else {
-                    condition = toCondition(token, index, args, methodName, representation, converters);
-                    index++;
-                }
-            }
-        }
-
+        int index = plan.getArgumentIndex();
         while (index < args.length) {
             Object value = args[index];
             if (Sort.class.isInstance(value)) {
@@ -88,31 +62,15 @@ public class DocumentQueryParser {
                 Pagination pagination = Pagination.class.cast(value);
                 limit = pagination.getMaxResults();
                 start = pagination.getFirstResult();
-            } else {
+            } else if (!KeysetPagination.class.isInstance(value)) {
                 LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
                         String.valueOf(value), methodName, className, index));
             }
             index++;
         }
 
-        return new ArtemisDocumentQuery(sorts, limit, start, condition, representation.getName());
-    }
-
-
-    private void sort(List<Sort> sorts, String token, ClassRepresentation representation) {
-        String field = token.replace(ORDER_BY, EMPTY);
-        if (field.contains("Desc")) {
-            sorts.add(Sort.of(getName(field.replace("Desc", EMPTY), representation)
-                    , DESC));
-        } else {
-            sorts.add(Sort.of(getName(field.replace("Asc", EMPTY), representation)
-                    , ASC));
-        }
-    }
-
-    private String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
+        return new ArtemisDocumentQuery(sorts, limit, start, condition, representation.getName(),
+                Collections.emptyList());
     }
 
 }
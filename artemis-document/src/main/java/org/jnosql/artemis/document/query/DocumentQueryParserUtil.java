@@ -16,7 +16,6 @@ package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.document.DocumentCondition;
 
 /**
@@ -41,76 +40,6 @@ public final class DocumentQueryParserUtil {
                                                 ClassRepresentation representation,
                                                 Converters converters) {
 
-        DocumentTokenProcessor processor = DocumentTokenProcessorType.of(token);
-        return processor.process(token, index, args, methodName, representation, converters);
-
-    }
-
-    static ConditionResult or(Object[] args, int index,
-                              String token,
-                              String methodName,
-                              ClassRepresentation representation,
-                              DocumentCondition queryCondition,
-                              Converters converters) {
-        String field = token.replace(DocumentQueryParserUtil.OR, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition conditionResult = toCondition(field, index, args, methodName, representation, converters);
-        DocumentCondition condition = null;
-
-        if (queryCondition == null) {
-            condition = conditionResult;
-        } else {
-            condition = queryCondition.or(conditionResult);
-        }
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return new ConditionResult(index + 2, condition);
-        } else {
-            return new ConditionResult(++index, condition);
-        }
-    }
-
-    static ConditionResult and(Object[] args,
-                               int index,
-                               String token,
-                               String methodName,
-                               ClassRepresentation representation,
-                               DocumentCondition queryCondition, Converters converters) {
-
-
-        String field = token.replace(DocumentQueryParserUtil.AND, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition conditionResult = toCondition(field, index, args, methodName, representation, converters);
-        DocumentCondition condition = null;
-
-        if (queryCondition == null) {
-            condition = conditionResult;
-        } else {
-            condition = queryCondition.and(conditionResult);
-        }
-
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return new ConditionResult(index + 2, condition);
-        } else {
-            return new ConditionResult(++index, condition);
-        }
-    }
-
-
-    static class ConditionResult {
-
-        private final int index;
-
-        private final DocumentCondition condition;
-
-        public ConditionResult(int index, DocumentCondition condition) {
-            this.index = index;
-            this.condition = condition;
-        }
-
-        public int getIndex() {
-            return index;
-        }
-
-        public DocumentCondition getCondition() {
-            return condition;
-        }
+        return DocumentQueryPlan.getCondition(token, index, args, methodName, representation, converters);
     }
 }
@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.AND;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.OR;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.ORDER_BY;
+import static org.jnosql.artemis.document.query.DocumentTokenProcessorType.BETWEEN;
+import static org.jnosql.diana.api.Sort.SortType.ASC;
+import static org.jnosql.diana.api.Sort.SortType.DESC;
+
+/**
+ * A repository method name compiled once to its conditions, the argument position each one reads and its sorts,
+ * so {@link DocumentQueryParser} and {@link DocumentQueryDeleteParser} tokenize and resolve the fields only at the first
+ * call and then just bind the arguments. The steps keep the converter class of each field, the converter itself
+ * is looked up at each binding.
+ */
+final class DocumentQueryPlan {
+
+    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private final String methodName;
+
+    private final List<ConditionStep> steps;
+
+    private final List<Sort> sorts;
+
+    private final int argumentIndex;
+
+    private DocumentQueryPlan(String methodName, List<ConditionStep> steps, List<Sort> sorts, int argumentIndex) {
+        this.methodName = methodName;
+        this.steps = steps;
+        this.sorts = sorts;
+        this.argumentIndex = argumentIndex;
+    }
+
+    DocumentCondition getCondition(Object[] args, Converters converters) {
+        DocumentCondition condition = null;
+        for (ConditionStep step : steps) {
+            condition = step.append(condition, args, methodName, converters);
+        }
+        return condition;
+    }
+
+    List<Sort> getSorts() {
+        return sorts;
+    }
+
+    /**
+     * @return the position of the first argument that is not read by a condition
+     */
+    int getArgumentIndex() {
+        return argumentIndex;
+    }
+
+    /**
+     * Compiles the method name
+     *
+     * @param methodName     the method name
+     * @param prefix         the prefix to remove from the method name
+     * @param representation the entity representation
+     * @param sortable       whether the OrderBy tokens are sorts, otherwise they are read as Or conditions
+     * @return the compiled plan
+     */
+    static DocumentQueryPlan of(String methodName, String prefix, ClassRepresentation representation,
+                                boolean sortable) {
+
+        String[] tokens = methodName.replace(prefix, EMPTY).split(TOKENIZER);
+        List<ConditionStep> steps = new ArrayList<>();
+        List<Sort> sorts = new ArrayList<>();
+        boolean hasCondition = false;
+        int index = 0;
+        for (String token : tokens) {
+            if (token.startsWith(AND)) {
+                ConditionStep step = ConditionStep.of(Connector.AND, token.replace(AND, EMPTY), index,
+                        representation);
+                index += !hasCondition && BETWEEN.equals(step.type) ? 2 : 1;
+                hasCondition = true;
+                steps.add(step);
+            } else if (sortable && token.startsWith(ORDER_BY)) {
+                sorts.add(sort(token, representation));
+            } else if (token.startsWith(OR)) {
+                ConditionStep step = ConditionStep.of(Connector.OR, token.replace(OR, EMPTY), index,
+                        representation);
+                index += !hasCondition && BETWEEN.equals(step.type) ? 2 : 1;
+                hasCondition = true;
+                steps.add(step);
+            } else {
+                steps.add(ConditionStep.of(Connector.NONE, token, index, representation));
+                hasCondition = true;
+                index++;
+            }
+        }
+        return new DocumentQueryPlan(methodName, Collections.unmodifiableList(steps),
+                Collections.unmodifiableList(sorts), index);
+    }
+
+    /**
+     * Creates the condition of a single token, the token has neither a connector nor a sort
+     */
+    static DocumentCondition getCondition(String token, int index, Object[] args, String methodName,
+                                          ClassRepresentation representation, Converters converters) {
+        return ConditionStep.of(Connector.NONE, token, index, representation)
+                .append(null, args, methodName, converters);
+    }
+
+    private static Sort sort(String token, ClassRepresentation representation) {
+        String field = token.replace(ORDER_BY, EMPTY);
+        if (field.contains("Desc")) {
+            return Sort.of(DocumentTokenProcessorType.getName(field.replace("Desc", EMPTY), representation), DESC);
+        }
+        return Sort.of(DocumentTokenProcessorType.getName(field.replace("Asc", EMPTY), representation), ASC);
+    }
+
+    private enum Connector {
+        NONE, AND, OR
+    }
+
+    private static final class ConditionStep {
+
+        private final Connector connector;
+
+        private final DocumentTokenProcessorType type;
+
+        private final String name;
+
+        private final Class<? extends AttributeConverter> converterClass;
+
+        private final Class<?> fieldType;
+
+        private final int index;
+
+        private ConditionStep(Connector connector, DocumentTokenProcessorType type, String name,
+                              Class<? extends AttributeConverter> converterClass, Class<?> fieldType, int index) {
+            this.connector = connector;
+            this.type = type;
+            this.name = name;
+            this.converterClass = converterClass;
+            this.fieldType = fieldType;
+            this.index = index;
+        }
+
+        DocumentCondition append(DocumentCondition condition, Object[] args, String methodName, Converters converters) {
+
+            DocumentTokenProcessorType.checkContents(index, args.length, type.getFieldsRequired(), methodName);
+            Object value = BETWEEN.equals(type) ? Arrays.asList(convert(args[index], converters),
+                    convert(args[index + 1], converters)) : convert(args[index], converters);
+            DocumentCondition next = type.toCondition(Document.of(name, value));
+
+            if (condition == null || Connector.NONE.equals(connector)) {
+                return next;
+            }
+            return Connector.AND.equals(connector) ? condition.and(next) : condition.or(next);
+        }
+
+        static ConditionStep of(Connector connector, String token, int index, ClassRepresentation representation) {
+            DocumentTokenProcessorType type = DocumentTokenProcessorType.of(token);
+            String name = DocumentTokenProcessorType.getName(token, representation).replace(type.getType(), EMPTY);
+            Optional<FieldRepresentation> field = representation
+                    .getFieldRepresentation(DocumentTokenProcessorType.getJavaField(token));
+            Class<? extends AttributeConverter> converterClass = field.map(FieldRepresentation::getConverterClass)
+                    .orElse(null);
+            Class<?> fieldType = field.map(f -> f.getNativeField().getType()).orElse(null);
+            return new ConditionStep(connector, type, name, converterClass, fieldType, index);
+        }
+
+        private Object convert(Object value, Converters converters) {
+            if (converterClass != null) {
+                AttributeConverter converter = converters.get(converterClass);
+                return converter.convertToDatabaseColumn(value);
+            }
+            if (fieldType == null || fieldType.equals(value.getClass())) {
+                return value;
+            }
+            return Value.of(value).get(fieldType);
+        }
+    }
+}
@@ -17,12 +17,15 @@ package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.cache.CacheableQuery;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.Reflections;
 
 import java.lang.reflect.ParameterizedType;
+import java.time.Duration;
+import java.util.Optional;
 
 
 /**
@@ -44,6 +47,8 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
 
     private final Converters converters;
 
+    private final Optional<Duration> cacheTtl;
+
 
     DocumentRepositoryProxy(DocumentTemplate template, ClassRepresentations classRepresentations,
                             Class<?> repositoryType, Reflections reflections, Converters converters) {
@@ -55,6 +60,7 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
         this.queryParser = new DocumentQueryParser();
         this.deleteQueryParser = new DocumentQueryDeleteParser();
         this.converters = converters;
+        this.cacheTtl = CacheableQuery.getCacheTtl(repositoryType);
     }
 
 
@@ -88,6 +94,11 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
         return converters;
     }
 
+    @Override
+    protected Optional<Duration> getCacheTtl() {
+        return cacheTtl;
+    }
+
 
     class DocumentRepository extends AbstractDocumentRepository implements Repository {
 
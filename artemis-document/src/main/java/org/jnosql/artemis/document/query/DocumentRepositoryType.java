@@ -19,19 +19,22 @@ import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.Method;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 enum DocumentRepositoryType {
 
     DEFAULT, FIND_BY, FIND_ALL, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, OBJECT_METHOD;
 
-    private static final Method[] METHODS = Object.class.getMethods();
+    private static final Set<Method> METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList(Object.class.getMethods())));
 
-    static DocumentRepositoryType of(Method method, Object[] args) {
+    static DocumentRepositoryType of(Method method) {
 
 
-        if (Stream.of(METHODS).anyMatch(method::equals)) {
+        if (METHODS.contains(method)) {
             return OBJECT_METHOD;
         }
 
@@ -48,11 +51,11 @@ enum DocumentRepositoryType {
             default:
         }
 
-        if (isQuery(args)) {
+        if (getQueryIndex(method) >= 0) {
             return QUERY;
         }
 
-        if (isQueryDelete(args)) {
+        if (getDeleteQueryIndex(method) >= 0) {
             return QUERY_DELETE;
         }
 
@@ -64,25 +67,28 @@ enum DocumentRepositoryType {
         return UNKNOWN;
     }
 
-    private static boolean isQuery(Object[] args) {
-        return getQuery(args).isPresent();
+    /**
+     * @return the position of the first {@link DocumentQuery} parameter of the method, otherwise -1
+     */
+    static int getQueryIndex(Method method) {
+        return getParameterIndex(method, DocumentQuery.class);
     }
 
-    private static boolean isQueryDelete(Object[] args) {
-        return getDeleteQuery(args).isPresent();
+    /**
+     * @return the position of the first {@link DocumentDeleteQuery} parameter of the method, otherwise -1
+     */
+    static int getDeleteQueryIndex(Method method) {
+        return getParameterIndex(method, DocumentDeleteQuery.class);
     }
 
-    static Optional<DocumentQuery> getQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(DocumentQuery.class::isInstance).map(DocumentQuery.class::cast)
-                .findFirst();
-    }
-
-    static Optional<DocumentDeleteQuery> getDeleteQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(DocumentDeleteQuery.class::isInstance)
-                .map(DocumentDeleteQuery.class::cast)
-                .findFirst();
+    private static int getParameterIndex(Method method, Class<?> type) {
+        Class<?>[] parameters = method.getParameterTypes();
+        for (int index = 0; index < parameters.length; index++) {
+            if (type.isAssignableFrom(parameters[index])) {
+                return index;
+            }
+        }
+        return -1;
     }
 
 }
@@ -14,100 +14,34 @@
  */
 package org.jnosql.artemis.document.query;
 
-import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.artemis.document.util.ConverterUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 
-import java.util.Arrays;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
-
-enum DocumentTokenProcessorType implements DocumentTokenProcessor {
-
-    BETWEEN("Between", 2) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object valueA = getValue(token, args[index], representation, converters);
-            Object valueB = getValue(token, args[++index], representation, converters);
-            return DocumentCondition.between(Document.of(name, Arrays.asList(valueA, valueB)));
-        }
-    },
-    LESS_THAN_EQUAL("LessThanEqual", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.lte(Document.of(name, value));
-        }
-    },
-    GREATER_THAN_EQUAL("GreaterThanEqual", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.gte(Document.of(name, value));
-        }
-    },
-    LESS_THAN("LessThan", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.lt(Document.of(name, value));
-        }
-    },
-    GREATER_THAN("GreaterThan", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.gt(Document.of(name, value));
-        }
-    },
-    LIKE("Like", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.like(Document.of(name, value));
-        }
-    },
-    DEFAULT("", 1) {
-        @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName,
-                                         ClassRepresentation representation, Converters converters) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation);
-            Object value = getValue(token, args[index], representation, converters);
-            return DocumentCondition.eq(Document.of(name, value));
-        }
-    };
+enum DocumentTokenProcessorType {
 
+    BETWEEN("Between", 2, DocumentCondition::between),
+    LESS_THAN_EQUAL("LessThanEqual", 1, DocumentCondition::lte),
+    GREATER_THAN_EQUAL("GreaterThanEqual", 1, DocumentCondition::gte),
+    LESS_THAN("LessThan", 1, DocumentCondition::lt),
+    GREATER_THAN("GreaterThan", 1, DocumentCondition::gt),
+    LIKE("Like", 1, DocumentCondition::like),
+    DEFAULT("", 1, DocumentCondition::eq);
 
     private final String type;
 
     private final int fieldsRequired;
 
-    DocumentTokenProcessorType(String type, int fieldsRequired) {
+    private final Function<Document, DocumentCondition> condition;
+
+    DocumentTokenProcessorType(String type, int fieldsRequired, Function<Document, DocumentCondition> condition) {
         this.type = type;
         this.fieldsRequired = fieldsRequired;
+        this.condition = condition;
     }
 
     public String getType() {
@@ -118,7 +52,11 @@ enum DocumentTokenProcessorType implements DocumentTokenProcessor {
         return fieldsRequired;
     }
 
-    private static void checkContents(int index, int argSize, int required, String method) {
+    DocumentCondition toCondition(Document document) {
+        return condition.apply(document);
+    }
+
+    static void checkContents(int index, int argSize, int required, String method) {
         if ((index + required) <= argSize) {
             return;
         }
@@ -126,19 +64,11 @@ enum DocumentTokenProcessorType implements DocumentTokenProcessor {
                 method));
     }
 
-
-    private static String getName(String token, ClassRepresentation representation) {
+    static String getName(String token, ClassRepresentation representation) {
         return representation.getColumnField(getJavaField(token));
     }
 
-    private static Object getValue(String token, Object value, ClassRepresentation representation,
-                                   Converters converters) {
-
-        String javaField = getJavaField(token);
-        return ConverterUtil.getValue(value, representation, javaField, converters);
-    }
-
-    private static String getJavaField(String token) {
+    static String getJavaField(String token) {
         return String.valueOf(Character.toLowerCase(token.charAt(0)))
                 .concat(token.substring(1));
     }
@@ -14,19 +14,33 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.cache.CacheableQuery;
 import org.jnosql.artemis.document.DocumentTemplate;
+import org.jnosql.artemis.reflection.Projection;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
 /**
  * Utilitarian class to return on dynamic query
  */
@@ -36,7 +50,8 @@ final class ReturnTypeConverterUtil {
     }
 
 
-    static Object returnObject(DocumentQuery query, DocumentTemplate repository, Class typeClass, Method method) {
+    static Object returnObject(DocumentQuery query, DocumentTemplate repository, Class typeClass, Method method,
+                               Object[] args) {
         Class<?> returnType = method.getReturnType();
 
         if (typeClass.equals(returnType)) {
@@ -54,10 +69,59 @@ final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(repository.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return repository.select(query).stream();
+            return repository.stream(query);
+        } else if (KeysetPage.class.equals(returnType)) {
+            return repository.select(query, getKeysetPagination(method, args));
         }
 
         return repository.select(query);
     }
 
+    static Object returnProjection(DocumentQuery query, DocumentTemplate repository, Projection projection,
+                                   Method method, Object[] args) {
+        Class<?> returnType = method.getReturnType();
+        DocumentQuery projected = project(query, projection);
+        Function<Object, Object> mapper = projection::create;
+
+        if (projection.getType().equals(returnType)) {
+            return repository.singleResult(projected).map(mapper).orElse(null);
+        } else if (Optional.class.equals(returnType)) {
+            return repository.singleResult(projected).map(mapper);
+        } else if (Set.class.equals(returnType)) {
+            return repository.select(projected).stream().map(mapper).collect(toSet());
+        } else if (Queue.class.equals(returnType)) {
+            return repository.select(projected).stream().map(mapper).collect(toCollection(LinkedList::new));
+        } else if (Stream.class.equals(returnType)) {
+            return repository.stream(projected).map(mapper);
+        } else if (KeysetPage.class.equals(returnType)) {
+            KeysetPage<Object> page = repository.select(projected, getKeysetPagination(method, args));
+            List<Object> content = page.getContent().stream().map(mapper).collect(toList());
+            return page.next().map(next -> KeysetPage.of(content, next)).orElseGet(() -> KeysetPage.of(content));
+        }
+
+        return repository.select(projected).stream().map(mapper).collect(toList());
+    }
+
+    /**
+     * The query reads the projection fields and the sort fields, which the keyset pagination reads
+     * from the last entity, and keeps the time to live of a cacheable query.
+     */
+    private static DocumentQuery project(DocumentQuery query, Projection projection) {
+        Set<String> documents = new LinkedHashSet<>(projection.getColumns());
+        query.getSorts().stream().map(Sort::getName).forEach(documents::add);
+        DocumentQuery projected = new ArtemisDocumentQuery(query.getSorts(), query.getMaxResults(), query.getFirstResult(),
+                query.getCondition().orElse(null), query.getDocumentCollection(), new ArrayList<>(documents));
+        if (query instanceof CacheableQuery) {
+            return CacheableDocumentQuery.of(projected, CacheableQuery.class.cast(query).getCacheTtl());
+        }
+        return projected;
+    }
+
+    private static KeysetPagination getKeysetPagination(Method method, Object[] args) {
+        return Stream.of(Optional.ofNullable(args).orElse(new Object[0]))
+                .filter(KeysetPagination.class::isInstance).map(KeysetPagination.class::cast).findFirst()
+                .orElseThrow(() -> new DynamicQueryException("The method " + method.getName()
+                        + " returns a KeysetPage and requires a KeysetPagination parameter"));
+    }
+
 }
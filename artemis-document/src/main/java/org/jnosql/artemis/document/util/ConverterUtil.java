@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.document.util;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.FieldRepresentation;
@@ -31,19 +32,19 @@ public final class ConverterUtil {
     public static Object getValue(Object value, ClassRepresentation representation, String name, Converters converters) {
         Optional<FieldRepresentation> fieldOptional = representation.getFieldRepresentation(name);
         if (fieldOptional.isPresent()) {
-            FieldRepresentation field = fieldOptional.get();
-            Field nativeField = field.getNativeField();
-            if (!nativeField.getType().equals(value.getClass())) {
-                return field.getConverter()
-                        .map(converters::get)
-                        .map(a -> a.convertToDatabaseColumn(value))
-                        .orElseGet(() -> Value.of(value).get(nativeField.getType()));
-            }
+            return getValue(value, fieldOptional.get(), converters);
+        }
+        return value;
+    }
 
-            return field.getConverter()
-                    .map(converters::get)
-                    .map(a -> a.convertToDatabaseColumn(value))
-                    .orElse(value);
+    public static Object getValue(Object value, FieldRepresentation field, Converters converters) {
+        Class<? extends AttributeConverter> converterClass = field.getConverterClass();
+        if (converterClass != null) {
+            return converters.get(converterClass).convertToDatabaseColumn(value);
+        }
+        Field nativeField = field.getNativeField();
+        if (!nativeField.getType().equals(value.getClass())) {
+            return Value.of(value).get(nativeField.getType());
         }
         return value;
     }
@@ -19,6 +19,7 @@ import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Address;
 import org.jnosql.artemis.model.AppointmentBook;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Contact;
 import org.jnosql.artemis.model.ContactType;
 import org.jnosql.artemis.model.Director;
@@ -26,6 +27,7 @@ import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Money;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Sensor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
 import org.jnosql.diana.api.TypeReference;
@@ -54,6 +56,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -125,6 +128,60 @@ public class DefaultDocumentEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldConvertPrimitiveFields() {
+        DocumentEntity entity = DocumentEntity.of("Sensor");
+        entity.add(Document.of("_id", "sensor"));
+        entity.add(Document.of("counter", 10L));
+        entity.add(Document.of("timestamp", 1000));
+        entity.add(Document.of("temperature", "21.5"));
+        entity.add(Document.of("humidity", 4550L));
+
+        Sensor sensor = converter.toEntity(Sensor.class, entity);
+        assertEquals(10, sensor.getCounter());
+        assertEquals(1000L, sensor.getTimestamp());
+        assertEquals(21.5, sensor.getTemperature());
+        assertEquals(45.5, sensor.getHumidity());
+
+        DocumentEntity converted = converter.toDocument(sensor);
+        assertEquals(4550L, converted.find("humidity").get().get());
+        assertEquals(10, converted.find("counter").get().get());
+    }
+
+    @Test
+    public void shouldConvertEntityFromParameterizedConstructor() {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.add(Document.of("_id", "978-0134685991"));
+        entity.add(Document.of("title", "Effective Java"));
+        entity.add(Document.of("publisher", "Addison-Wesley"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals("978-0134685991", book.getIsbn());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        assertEquals("Addison-Wesley", book.getPublisher());
+
+        Book copy = converter.toEntity(converter.toDocument(book));
+        assertEquals(book, copy);
+        assertEquals(book.getTitle(), copy.getTitle());
+        assertEquals(book.getPublisher(), copy.getPublisher());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownAndMissingDocuments() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        entity.add(Document.of("unknown", "value"));
+        entity.add(Document.of("name", "Otavio"));
+        entity.add(Document.of("_id", 12L));
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(12L, actor.getId());
+        assertEquals(0, actor.getAge());
+        assertNull(actor.getPhones());
+    }
+
     @Test
     public void shouldConvertColumnEntityToExistEntity() {
         DocumentEntity entity = DocumentEntity.of("Actor");
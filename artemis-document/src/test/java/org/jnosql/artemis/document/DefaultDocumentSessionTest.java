@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.model.Book;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(CDIExtension.class)
+public class DefaultDocumentSessionTest {
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Inject
+    private Converters converters;
+
+    private DocumentCollectionManager managerMock;
+
+    private DefaultDocumentTemplate template;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        managerMock = Mockito.mock(DocumentCollectionManager.class);
+        DocumentEventPersistManager persistManager = Mockito.mock(DocumentEventPersistManager.class);
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> singletonList(getBookEntity()));
+        when(managerMock.update(any(Iterable.class))).thenAnswer(i -> i.getArgument(0));
+        DefaultDocumentWorkflow workflow = new DefaultDocumentWorkflow(persistManager, converter);
+        this.template = new DefaultDocumentTemplate(converter, instance, workflow,
+                persistManager, classRepresentations, converters);
+    }
+
+    @Test
+    public void shouldFindFromIdentityMap() {
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.find(Book.class, "0321356683").get();
+            assertSame(book, session.find(Book.class, "0321356683").get());
+            assertSame(book, session.<Book>select(select().from("Book").build()).get(0));
+        }
+        verify(managerMock, times(2)).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldCoalesceUpdates() {
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.find(Book.class, "0321356683").get();
+            book.setPublisher("Pearson");
+            session.update(book);
+            book.setPublisher("Prentice Hall");
+            session.update(book);
+            session.update(book);
+            verify(managerMock, never()).update(any(Iterable.class));
+            verify(managerMock, never()).update(any(DocumentEntity.class));
+
+            session.commit();
+            ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+            verify(managerMock).update(captor.capture());
+            List<DocumentEntity> entities = captor.getValue();
+            assertEquals(1, entities.size());
+            assertEquals(Document.of("publisher", "Prentice Hall"), entities.get(0).find("publisher").get());
+
+            session.commit();
+            verify(managerMock, times(1)).update(any(Iterable.class));
+        }
+    }
+
+    @Test
+    public void shouldDiscardUpdatesOnClose() {
+        DocumentSession session = template.openSession();
+        Book book = session.find(Book.class, "0321356683").get();
+        session.update(book);
+        session.close();
+        session.commit();
+        verify(managerMock, never()).update(any(Iterable.class));
+    }
+
+    @Test
+    public void shouldDropEntityOnDelete() {
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.find(Book.class, "0321356683").get();
+            session.update(book);
+            session.delete(Book.class, "0321356683");
+            session.commit();
+            verify(managerMock).delete(any(DocumentDeleteQuery.class));
+            verify(managerMock, never()).update(any(Iterable.class));
+            session.find(Book.class, "0321356683");
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        }
+    }
+
+    @Test
+    public void shouldCommitBeforeDeleteQuery() {
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.find(Book.class, "0321356683").get();
+            session.update(book);
+            session.delete(delete().from("Book").build());
+            verify(managerMock).update(any(Iterable.class));
+            verify(managerMock).delete(any(DocumentDeleteQuery.class));
+            assertTrue(session.find(Book.class, "0321356683").isPresent());
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        }
+    }
+
+    @Test
+    public void shouldCommitBeforeQuery() {
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.find(Book.class, "0321356683").get();
+            book.setPublisher("Pearson");
+            session.update(book);
+            assertSame(book, session.<Book>select(select().from("Book").build()).get(0));
+            verify(managerMock).update(any(Iterable.class));
+            session.commit();
+            verify(managerMock).update(any(Iterable.class));
+        }
+    }
+
+    @Test
+    public void shouldKeepInsertedEntity() {
+        when(managerMock.insert(any(DocumentEntity.class))).thenReturn(getBookEntity());
+        try (DocumentSession session = template.openSession()) {
+            Book book = session.insert(new Book("0321356683", "Effective Java", 2));
+            assertEquals("0321356683", book.getIsbn());
+            assertSame(book, session.find(Book.class, "0321356683").get());
+        }
+        verify(managerMock, never()).select(any(DocumentQuery.class));
+    }
+
+    private DocumentEntity getBookEntity() {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.addAll(Arrays.asList(Document.of("_id", "0321356683"), Document.of("title", "Effective Java"),
+                Document.of("edition", 2), Document.of("publisher", "Addison-Wesley")));
+        return entity;
+    }
+}
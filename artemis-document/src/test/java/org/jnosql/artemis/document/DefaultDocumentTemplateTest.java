@@ -14,13 +14,19 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.cache.CacheStatistics;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Job;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentCondition;
@@ -37,7 +43,9 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -88,6 +96,8 @@ public class DefaultDocumentTemplateTest {
 
     private ArgumentCaptor<DocumentEntity> captor;
 
+    private ArgumentCaptor<List> iterableCaptor;
+
     private DocumentEventPersistManager documentEventPersistManager;
 
     @SuppressWarnings("unchecked")
@@ -96,10 +106,16 @@ public class DefaultDocumentTemplateTest {
         managerMock = Mockito.mock(DocumentCollectionManager.class);
         documentEventPersistManager = Mockito.mock(DocumentEventPersistManager.class);
         captor = ArgumentCaptor.forClass(DocumentEntity.class);
+        iterableCaptor = ArgumentCaptor.forClass(List.class);
+        this.subject = createTemplate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultDocumentTemplate createTemplate() {
         Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(managerMock);
         DefaultDocumentWorkflow workflow = new DefaultDocumentWorkflow(documentEventPersistManager, converter);
-        this.subject = new DefaultDocumentTemplate(converter, instance, workflow,
+        return new DefaultDocumentTemplate(converter, instance, workflow,
                 documentEventPersistManager, classRepresentations, converters);
     }
 
@@ -175,11 +191,13 @@ public class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(iterableCaptor.capture(), Mockito.eq(duration));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class), any(Duration.class));
+        assertEquals(2, iterableCaptor.getValue().size());
     }
 
     @Test
@@ -188,11 +206,16 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
-
-        subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+        verify(managerMock).insert(iterableCaptor.capture());
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        assertEquals(2, iterableCaptor.getValue().size());
+        assertEquals(2, ((List<Person>) people).size());
     }
 
     @Test
@@ -201,11 +224,40 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(iterableCaptor.capture());
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
+        assertEquals(2, iterableCaptor.getValue().size());
+    }
+
+    @Test
+    public void shouldInsertEntitiesInChunks() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenAnswer(i -> i.getArgument(0));
+
+        System.setProperty(AbstractDocumentTemplate.CHUNK_SIZE, "2");
+        subject = createTemplate();
+        try {
+            List<Person> people = Stream.generate(() -> person).limit(5).collect(Collectors.toList());
+            Iterable<Person> saved = subject.insert(people);
+            verify(managerMock, times(3)).insert(iterableCaptor.capture());
+            List<Integer> sizes = iterableCaptor.getAllValues().stream().map(List::size)
+                    .collect(Collectors.toList());
+            assertEquals(Arrays.asList(2, 2, 1), sizes);
+            assertEquals(5, ((List<Person>) saved).size());
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.CHUNK_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenManagerReturnsFewerEntities() {
+        Mockito.when(managerMock.insert(any(Iterable.class))).thenReturn(emptyList());
+        Assertions.assertThrows(ArtemisException.class, () -> subject.insert(Arrays.asList(person, person)));
     }
 
 
@@ -224,6 +276,400 @@ public class DefaultDocumentTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStreamInPages() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            DocumentQuery page = i.getArgument(0);
+            long size = Math.max(0, Math.min(page.getMaxResults(), 5 - page.getFirstResult()));
+            return Stream.generate(() -> documentEntity).limit(size).collect(Collectors.toList());
+        });
+
+        System.setProperty(AbstractDocumentTemplate.PAGE_SIZE, "2");
+        subject = createTemplate();
+        try {
+            Stream<Person> people = subject.stream(select().from("Person").build());
+            verify(managerMock, Mockito.never()).select(any(DocumentQuery.class));
+            assertEquals(5, people.count());
+            ArgumentCaptor<DocumentQuery> pages = ArgumentCaptor.forClass(DocumentQuery.class);
+            verify(managerMock, times(3)).select(pages.capture());
+            assertEquals(Arrays.asList(0L, 2L, 4L), pages.getAllValues().stream()
+                    .map(DocumentQuery::getFirstResult).collect(Collectors.toList()));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.PAGE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldStreamFromQueryStartAndLimit() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            DocumentQuery page = i.getArgument(0);
+            return Stream.generate(() -> documentEntity).limit(page.getMaxResults()).collect(Collectors.toList());
+        });
+
+        System.setProperty(AbstractDocumentTemplate.PAGE_SIZE, "2");
+        subject = createTemplate();
+        try (Stream<Person> people = subject.stream(select().from("Person").start(1).limit(3).build())) {
+            assertEquals(3, people.count());
+            ArgumentCaptor<DocumentQuery> pages = ArgumentCaptor.forClass(DocumentQuery.class);
+            verify(managerMock, times(2)).select(pages.capture());
+            assertEquals(Arrays.asList(1L, 3L), pages.getAllValues().stream()
+                    .map(DocumentQuery::getFirstResult).collect(Collectors.toList()));
+            assertEquals(Arrays.asList(2L, 1L), pages.getAllValues().stream()
+                    .map(DocumentQuery::getMaxResults).collect(Collectors.toList()));
+            verify(documentEventPersistManager).firePreQuery(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.PAGE_SIZE);
+        }
+    }
+
+
+    @Test
+    public void shouldSelectKeysetPage() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        documentEntity.add(Document.of("_id", 19L));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(Arrays.asList(documentEntity,
+                documentEntity));
+
+        DocumentQuery query = select().from("Person").orderBy("name").asc().orderBy("_id").desc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2));
+        ArgumentCaptor<DocumentQuery> pageCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        assertEquals(2L, pageCaptor.getValue().getMaxResults());
+        assertFalse(pageCaptor.getValue().getCondition().isPresent());
+        assertEquals(2, page.getContent().size());
+        assertEquals(KeysetPagination.of(2, Arrays.asList("Name", 19L)), page.next().get());
+    }
+
+    @Test
+    public void shouldSelectKeysetPageAfterTheKeys() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        documentEntity.add(Document.of("_id", 19L));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(documentEntity));
+
+        DocumentQuery query = select().from("Person").where("age").gt(5)
+                .orderBy("name").asc().orderBy("_id").desc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2, Arrays.asList("Name", 19L)));
+        ArgumentCaptor<DocumentQuery> pageCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        DocumentCondition keyset = DocumentCondition.or(DocumentCondition.gt(Document.of("name", "Name")),
+                DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Name")),
+                        DocumentCondition.lt(Document.of("_id", 19L))));
+        assertEquals(DocumentCondition.and(DocumentCondition.gt(Document.of("age", 5)), keyset),
+                pageCaptor.getValue().getCondition().get());
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.next().isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeysetQueryIsNotSorted() {
+        Assertions.assertThrows(ArtemisException.class, () -> subject.select(select().from("Person").build(),
+                KeysetPagination.of(2)));
+        Assertions.assertThrows(ArtemisException.class, () -> subject.select(select().from("Person")
+                .orderBy("name").asc().build(), KeysetPagination.of(2, Arrays.asList("Name", 19L, 10))));
+    }
+
+    @Test
+    public void shouldSortKeysetPageByIdAtLast() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        documentEntity.add(Document.of("_id", 19L));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(Arrays.asList(documentEntity,
+                documentEntity));
+
+        DocumentQuery query = select().from("Person").orderBy("name").asc().build();
+        KeysetPage<Person> page = subject.select(query, KeysetPagination.of(2, Arrays.asList("Ada", 10L)));
+        ArgumentCaptor<DocumentQuery> pageCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(pageCaptor.capture());
+        assertEquals(Arrays.asList(Sort.of("name", Sort.SortType.ASC), Sort.of("_id", Sort.SortType.ASC)),
+                pageCaptor.getValue().getSorts());
+        DocumentCondition keyset = DocumentCondition.or(DocumentCondition.gt(Document.of("name", "Ada")),
+                DocumentCondition.and(DocumentCondition.eq(Document.of("name", "Ada")),
+                        DocumentCondition.gt(Document.of("_id", 10L))));
+        assertEquals(keyset, pageCaptor.getValue().getCondition().get());
+        assertEquals(KeysetPagination.of(2, Arrays.asList("Name", 19L)), page.next().get());
+    }
+
+    @Test
+    public void shouldUpdateOnlyChangedDocuments() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractDocumentTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            book.setPublisher("Pearson");
+            subject.update(book);
+            verify(managerMock).update(captor.capture());
+            DocumentEntity partial = captor.getValue();
+            assertEquals(2, partial.size());
+            assertEquals(Document.of("_id", "0321356683"), partial.find("_id").get());
+            assertEquals(Document.of("publisher", "Pearson"), partial.find("publisher").get());
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldUpdateWhenChangedValueHasTheSameHash() {
+        DocumentEntity entity = getBookEntity();
+        entity.add(Document.of("publisher", "Aa"));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(entity));
+
+        System.setProperty(AbstractDocumentTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            book.setPublisher("BB");
+            subject.update(book);
+            verify(managerMock).update(captor.capture());
+            assertEquals(Document.of("publisher", "BB"), captor.getValue().find("publisher").get());
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldSkipUpdateWhenNothingChanged() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractDocumentTemplate.DIRTY_TRACKING, "true");
+        subject = createTemplate();
+        try {
+            Book book = subject.<Book>select(select().from("Book").build()).get(0);
+            subject.update(book);
+            verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
+            book.setPublisher("Pearson");
+            subject.update(book);
+            subject.update(book);
+            verify(managerMock, times(1)).update(any(DocumentEntity.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.DIRTY_TRACKING);
+        }
+    }
+
+    @Test
+    public void shouldUpdateWholeDocumentWhenNotTracked() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.update(any(DocumentEntity.class))).thenReturn(getBookEntity());
+
+        Book book = subject.<Book>select(select().from("Book").build()).get(0);
+        book.setPublisher("Pearson");
+        subject.update(book);
+        verify(managerMock).update(captor.capture());
+        assertEquals(4, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldFindFromEntityCache() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            Book book = subject.find(Book.class, "0321356683").get();
+            book.setPublisher("Pearson");
+            Book cached = subject.find(Book.class, "0321356683").get();
+            assertEquals("Addison-Wesley", cached.getPublisher());
+            assertFalse(book == cached);
+            verify(managerMock, times(1)).select(any(DocumentQuery.class));
+            assertEquals(0.5D, subject.getEntityCacheStatistics().get().getHitRatio());
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldEvictEntityCacheOnUpdateAndDelete() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.update(any(DocumentEntity.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            Book book = subject.find(Book.class, "0321356683").get();
+            subject.update(book);
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+
+            subject.delete(Book.class, "0321356683");
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(3)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheEntityRemovedWhileItIsLoaded() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            subject.delete(Book.class, "0321356683");
+            return singletonList(getBookEntity());
+        });
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Book.class, "0321356683");
+            subject.find(Book.class, "0321356683");
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldEvictOnlyTheEntitiesOfTheCollectionDeleted() {
+        DocumentEntity personEntity = DocumentEntity.of("Person");
+        personEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            DocumentQuery query = i.getArgument(0);
+            return singletonList("Book".equals(query.getDocumentCollection()) ? getBookEntity() : personEntity);
+        });
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Book.class, "0321356683");
+            subject.find(Person.class, 19L);
+            subject.delete(delete().from("Book").build());
+            subject.find(Book.class, "0321356683");
+            subject.find(Person.class, 19L);
+            verify(managerMock, times(3)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldCopyTheCollectionsOfTheEntityCached() {
+        List<String> phones = new ArrayList<>(Arrays.asList("234", "432"));
+        DocumentEntity personEntity = DocumentEntity.of("Person");
+        personEntity.addAll(Arrays.asList(Document.of("name", "Name"), Document.of("phones", phones)));
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(personEntity));
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.find(Person.class, 19L);
+            phones.add("999");
+            Person cached = subject.find(Person.class, 19L).get();
+            assertEquals(Arrays.asList("234", "432"), cached.getPhones());
+            verify(managerMock, times(1)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldCacheInsertWithTTL() {
+        Mockito.when(managerMock.insert(any(DocumentEntity.class), any(Duration.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            subject.insert(new Book("0321356683", "Effective Java", 2), Duration.ofHours(2L));
+            Book book = subject.find(Book.class, "0321356683").get();
+            assertEquals("Addison-Wesley", book.getPublisher());
+            verify(managerMock, Mockito.never()).select(any(DocumentQuery.class));
+
+            subject.insert(new Book("0321356683", "Effective Java", 2), Duration.ZERO);
+            subject.find(Book.class, "0321356683");
+            verify(managerMock).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.ENTITY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldSelectFromQueryCache() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+
+        System.setProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            DocumentQuery query = select().from("Book").where("edition").eq(2).build();
+            List<Book> books = subject.select(query);
+            List<Book> cached = subject.select(select().from("Book").where("edition").eq(2).build());
+            assertEquals(books, cached);
+            assertFalse(books.get(0) == cached.get(0));
+            verify(managerMock, times(1)).select(any(DocumentQuery.class));
+
+            subject.select(select().from("Book").where("edition").eq(3).build());
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+            assertEquals(CacheStatistics.of(1L, 2L, 0L), subject.getQueryCacheStatistics().get());
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldInvalidateQueryCacheOnWrite() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(singletonList(getBookEntity()));
+        Mockito.when(managerMock.insert(any(DocumentEntity.class))).thenReturn(getBookEntity());
+
+        System.setProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            DocumentQuery query = select().from("Book").build();
+            subject.select(query);
+            subject.insert(new Book("0321356683", "Effective Java", 2));
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+
+            subject.delete(Book.class, "0321356683");
+            subject.select(query);
+            verify(managerMock, times(3)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheQueryResultReadWhileTheCollectionIsWritten() {
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenAnswer(i -> {
+            subject.delete(Book.class, "0321356683");
+            return singletonList(getBookEntity());
+        });
+
+        System.setProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            DocumentQuery query = select().from("Book").build();
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldNotCacheEntityWithoutCacheQueries() {
+        System.setProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE, "10");
+        subject = createTemplate();
+        try {
+            DocumentQuery query = select().from("Person").build();
+            subject.select(query);
+            subject.select(query);
+            verify(managerMock, times(2)).select(any(DocumentQuery.class));
+        } finally {
+            System.clearProperty(AbstractDocumentTemplate.QUERY_CACHE_SIZE);
+        }
+    }
+
+    private DocumentEntity getBookEntity() {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.addAll(Arrays.asList(Document.of("_id", "0321356683"), Document.of("title", "Effective Java"),
+                Document.of("edition", 2), Document.of("publisher", "Addison-Wesley")));
+        return entity;
+    }
 
     @Test
     public void shouldReturnSingleResult() {
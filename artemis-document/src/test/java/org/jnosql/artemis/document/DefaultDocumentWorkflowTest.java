@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.MockitoExtension;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -25,9 +26,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.Matchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,4 +100,105 @@ public class DefaultDocumentWorkflowTest {
         verify(converter).toDocument(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowWorkflowToEntities() {
+        Person ada = Person.builder().withId(1L).withAge().withName("Ada").build();
+        Person grace = Person.builder().withId(2L).withAge().withName("Grace").build();
+        Function<List<DocumentEntity>, Iterable<DocumentEntity>> action = t -> t;
+        List<Person> people = subject.flow(Arrays.asList(ada, grace), action);
+
+        assertEquals(2, people.size());
+        verify(columnEventPersistManager, times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostDocument(any(DocumentEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(Person.class));
+        verify(converter, times(2)).toDocument(any(Object.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenActionReturnsFewerDocuments() {
+        Function<List<DocumentEntity>, Iterable<DocumentEntity>> action = t -> Collections.emptyList();
+        Assertions.assertThrows(ArtemisException.class, () ->
+                subject.flow(Collections.singletonList(Person.builder().withId(1L).build()), action));
+    }
+
+    @Test
+    public void shouldFlowEachEntityWhenItIsTheDefaultMethod() {
+        DocumentWorkflow workflow = new DocumentWorkflow() {
+            @Override
+            public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
+                action.apply(DocumentEntity.of(entity.toString()));
+                return entity;
+            }
+        };
+        List<Integer> sizes = new ArrayList<>();
+        Function<List<DocumentEntity>, Iterable<DocumentEntity>> action = entities -> {
+            sizes.add(entities.size());
+            return entities;
+        };
+
+        assertEquals(Arrays.asList("Ada", "Poliana"), workflow.flow(Arrays.asList("Ada", "Poliana"), action));
+        assertEquals(Arrays.asList(1, 1), sizes);
+    }
+
+    @Test
+    public void shouldFireEventsInTheCallerThreadWhenConvertsInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DefaultDocumentWorkflow parallel = new DefaultDocumentWorkflow(columnEventPersistManager, converter) {
+                @Override
+                protected Optional<ForkJoinPool> getConversionPool() {
+                    return Optional.of(pool);
+                }
+            };
+            Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+            Mockito.doAnswer(i -> threads.add(Thread.currentThread()))
+                    .when(columnEventPersistManager).firePreEntity(any(Person.class));
+            Mockito.doAnswer(i -> threads.add(Thread.currentThread()))
+                    .when(columnEventPersistManager).firePreDocument(any(DocumentEntity.class));
+            List<Person> people = LongStream.range(0, 100)
+                    .mapToObj(id -> Person.builder().withId(id).withName("Ada").build())
+                    .collect(Collectors.toList());
+
+            Function<List<DocumentEntity>, Iterable<DocumentEntity>> action = entities -> entities;
+            parallel.flow(people, action);
+            assertEquals(Collections.singleton(Thread.currentThread()), threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldKeepTheOrderWhenConvertsInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DefaultDocumentWorkflow parallel = new DefaultDocumentWorkflow(columnEventPersistManager, converter) {
+                @Override
+                protected Optional<ForkJoinPool> getConversionPool() {
+                    return Optional.of(pool);
+                }
+            };
+            when(converter.toDocument(any(Object.class)))
+                    .thenAnswer(i -> DocumentEntity.of(Long.toString(((Person) i.getArgument(0)).getId())));
+            when(converter.toEntity(Mockito.any(Person.class), any(DocumentEntity.class)))
+                    .thenAnswer(i -> i.getArgument(0));
+            List<Person> people = LongStream.range(0, 1000)
+                    .mapToObj(id -> Person.builder().withId(id).withName("Ada").build())
+                    .collect(Collectors.toList());
+
+            List<String> names = new ArrayList<>();
+            Function<List<DocumentEntity>, Iterable<DocumentEntity>> action = entities -> {
+                entities.forEach(e -> names.add(e.getName()));
+                return entities;
+            };
+            List<Person> result = parallel.flow(people, action);
+
+            assertEquals(people, result);
+            assertEquals(people.stream().map(p -> Long.toString(p.getId())).collect(Collectors.toList()), names);
+            verify(columnEventPersistManager, times(1000)).firePreEntity(any(Person.class));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
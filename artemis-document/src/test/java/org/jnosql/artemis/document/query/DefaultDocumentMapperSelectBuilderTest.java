@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.ArtemisException;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.document.DocumentQueryMapperBuilder;
 import org.jnosql.artemis.model.Address;
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -47,6 +49,24 @@ public class DefaultDocumentMapperSelectBuilderTest {
         assertEquals(queryExpected, query);
     }
 
+    @Test
+    public void shouldSelectFields() {
+        DocumentQuery query = mapperBuilder.selectFrom(Worker.class, "name", "salary").orderBy("salary").asc().build();
+        DocumentQuery queryExpected = select("name", "money").from("Worker").orderBy("money").asc().build();
+        assertEquals(queryExpected, query);
+        assertEquals(Arrays.asList("name", "money"), query.getDocuments());
+    }
+
+    @Test
+    public void shouldReturnErrorSelectWhenFieldsIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> mapperBuilder.selectFrom(Worker.class, (String[]) null));
+    }
+
+    @Test
+    public void shouldReturnErrorSelectWhenFieldIsNotMapped() {
+        Assertions.assertThrows(ArtemisException.class, () -> mapperBuilder.selectFrom(Worker.class, "name", "nickname"));
+    }
+
     @Test
     public void shouldSelectOrderAsc() {
         DocumentQuery query = mapperBuilder.selectFrom(Worker.class).orderBy("salary").asc().build();
@@ -180,5 +180,16 @@ public class DocumentQueryDeleteParserTest {
                 classRepresentation, converters));
     }
 
+    @Test
+    public void shouldReuseTheMethodWithNewArguments() {
+        parser.parse("deleteByNameAndAge", new Object[]{"name", 10}, classRepresentation, converters);
+        DocumentDeleteQuery query = parser.parse("deleteByNameAndAge", new Object[]{"otavio", 20},
+                classRepresentation, converters);
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Document.of("name", "otavio"), conditions.get(0).getDocument());
+        assertEquals(Document.of("age", 20), conditions.get(1).getDocument());
+    }
 
-}
\ No newline at end of file
+}
@@ -14,11 +14,15 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.MoneyConverter;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.Condition;
@@ -30,8 +34,10 @@ import org.jnosql.diana.api.document.DocumentQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -288,4 +294,60 @@ public class DocumentQueryParserTest {
         assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
         assertEquals(Document.of("_id", 10L), query.getCondition().get().getDocument());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReuseTheMethodWithNewArguments() {
+        parser.parse("findByNameAndAge", new Object[]{"name", 10}, classRepresentation, converters);
+        DocumentQuery query = parser.parse("findByNameAndAge", new Object[]{"otavio", 20},
+                classRepresentation, converters);
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Document.of("name", "otavio"), conditions.get(0).getDocument());
+        assertEquals(Document.of("age", 20), conditions.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldNotKeepTheSortArgumentsOfThePreviousCall() {
+        Sort sort = Sort.of("age", Sort.SortType.ASC);
+        parser.parse("findByNameOrderByName", new Object[]{"name", sort}, classRepresentation, converters);
+        DocumentQuery query = parser.parse("findByNameOrderByName", new Object[]{"name"},
+                classRepresentation, converters);
+        assertEquals(1, query.getSorts().size());
+        assertEquals(Sort.of("name", Sort.SortType.ASC), query.getSorts().get(0));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenIsMissedArgumentOnTheSecondCall() {
+        parser.parse("findByNameAndAgeBetween", new Object[]{"name", 10, 11}, classRepresentation, converters);
+        assertThrows(DynamicQueryException.class, () -> parser.parse("findByNameAndAgeBetween",
+                new Object[]{"name", 10}, classRepresentation, converters));
+    }
+
+    @Test
+    public void shouldCreateConditionFromToken() {
+        DocumentCondition condition = DocumentQueryParserUtil.toCondition("AgeBetween", 0, new Object[]{10, 11},
+                "findByAgeBetween", classRepresentation, converters);
+        assertEquals(Condition.BETWEEN, condition.getCondition());
+        assertEquals(Document.of("age", Arrays.asList(10, 11)), condition.getDocument());
+
+        assertThrows(DynamicQueryException.class, () -> DocumentQueryParserUtil.toCondition("AgeGreaterThan", 0,
+                new Object[]{}, "findByAgeGreaterThan", classRepresentation, converters));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldLookUpTheConverterAtEachCall() {
+        ClassRepresentation worker = classRepresentations.get(Worker.class);
+        AttributeConverter<Money, String> converter = Mockito.mock(AttributeConverter.class);
+        Mockito.when(converter.convertToDatabaseColumn(Mockito.any(Money.class))).thenReturn("mocked");
+        Converters mockConverters = Mockito.mock(Converters.class);
+        Mockito.when(mockConverters.get(MoneyConverter.class)).thenReturn(new MoneyConverter(), converter);
+        Money salary = new Money("USD", BigDecimal.TEN);
+
+        DocumentQuery query = parser.parse("findBySalary", new Object[]{salary}, worker, mockConverters);
+        assertEquals(Document.of("money", salary.toString()), query.getCondition().get().getDocument());
+        query = parser.parse("findBySalary", new Object[]{salary}, worker, mockConverters);
+        assertEquals(Document.of("money", "mocked"), query.getCondition().get().getDocument());
+    }
+}
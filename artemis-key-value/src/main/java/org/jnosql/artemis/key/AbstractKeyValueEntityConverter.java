@@ -43,7 +43,7 @@ public abstract class AbstractKeyValueEntityConverter implements KeyValueEntityC
         ClassRepresentation representation = getClassRepresentations().get(clazz);
 
         FieldRepresentation key = getId(clazz, representation);
-        Object value = getReflections().getValue(entityInstance, key.getNativeField());
+        Object value = key.read(entityInstance);
         requireNonNull(value, String.format("The key field %s is required", key.getName()));
 
         return KeyValueEntity.of(value, entityInstance);
@@ -58,9 +58,9 @@ public abstract class AbstractKeyValueEntityConverter implements KeyValueEntityC
             return null;
         }
         FieldRepresentation key = getId(entityClass, getClassRepresentations().get(entityClass));
-        Object keyValue = getReflections().getValue(t, key.getNativeField());
+        Object keyValue = key.read(t);
         if (Objects.isNull(keyValue) || !keyValue.equals(entity.getKey())) {
-            getReflections().setValue(t, key.getNativeField(), entity.getKey());
+            key.write(t, entity.getKey());
         }
         return t;
     }
@@ -19,19 +19,21 @@ import org.jnosql.artemis.Repository;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 public abstract class AbstractKeyValueRepositoryProxy<T> implements InvocationHandler {
 
 
-    private static final List<Method> METHODS;
+    private static final Set<Method> METHODS;
 
     static{
-        METHODS = new ArrayList<>();
-        METHODS.addAll(Arrays.asList(Object.class.getMethods()));
-        METHODS.addAll(Arrays.asList(Repository.class.getMethods()));
+        Set<Method> methods = new HashSet<>();
+        methods.addAll(Arrays.asList(Object.class.getMethods()));
+        methods.addAll(Arrays.asList(Repository.class.getMethods()));
+        METHODS = Collections.unmodifiableSet(methods);
     }
 
 
@@ -40,7 +42,7 @@ public abstract class AbstractKeyValueRepositoryProxy<T> implements InvocationHa
     @Override
     public Object invoke(Object o, Method method, Object[] args) throws Throwable {
 
-        if(METHODS.stream().anyMatch(method::equals)) {
+        if(METHODS.contains(method)) {
             return method.invoke(getRepository(), args);
         } else {
             throw new DynamicQueryException("Key Value repository does not support query method");
@@ -18,24 +18,12 @@ package org.jnosql.artemis.key.query;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.key.KeyValueTemplate;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 
 class KeyValueRepositoryProxy<T> extends AbstractKeyValueRepositoryProxy {
 
     private final DefaultKeyValueRepository repository;
 
-    private static final List<Method> METHODS;
-
-    static {
-        METHODS = new ArrayList<>();
-        METHODS.addAll(Arrays.asList(Object.class.getMethods()));
-        METHODS.addAll(Arrays.asList(Repository.class.getMethods()));
-    }
-
     KeyValueRepositoryProxy(Class<?> repositoryType, KeyValueTemplate template) {
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
@@ -0,0 +1,401 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+import org.jnosql.artemis.MappedSuperclass;
+import org.jnosql.artemis.Subentity;
+import org.jnosql.artemis.reflection.ClassMetadata;
+import org.jnosql.artemis.reflection.FieldType;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The annotation processor that generates a {@link ClassMetadata} to each class annotated with either
+ * {@link Entity}, {@link Embeddable} or {@link Subentity}, and register them as {@link java.util.ServiceLoader}
+ * providers. So the mapping doesn't need to scan these classes at startup.
+ */
+@SupportedAnnotationTypes({"org.jnosql.artemis.Entity", "org.jnosql.artemis.Embeddable",
+        "org.jnosql.artemis.Subentity"})
+public class ClassMetadataProcessor extends AbstractProcessor {
+
+    static final String SUFFIX = "_ClassMetadata";
+
+    private static final String SERVICE = "META-INF/services/" + ClassMetadata.class.getName();
+
+    private final Set<String> generated = new TreeSet<>();
+
+    private Elements elements;
+
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (ElementKind.CLASS.equals(type.getKind())) {
+                    generate(type);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServices();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = getPackage(type);
+        String className = getMetadataName(type);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+        if (generated.contains(qualifiedName)) {
+            return;
+        }
+        if (!isAccessible(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "The class metadata is not generated to a private class, it will be read at runtime", type);
+            return;
+        }
+
+        List<FieldPath> paths = new ArrayList<>();
+        appendPaths(paths, type, "", "");
+        if (!paths.stream().allMatch(p -> isAccessible(p.owner))) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "The class metadata is not generated to a class with a private embedded class, "
+                            + "it will be read at runtime", type);
+            return;
+        }
+        List<ExecutableElement> constructors = getMappedConstructors(type);
+        if (constructors.size() > 1) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "The class has more than one constructor with all parameters annotated", type);
+            return;
+        }
+
+        List<String> fields = getFields(type).stream().map(this::toFieldMetadata).collect(toList());
+        List<String> fieldPaths = paths.stream().map(FieldPath::toString).collect(toList());
+        String constructor = constructors.isEmpty() ? "null" : toConstructorMetadata(type, constructors.get(0));
+        try {
+            JavaFileObject source = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = source.openWriter()) {
+                writer.write(new ClassMetadataSource(packageName, className, getClassLiteral(type),
+                        literal(getEntityName(type)), fields, getInstanceSupplier(type), constructor,
+                        fieldPaths).toString());
+            }
+            generated.add(qualifiedName);
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error to generate the class metadata: " + exception.getMessage(), type);
+        }
+    }
+
+    private void writeServices() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (Writer writer = resource.openWriter()) {
+                for (String className : generated) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error to register the class metadata: " + exception.getMessage());
+        }
+    }
+
+    private List<VariableElement> getFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        getSuperclass(type).filter(s -> s.getAnnotation(MappedSuperclass.class) != null)
+                .ifPresent(s -> fields.addAll(getFields(s)));
+
+        ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(f -> f.getAnnotation(Column.class) != null || f.getAnnotation(Id.class) != null)
+                .forEach(fields::add);
+        return fields;
+    }
+
+    /**
+     * Appends the path of each field in the same order that the fields are walked at runtime, each path of an
+     * embedded, subentity or embeddable collection field comes before the paths below it and its native name
+     * joins their native names
+     */
+    private void appendPaths(List<FieldPath> paths, TypeElement owner, String path, String nativeField) {
+        for (VariableElement field : getFields(owner)) {
+            String fieldPath = path + field.getSimpleName();
+            String name = getName(field);
+            FieldType fieldType = getFieldType(field.asType());
+            Optional<TypeElement> nested = getNestedClass(field, fieldType);
+            if (!nested.isPresent()) {
+                paths.add(new FieldPath(fieldPath, nativeField + name, owner));
+                continue;
+            }
+            FieldPath parent = new FieldPath(fieldPath, null, owner);
+            paths.add(parent);
+            int start = paths.size();
+            appendPaths(paths, nested.get(), fieldPath + '.',
+                    FieldType.SUBENTITY.equals(fieldType) ? nativeField : nativeField + name + '.');
+            parent.nativeField = paths.subList(start, paths.size()).stream().map(p -> p.nativeField)
+                    .collect(joining(","));
+        }
+    }
+
+    private Optional<TypeElement> getNestedClass(VariableElement field, FieldType fieldType) {
+        switch (fieldType) {
+            case SUBENTITY:
+            case EMBEDDED:
+                return Optional.of((TypeElement) types.asElement(field.asType()));
+            case COLLECTION:
+                List<? extends TypeMirror> arguments = ((DeclaredType) field.asType()).getTypeArguments();
+                if (arguments.isEmpty() || !TypeKind.DECLARED.equals(arguments.get(0).getKind())) {
+                    return Optional.empty();
+                }
+                Element element = types.asElement(arguments.get(0));
+                return element.getAnnotation(Embeddable.class) == null ? Optional.empty()
+                        : Optional.of((TypeElement) element);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private List<ExecutableElement> getMappedConstructors(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> !c.getParameters().isEmpty())
+                .filter(c -> c.getParameters().stream()
+                        .allMatch(p -> p.getAnnotation(Column.class) != null || p.getAnnotation(Id.class) != null))
+                .collect(toList());
+    }
+
+    private String toConstructorMetadata(TypeElement type, ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        String names = parameters.stream().map(p -> literal(getName(p))).collect(joining(", "));
+        String classes = parameters.stream().map(p -> types.erasure(p.asType()).toString() + ".class")
+                .collect(joining(", "));
+        String factory = "null";
+        if (isInstantiable(type) && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            factory = IntStream.range(0, parameters.size())
+                    .mapToObj(i -> '(' + types.erasure(parameters.get(i).asType()).toString() + ") args[" + i + ']')
+                    .collect(joining(", ", "args -> new " + type.getQualifiedName() + '(', ")"));
+        }
+        return "ConstructorMetadata.of(Arrays.asList(" + names + "), Arrays.asList(" + classes + "), "
+                + factory + ')';
+    }
+
+    private String getName(VariableElement field) {
+        Id id = field.getAnnotation(Id.class);
+        String name = id == null ? field.getAnnotation(Column.class).value() : id.value();
+        return isBlank(name) ? field.getSimpleName().toString() : name;
+    }
+
+    private String toFieldMetadata(VariableElement field) {
+        Id id = field.getAnnotation(Id.class);
+        FieldType fieldType = getFieldType(field.asType());
+
+        StringBuilder builder = new StringBuilder("FieldMetadata.builder()");
+        builder.append(".withDeclaringClass(").append(getClassLiteral((TypeElement) field.getEnclosingElement()))
+                .append(")");
+        builder.append(".withFieldName(").append(literal(field.getSimpleName().toString())).append(")");
+        builder.append(".withName(").append(literal(getName(field))).append(")");
+        builder.append(".withType(FieldType.").append(fieldType.name()).append(")");
+        builder.append(".withId(").append(id != null).append(")");
+        getConverter(field).ifPresent(c -> builder.append(".withConverter(").append(c).append(".class)"));
+        if (FieldType.EMBEDDED.equals(fieldType)) {
+            TypeElement embedded = (TypeElement) types.asElement(field.asType());
+            builder.append(".withEntityName(").append(literal(getEntityName(embedded))).append(")");
+        }
+        builder.append(".build()");
+        return builder.toString();
+    }
+
+    private FieldType getFieldType(TypeMirror type) {
+        if (isAssignable(type, "java.util.Collection")) {
+            return FieldType.COLLECTION;
+        }
+        if (isAssignable(type, "java.util.Map")) {
+            return FieldType.MAP;
+        }
+        Element element = types.asElement(type);
+        if (element == null) {
+            return FieldType.DEFAULT;
+        }
+        if (element.getAnnotation(Embeddable.class) != null || element.getAnnotation(Entity.class) != null) {
+            return FieldType.EMBEDDED;
+        }
+        if (element.getAnnotation(Subentity.class) != null) {
+            return FieldType.SUBENTITY;
+        }
+        return FieldType.DEFAULT;
+    }
+
+    private boolean isAssignable(TypeMirror type, String className) {
+        TypeElement element = elements.getTypeElement(className);
+        return TypeKind.DECLARED.equals(type.getKind())
+                && types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    private Optional<String> getConverter(VariableElement field) {
+        Convert convert = field.getAnnotation(Convert.class);
+        if (convert == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(convert.value().getCanonicalName());
+        } catch (MirroredTypeException exception) {
+            return Optional.of(types.erasure(exception.getTypeMirror()).toString());
+        }
+    }
+
+    private Optional<TypeElement> getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (TypeKind.DECLARED.equals(superclass.getKind())) {
+            return Optional.of((TypeElement) ((DeclaredType) superclass).asElement());
+        }
+        return Optional.empty();
+    }
+
+    private String getEntityName(TypeElement type) {
+        Entity entity = type.getAnnotation(Entity.class);
+        if (entity == null || isBlank(entity.value())) {
+            return type.getSimpleName().toString();
+        }
+        return entity.value();
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (ElementKind.CLASS.equals(element.getKind())) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isInstantiable(TypeElement type) {
+        boolean inner = ElementKind.CLASS.equals(type.getEnclosingElement().getKind())
+                && !type.getModifiers().contains(Modifier.STATIC);
+        return !inner && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private String getInstanceSupplier(TypeElement type) {
+        if (!isInstantiable(type)) {
+            return "null";
+        }
+        boolean visible = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        return visible ? type.getQualifiedName().toString() + "::new" : "null";
+    }
+
+    private String getClassLiteral(TypeElement type) {
+        return type.getQualifiedName().toString() + ".class";
+    }
+
+    private String getPackage(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private String getMetadataName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element element = type.getEnclosingElement();
+        while (!ElementKind.PACKAGE.equals(element.getKind())) {
+            name.insert(0, '_').insert(0, element.getSimpleName());
+            element = element.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private final class FieldPath {
+
+        private final String path;
+
+        private String nativeField;
+
+        private final TypeElement owner;
+
+        private FieldPath(String path, String nativeField, TypeElement owner) {
+            this.path = path;
+            this.nativeField = nativeField;
+            this.owner = owner;
+        }
+
+        @Override
+        public String toString() {
+            return "FieldPathMetadata.of(" + literal(path) + ", " + literal(nativeField) + ", "
+                    + getClassLiteral(owner) + ')';
+        }
+    }
+}
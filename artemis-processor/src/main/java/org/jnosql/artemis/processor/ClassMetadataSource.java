@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The source code of a generated {@link org.jnosql.artemis.reflection.ClassMetadata}
+ */
+final class ClassMetadataSource {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final String packageName;
+
+    private final String className;
+
+    private final String classLiteral;
+
+    private final String entityName;
+
+    private final List<String> fields;
+
+    private final String instanceSupplier;
+
+    private final String constructor;
+
+    private final List<String> fieldPaths;
+
+    ClassMetadataSource(String packageName, String className, String classLiteral, String entityName,
+                        List<String> fields, String instanceSupplier, String constructor, List<String> fieldPaths) {
+        this.packageName = packageName;
+        this.className = className;
+        this.classLiteral = classLiteral;
+        this.entityName = entityName;
+        this.fields = fields;
+        this.instanceSupplier = instanceSupplier;
+        this.constructor = constructor;
+        this.fieldPaths = fieldPaths;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(';').append(NEW_LINE).append(NEW_LINE);
+        }
+        source.append("import org.jnosql.artemis.reflection.ClassMetadata;").append(NEW_LINE);
+        source.append("import org.jnosql.artemis.reflection.ConstructorMetadata;").append(NEW_LINE);
+        source.append("import org.jnosql.artemis.reflection.FieldMetadata;").append(NEW_LINE);
+        source.append("import org.jnosql.artemis.reflection.FieldPathMetadata;").append(NEW_LINE);
+        source.append("import org.jnosql.artemis.reflection.FieldType;").append(NEW_LINE).append(NEW_LINE);
+        source.append("import java.util.Arrays;").append(NEW_LINE);
+        source.append("import java.util.Collections;").append(NEW_LINE);
+        source.append("import java.util.List;").append(NEW_LINE);
+        source.append("import java.util.function.Supplier;").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("/**").append(NEW_LINE)
+                .append(" * Generated by ").append(ClassMetadataProcessor.class.getName()).append(NEW_LINE)
+                .append(" */").append(NEW_LINE);
+        source.append("public final class ").append(className).append(" implements ClassMetadata {")
+                .append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    private static final List<FieldMetadata> FIELDS = Collections.unmodifiableList(Arrays.asList(")
+                .append(NEW_LINE);
+        source.append(fields.stream().map(f -> "            " + f).collect(joining("," + NEW_LINE)));
+        source.append("));").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    private static final List<FieldPathMetadata> FIELD_PATHS = ")
+                .append("Collections.unmodifiableList(Arrays.asList(").append(NEW_LINE);
+        source.append(fieldPaths.stream().map(f -> "            " + f).collect(joining("," + NEW_LINE)));
+        source.append("));").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @SuppressWarnings(\"unchecked\")").append(NEW_LINE)
+                .append("    private static final ConstructorMetadata CONSTRUCTOR = ").append(constructor).append(';')
+                .append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public Class<?> getClassInstance() {").append(NEW_LINE)
+                .append("        return ").append(classLiteral).append(';').append(NEW_LINE)
+                .append("    }").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public String getName() {").append(NEW_LINE)
+                .append("        return ").append(entityName).append(';').append(NEW_LINE)
+                .append("    }").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public List<FieldMetadata> getFields() {").append(NEW_LINE)
+                .append("        return FIELDS;").append(NEW_LINE)
+                .append("    }").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public Supplier<?> getInstanceSupplier() {").append(NEW_LINE)
+                .append("        return ").append(instanceSupplier).append(';').append(NEW_LINE)
+                .append("    }").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public ConstructorMetadata getConstructor() {").append(NEW_LINE)
+                .append("        return CONSTRUCTOR;").append(NEW_LINE)
+                .append("    }").append(NEW_LINE).append(NEW_LINE);
+
+        source.append("    @Override").append(NEW_LINE)
+                .append("    public List<FieldPathMetadata> getFieldPaths() {").append(NEW_LINE)
+                .append("        return FIELD_PATHS;").append(NEW_LINE)
+                .append("    }").append(NEW_LINE);
+        source.append('}').append(NEW_LINE);
+        return source.toString();
+    }
+}
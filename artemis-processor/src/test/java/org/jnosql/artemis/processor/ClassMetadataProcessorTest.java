@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.processor.model.Address;
+import org.jnosql.artemis.processor.model.Author;
+import org.jnosql.artemis.processor.model.Book;
+import org.jnosql.artemis.processor.model.Dog;
+import org.jnosql.artemis.processor.model.Job;
+import org.jnosql.artemis.processor.model.Person;
+import org.jnosql.artemis.processor.model.Worker;
+import org.jnosql.artemis.reflection.ClassMetadata;
+import org.jnosql.artemis.reflection.ConstructorMetadata;
+import org.jnosql.artemis.reflection.DefaultReflections;
+import org.jnosql.artemis.reflection.FieldMetadata;
+import org.jnosql.artemis.reflection.FieldPathMetadata;
+import org.jnosql.artemis.reflection.FieldType;
+import org.jnosql.artemis.reflection.Reflections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ClassMetadataProcessorTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private Map<Class<?>, ClassMetadata> metadata;
+
+    @BeforeEach
+    public void setUp() {
+        metadata = new HashMap<>();
+        ServiceLoader.load(ClassMetadata.class).forEach(m -> metadata.put(m.getClassInstance(), m));
+    }
+
+    @Test
+    public void shouldRegisterAllAnnotatedClasses() {
+        assertEquals(8, metadata.size());
+        assertNotNull(metadata.get(Worker.Pet.class));
+        assertEquals("org.jnosql.artemis.processor.model.Worker_Pet" + ClassMetadataProcessor.SUFFIX,
+                metadata.get(Worker.Pet.class).getClass().getName());
+    }
+
+    @Test
+    public void shouldReadEntityName() {
+        assertEquals("person", metadata.get(Person.class).getName());
+        assertEquals("Dog", metadata.get(Dog.class).getName());
+        assertEquals("Address", metadata.get(Address.class).getName());
+        assertEquals("pet", metadata.get(Worker.Pet.class).getName());
+    }
+
+    @Test
+    public void shouldReadFieldsAsReflection() {
+        for (Class<?> entityClass : metadata.keySet()) {
+            assertEquals(reflections.getEntityName(entityClass), metadata.get(entityClass).getName());
+
+            List<Field> fields = reflections.getFields(entityClass);
+            List<FieldMetadata> fieldsMetadata = metadata.get(entityClass).getFields();
+            assertEquals(fields.size(), fieldsMetadata.size());
+
+            for (int index = 0; index < fields.size(); index++) {
+                Field field = fields.get(index);
+                FieldMetadata fieldMetadata = fieldsMetadata.get(index);
+                boolean id = reflections.isIdField(field);
+                assertEquals(field.getDeclaringClass(), fieldMetadata.getDeclaringClass());
+                assertEquals(field.getName(), fieldMetadata.getFieldName());
+                assertEquals(id ? reflections.getIdName(field) : reflections.getColumnName(field),
+                        fieldMetadata.getName());
+                assertEquals(id, fieldMetadata.isId());
+                assertEquals(FieldType.of(field), fieldMetadata.getType());
+            }
+        }
+    }
+
+    @Test
+    public void shouldReadConverterAndEmbeddedName() throws NoSuchFieldException {
+        FieldMetadata salary = getField(Worker.class, "salary");
+        assertEquals(Worker.class.getDeclaredField("salary").getAnnotation(Convert.class).value(),
+                salary.getConverter());
+
+        FieldMetadata address = getField(Person.class, "address");
+        assertEquals(FieldType.EMBEDDED, address.getType());
+        assertEquals("Address", address.getEntityName());
+
+        FieldMetadata job = getField(Worker.class, "job");
+        assertEquals(FieldType.SUBENTITY, job.getType());
+        assertNull(job.getEntityName());
+        assertNotNull(metadata.get(Job.class));
+    }
+
+    @Test
+    public void shouldCreateInstancesFromConstructorReference() {
+        for (Class<?> entityClass : metadata.keySet()) {
+            Object instance = metadata.get(entityClass).getInstanceSupplier().get();
+            assertEquals(entityClass, instance.getClass());
+        }
+    }
+
+    @Test
+    public void shouldReadMappedSuperclassFields() {
+        FieldMetadata name = getField(Dog.class, "name");
+        assertEquals("name", name.getName());
+        assertEquals("org.jnosql.artemis.processor.model.Animal", name.getDeclaringClass().getName());
+    }
+
+    @Test
+    public void shouldReadMappedConstructor() {
+        ConstructorMetadata constructor = metadata.get(Book.class).getConstructor();
+        assertEquals(Arrays.asList("_id", "title", "edition"), constructor.getParameters());
+        assertEquals(Arrays.asList(String.class, String.class, int.class), constructor.getParameterTypes());
+
+        Book book = (Book) constructor.getFactory().apply(new Object[]{"0321356683", "Effective Java", 2});
+        assertEquals("0321356683", book.getIsbn());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(2, book.getEdition());
+        assertNull(metadata.get(Person.class).getConstructor());
+    }
+
+    @Test
+    public void shouldReadFieldPaths() {
+        List<FieldPathMetadata> paths = metadata.get(Book.class).getFieldPaths();
+        assertEquals(Arrays.asList(FieldPathMetadata.of("isbn", "_id", Book.class),
+                FieldPathMetadata.of("title", "title", Book.class),
+                FieldPathMetadata.of("edition", "edition", Book.class),
+                FieldPathMetadata.of("authors", "authors.name,authors.description,authors.description", Book.class),
+                FieldPathMetadata.of("authors.name", "authors.name", Author.class),
+                FieldPathMetadata.of("authors.job", "authors.description", Author.class),
+                FieldPathMetadata.of("authors.job.description", "authors.description", Job.class)), paths);
+
+        assertEquals(FieldPathMetadata.of("address.street", "address.street", Address.class),
+                metadata.get(Person.class).getFieldPaths().get(5));
+    }
+
+    private FieldMetadata getField(Class<?> entityClass, String fieldName) {
+        return metadata.get(entityClass).getFields().stream()
+                .filter(f -> f.getFieldName().equals(fieldName))
+                .findFirst().orElseThrow(() -> new AssertionError("field not found " + fieldName));
+    }
+}
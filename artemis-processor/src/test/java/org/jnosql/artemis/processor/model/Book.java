@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor.model;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+
+import java.util.List;
+
+@Entity
+public class Book {
+
+    @Id
+    private String isbn;
+
+    @Column
+    private String title;
+
+    @Column
+    private int edition;
+
+    @Column
+    private List<Author> authors;
+
+    Book() {
+    }
+
+    Book(@Id String isbn, @Column String title, @Column int edition) {
+        this.isbn = isbn;
+        this.title = title;
+        this.edition = edition;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getEdition() {
+        return edition;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor.model;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+
+import java.util.List;
+import java.util.Map;
+
+@Entity("person")
+public class Person {
+
+    @Id("_id")
+    private long id;
+
+    @Column
+    private String name;
+
+    @Column("mobile")
+    private List<String> phones;
+
+    @Column
+    private Map<String, String> properties;
+
+    @Column
+    private Address address;
+
+    private String ignore;
+}
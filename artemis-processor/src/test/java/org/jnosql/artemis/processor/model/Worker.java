@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor.model;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+
+@Entity
+public class Worker {
+
+    @Id
+    private String id;
+
+    @Column
+    private Job job;
+
+    @Column
+    @Convert(SalaryConverter.class)
+    private Long salary;
+
+    @Entity("pet")
+    public static class Pet {
+
+        @Id
+        private String id;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.processor.model.Book;
+import org.jnosql.artemis.processor.model.Dog;
+import org.jnosql.artemis.processor.model.Person;
+import org.jnosql.artemis.processor.model.Worker;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassConverterMetadataTest {
+
+    private final ClassConverter classConverter = new ClassConverter(new DefaultReflections());
+
+    @Test
+    public void shouldCreateFromMetadata() {
+        ClassRepresentation representation = classConverter.create(Person.class);
+
+        assertEquals("person", representation.getName());
+        assertThat(representation.getFieldsName(), contains("_id", "name", "mobile", "properties", "address"));
+        assertEquals("id", representation.getId().get().getFieldName());
+        assertEquals("address.street", representation.getColumnField("address.street"));
+        assertEquals("mobile", representation.getColumnField("phones"));
+        assertTrue(GenericFieldRepresentation.class.isInstance(representation.getFieldsGroupByName().get("mobile")));
+        assertEquals("Address", EmbeddedFieldRepresentation.class
+                .cast(representation.getFieldsGroupByName().get("address")).getEntityName());
+    }
+
+    @Test
+    public void shouldCreateSubentityAndMappedSuperclassFromMetadata() {
+        ClassRepresentation worker = classConverter.create(Worker.class);
+        assertEquals(FieldType.SUBENTITY, worker.getFieldsGroupByName().get("job").getType());
+        assertEquals("description", worker.getColumnField("job.description"));
+        assertTrue(worker.getFieldsGroupByName().get("salary").getConverter().isPresent());
+
+        ClassRepresentation dog = classConverter.create(Dog.class);
+        assertThat(dog.getFieldsName(), contains("name", "_id", "age"));
+    }
+
+    @Test
+    public void shouldCreateFieldPathsAndConstructorFromMetadata() {
+        ClassRepresentation representation = classConverter.create(Book.class);
+
+        assertEquals("authors.name,authors.description,authors.description", representation.getColumnField("authors"));
+        assertEquals("authors.description", representation.getColumnField("authors.job.description"));
+        FieldPath path = representation.getFieldPath("authors.job.description").get();
+        assertThat(path.getFields().stream().map(FieldRepresentation::getFieldName).collect(toList()),
+                contains("authors", "job", "description"));
+
+        ConstructorRepresentation constructor = representation.getParameterizedConstructor().get();
+        assertThat(constructor.getParameters().stream().map(FieldRepresentation::getName).collect(toList()),
+                contains("_id", "title", "edition"));
+        Book book = constructor.newInstance(new Object[]{"0321356683", "Effective Java", null, null});
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        assertTrue(representation.getConstructor().getParameterCount() == 0);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.processor.model.Address;
+import org.jnosql.artemis.processor.model.Person;
+import org.jnosql.artemis.processor.model.Worker;
+import org.junit.jupiter.api.Test;
+
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ClassRepresentationsExtensionMetadataTest {
+
+    @Test
+    public void shouldRegisterGeneratedClassesWithoutDiscovery() {
+        ClassRepresentationsExtension extension = new ClassRepresentationsExtension();
+
+        extension.afterBeanDiscovery(mock(AfterBeanDiscovery.class));
+
+        assertTrue(extension.getClasses().containsKey(Person.class));
+        assertTrue(extension.getClasses().containsKey(Worker.class));
+        assertTrue(extension.getClasses().containsKey(Address.class));
+        assertEquals(Person.class, extension.getRepresentations().get("person").getClassInstance());
+    }
+}